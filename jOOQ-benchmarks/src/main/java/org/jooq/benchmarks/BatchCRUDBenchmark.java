@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the batch CRUD API, including {@link DSLContext#batchStore(org.jooq.UpdatableRecord...)},
+ * {@link DSLContext#batchInsert(org.jooq.TableRecord...)} and
+ * {@link DSLContext#batchUpdate(org.jooq.UpdatableRecord...)}, against a
+ * {@link org.jooq.tools.jdbc.MockConnection}.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BatchCRUDBenchmark {
+
+    @Param({ "10", "1000" })
+    public int         rows;
+
+    DSLContext         ctx;
+    Result<BookRecord> books;
+
+    @Setup
+    public void setup() {
+        ctx = BenchmarkData.mock(SQLDialect.H2, BenchmarkData.books(0));
+        books = BenchmarkData.books(rows);
+        ctx.attach(books);
+    }
+
+    /**
+     * Records are reset by the batch operations, so they have to be marked
+     * as changed again before each execution.
+     */
+    private final Result<BookRecord> changed() {
+        for (BookRecord book : books)
+            book.changed(true);
+
+        return books;
+    }
+
+    @Benchmark
+    public int[] batchStore() {
+        return ctx.batchStore(changed()).execute();
+    }
+
+    @Benchmark
+    public int[] batchInsert() {
+        return ctx.batchInsert(changed()).execute();
+    }
+
+    @Benchmark
+    public int[] batchUpdate() {
+        return ctx.batchUpdate(changed()).execute();
+    }
+
+    @Benchmark
+    public int[] batchDelete() {
+        return ctx.batchDelete(books).execute();
+    }
+}
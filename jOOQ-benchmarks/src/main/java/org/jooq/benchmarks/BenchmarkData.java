@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.Book.BOOK;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * Shared fixtures for the benchmarks in this module.
+ * <p>
+ * All benchmarks run offline against the {@link MockConnection}, so they
+ * measure jOOQ's own overhead, not that of any JDBC driver or database.
+ *
+ * @author Lukas Eder
+ */
+final class BenchmarkData {
+
+    /**
+     * Create a {@link Result} containing <code>rows</code> {@link Book}
+     * records.
+     */
+    static Result<BookRecord> books(int rows) {
+        DSLContext ctx = DSL.using(SQLDialect.DEFAULT);
+        Result<BookRecord> result = ctx.newResult(BOOK);
+        LocalDateTime now = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+        for (int i = 0; i < rows; i++)
+            result.add(new BookRecord(
+                i,
+                i % 17,
+                "Title " + i,
+                i % 3 == 0 ? null : 1900 + i % 100,
+                BigDecimal.valueOf(i * 100 + 99, 2),
+                now.plusMinutes(i)
+            ));
+
+        return result;
+    }
+
+    /**
+     * A {@link MockDataProvider} that produces <code>result</code> for all
+     * queries that return results, and an update count of <code>1</code>
+     * for each statement or batch bind value set otherwise.
+     */
+    static MockDataProvider provider(Result<?> result) {
+        return c -> {
+            if (c.batchSingle()) {
+                MockResult[] r = new MockResult[c.batchBindings().length];
+
+                for (int i = 0; i < r.length; i++)
+                    r[i] = new MockResult(1);
+
+                return r;
+            }
+            else if (c.batchMultiple()) {
+                MockResult[] r = new MockResult[c.batchSQL().length];
+
+                for (int i = 0; i < r.length; i++)
+                    r[i] = new MockResult(1);
+
+                return r;
+            }
+            else if (c.sql().regionMatches(true, 0, "select", 0, 6))
+                return new MockResult[] { new MockResult(result.size(), result) };
+            else
+                return new MockResult[] { new MockResult(1) };
+        };
+    }
+
+    /**
+     * Create a {@link DSLContext} that is connected to a
+     * {@link MockConnection} using {@link #provider(Result)}.
+     */
+    static DSLContext mock(SQLDialect dialect, Result<?> result) {
+        return DSL.using(new MockConnection(provider(result)), dialect);
+    }
+
+    private BenchmarkData() {}
+}
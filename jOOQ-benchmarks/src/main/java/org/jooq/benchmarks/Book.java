@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.jooq.Name;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+/**
+ * A hand-written equivalent of a generated <code>BOOK</code> table, used by
+ * the benchmarks in this module.
+ *
+ * @author Lukas Eder
+ */
+public class Book extends TableImpl<BookRecord> {
+
+    public static final Book                                BOOK         = new Book();
+
+    public final TableField<BookRecord, Integer>       ID           = createField(DSL.name("ID"), SQLDataType.INTEGER.nullable(false), this, "");
+    public final TableField<BookRecord, Integer>       AUTHOR_ID    = createField(DSL.name("AUTHOR_ID"), SQLDataType.INTEGER.nullable(false), this, "");
+    public final TableField<BookRecord, String>        TITLE        = createField(DSL.name("TITLE"), SQLDataType.VARCHAR(400).nullable(false), this, "");
+    public final TableField<BookRecord, Integer>       PUBLISHED_IN = createField(DSL.name("PUBLISHED_IN"), SQLDataType.INTEGER, this, "");
+    public final TableField<BookRecord, BigDecimal>    PRICE        = createField(DSL.name("PRICE"), SQLDataType.NUMERIC(10, 2), this, "");
+    public final TableField<BookRecord, LocalDateTime> CREATED_AT   = createField(DSL.name("CREATED_AT"), SQLDataType.LOCALDATETIME(6), this, "");
+
+    private Book(Name alias, Table<BookRecord> aliased) {
+        super(alias, null, aliased);
+    }
+
+    public Book() {
+        this(DSL.name("BOOK"), null);
+    }
+
+    @Override
+    public Class<BookRecord> getRecordType() {
+        return BookRecord.class;
+    }
+
+    @Override
+    public UniqueKey<BookRecord> getPrimaryKey() {
+        return Internal.createUniqueKey(BOOK, DSL.name("PK_BOOK"), new TableField[] { BOOK.ID }, true);
+    }
+
+    @Override
+    public Book as(String alias) {
+        return new Book(DSL.name(alias), this);
+    }
+
+    @Override
+    public Book as(Name alias) {
+        return new Book(alias, this);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+/**
+ * A hand-written equivalent of a generated record for the {@link Book} table.
+ *
+ * @author Lukas Eder
+ */
+public class BookRecord extends UpdatableRecordImpl<BookRecord> {
+
+    public BookRecord() {
+        super(Book.BOOK);
+    }
+
+    public BookRecord(Integer id, Integer authorId, String title, Integer publishedIn, BigDecimal price, LocalDateTime createdAt) {
+        super(Book.BOOK);
+
+        setId(id);
+        setAuthorId(authorId);
+        setTitle(title);
+        setPublishedIn(publishedIn);
+        setPrice(price);
+        setCreatedAt(createdAt);
+        resetTouchedOnNotNull();
+    }
+
+    public BookRecord setId(Integer value) {
+        set(0, value);
+        return this;
+    }
+
+    public Integer getId() {
+        return (Integer) get(0);
+    }
+
+    public BookRecord setAuthorId(Integer value) {
+        set(1, value);
+        return this;
+    }
+
+    public Integer getAuthorId() {
+        return (Integer) get(1);
+    }
+
+    public BookRecord setTitle(String value) {
+        set(2, value);
+        return this;
+    }
+
+    public String getTitle() {
+        return (String) get(2);
+    }
+
+    public BookRecord setPublishedIn(Integer value) {
+        set(3, value);
+        return this;
+    }
+
+    public Integer getPublishedIn() {
+        return (Integer) get(3);
+    }
+
+    public BookRecord setPrice(BigDecimal value) {
+        set(4, value);
+        return this;
+    }
+
+    public BigDecimal getPrice() {
+        return (BigDecimal) get(4);
+    }
+
+    public BookRecord setCreatedAt(LocalDateTime value) {
+        set(5, value);
+        return this;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return (LocalDateTime) get(5);
+    }
+
+    @Override
+    public Record1<Integer> key() {
+        return (Record1) super.key();
+    }
+}
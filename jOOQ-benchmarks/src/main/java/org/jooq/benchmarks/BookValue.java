@@ -35,27 +35,21 @@
  *
  *
  */
-package org.jooq.impl;
+package org.jooq.benchmarks;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
- * Simple non-thread safe LRUCache
+ * An immutable Java record to map {@link Book} records into.
  *
  * @author Lukas Eder
  */
-final class LRUCache<K, V> extends LinkedHashMap<K, V> {
-    private final int         size;
-
-    LRUCache(int size) {
-        super(size, 0.75f, true);
-
-        this.size = size;
-    }
-
-    @Override
-    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > size;
-    }
-}
+public record BookValue(
+    Integer id,
+    Integer authorId,
+    String title,
+    Integer publishedIn,
+    BigDecimal price,
+    LocalDateTime createdAt
+) {}
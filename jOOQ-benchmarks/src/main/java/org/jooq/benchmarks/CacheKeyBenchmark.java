@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.SQLDialect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark comparing the hand-written cache key class used by
+ * <code>org.jooq.impl.Cache</code> with a Java record alternative, when
+ * looking up values in a {@link ConcurrentHashMap}.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CacheKeyBenchmark {
+
+    ConcurrentHashMap<Object, Object> classKeys;
+    ConcurrentHashMap<Object, Object> recordKeys;
+    Class<?>                          type;
+    Object                            dialect;
+
+    @Setup
+    public void setup() {
+        classKeys = new ConcurrentHashMap<>();
+        recordKeys = new ConcurrentHashMap<>();
+
+        Class<?>[] types = { BookPojo.class, BookValue.class, BookRecord.class, String.class, Integer.class };
+        for (Class<?> t : types) {
+            for (SQLDialect d : SQLDialect.values()) {
+                classKeys.put(new ClassKey2(t, d), t);
+                recordKeys.put(new RecordKey2(t, d), t);
+            }
+        }
+
+        type = BookValue.class;
+        dialect = SQLDialect.POSTGRES;
+    }
+
+    @Benchmark
+    public Object classKey() {
+        return classKeys.get(new ClassKey2(type, dialect));
+    }
+
+    @Benchmark
+    public Object recordKey() {
+        return recordKeys.get(new RecordKey2(type, dialect));
+    }
+
+    /**
+     * A copy of <code>org.jooq.impl.Cache.Key2</code>.
+     */
+    static final class ClassKey2 {
+        private final Object key1;
+        private final Object key2;
+
+        ClassKey2(Object key1, Object key2) {
+            this.key1 = key1;
+            this.key2 = key2;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((key1 == null) ? 0 : key1.hashCode());
+            result = prime * result + ((key2 == null) ? 0 : key2.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            ClassKey2 other = (ClassKey2) obj;
+            if (key1 == null) {
+                if (other.key1 != null)
+                    return false;
+            }
+            else if (!key1.equals(other.key1))
+                return false;
+            if (key2 == null) {
+                if (other.key2 != null)
+                    return false;
+            }
+            else if (!key2.equals(other.key2))
+                return false;
+            return true;
+        }
+    }
+
+    /**
+     * The Java record alternative to {@link ClassKey2}.
+     */
+    record RecordKey2(Object key1, Object key2) {}
+}
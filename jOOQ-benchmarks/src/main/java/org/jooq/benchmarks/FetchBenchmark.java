@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.Book.BOOK;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.tools.jdbc.MockConnection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the execution of queries and the materialisation of records
+ * in <code>CursorImpl</code>, against a {@link MockConnection}.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FetchBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    public int     rows;
+
+    @Param({ "false", "true" })
+    public boolean cacheRenderedQueries;
+
+    DSLContext     ctx;
+
+    @Setup
+    public void setup() {
+        ctx = BenchmarkData.mock(SQLDialect.H2, BenchmarkData.books(rows));
+        ctx.settings().withCacheRenderedQueries(cacheRenderedQueries);
+    }
+
+    @Benchmark
+    public Result<BookRecord> fetchTable() {
+        return ctx.selectFrom(BOOK).where(BOOK.ID.gt(0)).fetch();
+    }
+
+    @Benchmark
+    public Result<?> fetchProjection() {
+        return ctx.select(BOOK.ID, BOOK.TITLE, BOOK.PRICE, BOOK.CREATED_AT)
+                  .from(BOOK)
+                  .where(BOOK.ID.gt(0))
+                  .fetch();
+    }
+
+    @Benchmark
+    public void fetchLazy(Blackhole bh) {
+        try (Cursor<BookRecord> c = ctx.selectFrom(BOOK).where(BOOK.ID.gt(0)).fetchLazy()) {
+            for (BookRecord r : c)
+                bh.consume(r);
+        }
+    }
+
+    @Benchmark
+    public void fetchStream(Blackhole bh) {
+        ctx.selectFrom(BOOK)
+           .where(BOOK.ID.gt(0))
+           .fetchStream()
+           .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public Result<Record> fetchPlainSQL() {
+        return ctx.fetch("select * from book where id > ?", 0);
+    }
+}
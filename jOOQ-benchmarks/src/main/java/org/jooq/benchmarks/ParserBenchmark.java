@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the throughput of {@link Parser}, and of parsing and
+ * translating SQL to another dialect.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    static final String SELECT = """
+        SELECT a.first_name, a.last_name, count(*) AS books
+        FROM author AS a
+        JOIN book AS b ON b.author_id = a.id
+        WHERE b.published_in BETWEEN ? AND ?
+        AND b.title LIKE '%SQL%'
+        GROUP BY a.id, a.first_name, a.last_name
+        HAVING count(*) > 1
+        ORDER BY a.last_name, a.first_name
+        FETCH FIRST 10 ROWS ONLY
+        """;
+
+    static final String INSERT = """
+        INSERT INTO book (id, author_id, title, published_in)
+        VALUES (1, 1, 'Title 1', 1990), (2, 1, 'Title 2', 1991), (3, 2, 'Title 3', 1992)
+        """;
+
+    static final String DDL = """
+        CREATE TABLE book (
+          id INT NOT NULL PRIMARY KEY,
+          author_id INT NOT NULL REFERENCES author (id),
+          title VARCHAR(400) NOT NULL,
+          published_in INT,
+          price DECIMAL(10, 2) DEFAULT 0 CHECK (price >= 0),
+          created_at TIMESTAMP(6)
+        );
+        CREATE INDEX i_book_author_id ON book (author_id);
+        """;
+
+    static final String WITH = """
+        WITH RECURSIVE t (n) AS (
+          SELECT 1
+          UNION ALL
+          SELECT n + 1 FROM t WHERE n < 10
+        )
+        SELECT n, sum(n) OVER (ORDER BY n ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW)
+        FROM t
+        WHERE n IN (SELECT id FROM book WHERE title IS NOT NULL)
+        """;
+
+    @Param({ "SELECT", "INSERT", "DDL", "WITH" })
+    public String sql;
+
+    String        text;
+    Parser        parser;
+    DSLContext    target;
+
+    @Setup
+    public void setup() {
+        text = switch (sql) {
+            case "SELECT" -> SELECT;
+            case "INSERT" -> INSERT;
+            case "DDL" -> DDL;
+            case "WITH" -> WITH;
+            default -> throw new IllegalArgumentException(sql);
+        };
+
+        parser = DSL.using(SQLDialect.DEFAULT).parser();
+        target = DSL.using(SQLDialect.POSTGRES);
+    }
+
+    @Benchmark
+    public Queries parse() {
+        return parser.parse(text);
+    }
+
+    @Benchmark
+    public String parseAndTranslate() {
+        StringBuilder sb = new StringBuilder();
+
+        for (Query query : parser.parse(text))
+            sb.append(target.render(query)).append(";\n");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.Book.BOOK;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import org.jooq.Result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for <code>DefaultRecordMapper</code> mapping records into
+ * mutable POJOs, immutable Java records and other {@link Record} types.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordMapperBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    public int                                                    rows;
+
+    Result<BookRecord>                                            books;
+    Result<Record3<Integer, String, BigDecimal>>                  projection;
+    RecordMapper<Record3<Integer, String, BigDecimal>, BookValue> mapping;
+
+    @Setup
+    public void setup() {
+        books = BenchmarkData.books(rows);
+        projection = books.into(BOOK.ID, BOOK.TITLE, BOOK.PRICE);
+        mapping = Records.mapping((id, title, price) -> new BookValue(id, null, title, null, price, null));
+    }
+
+    @Benchmark
+    public List<BookPojo> intoMutablePojo() {
+        return books.into(BookPojo.class);
+    }
+
+    @Benchmark
+    public List<BookValue> intoImmutableRecord() {
+        return books.into(BookValue.class);
+    }
+
+    @Benchmark
+    public Result<BookRecord> intoTableRecord() {
+        return projection.into(BOOK);
+    }
+
+    @Benchmark
+    public List<BookValue> intoExplicitMapping() {
+        return projection.map(mapping);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.Author.AUTHOR;
+import static org.jooq.benchmarks.Book.BOOK;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.val;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link DSLContext#render(org.jooq.QueryPart)} of typical
+ * <code>SELECT</code>, <code>INSERT</code> and <code>MERGE</code> statement
+ * shapes.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param({ "H2", "MYSQL", "POSTGRES" })
+    public SQLDialect dialect;
+
+    DSLContext        ctx;
+    Query             select;
+    Query             insert;
+    Query             merge;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(dialect);
+        select = select(ctx, 1);
+        insert = insert(ctx, 1);
+        merge = merge(ctx, 1);
+    }
+
+    static Query select(DSLContext ctx, int i) {
+        return ctx.select(AUTHOR.FIRST_NAME, AUTHOR.LAST_NAME, count())
+                  .from(AUTHOR)
+                  .join(BOOK).on(BOOK.AUTHOR_ID.eq(AUTHOR.ID))
+                  .where(BOOK.PUBLISHED_IN.between(val(1900 + i), val(2000 + i)))
+                  .and(BOOK.TITLE.like("%" + i + "%"))
+                  .and(BOOK.PRICE.gt(inline(BigDecimal.TEN)))
+                  .groupBy(AUTHOR.ID, AUTHOR.FIRST_NAME, AUTHOR.LAST_NAME)
+                  .having(count().gt(i))
+                  .orderBy(AUTHOR.LAST_NAME.asc(), AUTHOR.FIRST_NAME.asc().nullsLast())
+                  .limit(10)
+                  .offset(i);
+    }
+
+    static Query insert(DSLContext ctx, int i) {
+        return ctx.insertInto(BOOK, BOOK.ID, BOOK.AUTHOR_ID, BOOK.TITLE, BOOK.PUBLISHED_IN)
+                  .values(i, 1, "Title " + i, 1990)
+                  .values(i + 1, 1, "Title " + (i + 1), 1991)
+                  .values(i + 2, 2, "Title " + (i + 2), 1992)
+                  .onDuplicateKeyUpdate()
+                  .set(BOOK.TITLE, DSL.excluded(BOOK.TITLE));
+    }
+
+    static Query merge(DSLContext ctx, int i) {
+        return ctx.mergeInto(BOOK)
+                  .using(ctx.select(val(i).as("ID"), val("Title " + i).as("TITLE")))
+                  .on(BOOK.ID.eq(DSL.field(DSL.name("ID"), Integer.class)))
+                  .whenMatchedThenUpdate()
+                  .set(BOOK.TITLE, DSL.field(DSL.name("TITLE"), String.class))
+                  .whenNotMatchedThenInsert(BOOK.ID, BOOK.AUTHOR_ID, BOOK.TITLE)
+                  .values(val(i), val(1), val("Title " + i));
+    }
+
+    @Benchmark
+    public String renderSelect() {
+        return ctx.render(select);
+    }
+
+    @Benchmark
+    public String renderInsert() {
+        return ctx.render(insert);
+    }
+
+    @Benchmark
+    public String renderMerge() {
+        return ctx.render(merge);
+    }
+
+    @Benchmark
+    public String renderSelectInlined() {
+        return ctx.renderInlined(select);
+    }
+
+    @Benchmark
+    public String constructAndRenderSelect() {
+        return ctx.render(select(ctx, 1));
+    }
+}
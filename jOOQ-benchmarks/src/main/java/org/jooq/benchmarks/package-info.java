@@ -0,0 +1,14 @@
+/**
+ * JMH benchmarks for jOOQ's rendering, parsing, fetching and mapping hot
+ * paths.
+ * <p>
+ * All benchmarks run offline against the
+ * {@link org.jooq.tools.jdbc.MockConnection}. To run them, build the module
+ * and run the resulting executable jar, e.g.:
+ *
+ * <pre><code>
+ * mvn -pl jOOQ-benchmarks -am package -DskipTests
+ * java -jar jOOQ-benchmarks/target/benchmarks.jar [regex] [jmh options]
+ * </code></pre>
+ */
+package org.jooq.benchmarks;
@@ -214,6 +214,14 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateWhereMethodOverrides                          = true;
     boolean                            generateRenameMethodOverrides                         = true;
     boolean                            generateAsMethodOverrides                             = true;
+    int                                generateParallelism                                   = 1;
+    boolean                            generateIncremental                                   = false;
+
+    /**
+     * A representation of the code generation configuration, which is used
+     * by {@link #generateIncremental()} to detect configuration changes.
+     */
+    String                             configurationFingerprint;
 
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                                        = "UTF-8";
@@ -1781,6 +1789,26 @@ abstract class AbstractGenerator implements Generator {
         this.generateAsMethodOverrides = asMethodOverrides;
     }
 
+    @Override
+    public int generateParallelism() {
+        return generateParallelism;
+    }
+
+    @Override
+    public void setGenerateParallelism(int parallelism) {
+        this.generateParallelism = parallelism;
+    }
+
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean incremental) {
+        this.generateIncremental = incremental;
+    }
+
     // ----
 
     @Override
@@ -0,0 +1,636 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jooq.impl.QOM.GenerationOption.STORED;
+import static org.jooq.impl.QOM.GenerationOption.VIRTUAL;
+import static org.jooq.tools.StringUtils.isBlank;
+import static org.jooq.util.xml.XmlUtils.foreignKeyRule;
+import static org.jooq.util.xml.jaxb.TableConstraintType.CHECK;
+import static org.jooq.util.xml.jaxb.TableConstraintType.FOREIGN_KEY;
+import static org.jooq.util.xml.jaxb.TableConstraintType.PRIMARY_KEY;
+import static org.jooq.util.xml.jaxb.TableConstraintType.UNIQUE;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.function.BiConsumer;
+
+import org.jooq.Name;
+import org.jooq.SQLDialect;
+import org.jooq.SortOrder;
+import org.jooq.meta.AttributeDefinition;
+import org.jooq.meta.CatalogDefinition;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Database;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.SequenceDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.UDTDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.tools.Convert;
+import org.jooq.tools.JooqLogger;
+import org.jooq.util.jaxb.tools.MiniJAXB;
+import org.jooq.util.xml.jaxb.Attribute;
+import org.jooq.util.xml.jaxb.Catalog;
+import org.jooq.util.xml.jaxb.CheckConstraint;
+import org.jooq.util.xml.jaxb.Column;
+import org.jooq.util.xml.jaxb.DirectSupertype;
+import org.jooq.util.xml.jaxb.Index;
+import org.jooq.util.xml.jaxb.IndexColumnUsage;
+import org.jooq.util.xml.jaxb.InformationSchema;
+import org.jooq.util.xml.jaxb.KeyColumnUsage;
+import org.jooq.util.xml.jaxb.Parameter;
+import org.jooq.util.xml.jaxb.ParameterMode;
+import org.jooq.util.xml.jaxb.ReferentialConstraint;
+import org.jooq.util.xml.jaxb.Routine;
+import org.jooq.util.xml.jaxb.RoutineType;
+import org.jooq.util.xml.jaxb.Schema;
+import org.jooq.util.xml.jaxb.Sequence;
+import org.jooq.util.xml.jaxb.Table;
+import org.jooq.util.xml.jaxb.TableConstraint;
+import org.jooq.util.xml.jaxb.TableType;
+import org.jooq.util.xml.jaxb.UserDefinedType;
+import org.jooq.util.xml.jaxb.UserDefinedTypeCategory;
+import org.jooq.util.xml.jaxb.View;
+
+/**
+ * A snapshot of the meta data of a {@link Database}.
+ * <p>
+ * Snapshots are stored as {@link InformationSchema} XML files, which can be
+ * read by the {@link org.jooq.meta.xml.XMLDatabase}. Unlike the
+ * {@link XMLGenerator}, a snapshot contains the meta data as it was
+ * introspected, i.e. using input names and defined data types, and excluding
+ * synthetic objects, so the <code>&lt;database/&gt;</code> configuration can
+ * be applied again on top of it.
+ * <p>
+ * Snapshots are keyed by the jOOQ version and the
+ * <code>&lt;database/&gt;</code> configuration, including the constant
+ * schema and catalog versions.
+ * <p>
+ * An {@link InformationSchema} can't represent everything a vendor specific
+ * {@link Database} reads, so code generated from a snapshot may differ from
+ * code generated from the database. The known differences are documented in
+ * {@link org.jooq.meta.jaxb.Database#getSnapshotDirectory()}.
+ *
+ * @author Lukas Eder
+ */
+final class DatabaseSnapshot {
+
+    private static final JooqLogger log = JooqLogger.getLogger(DatabaseSnapshot.class);
+
+    private final File              xml;
+    private final File              properties;
+
+    private DatabaseSnapshot(File directory, String key) {
+        this.xml = new File(directory, key + ".xml");
+        this.properties = new File(directory, key + ".properties");
+    }
+
+    /**
+     * The snapshot for a <code>&lt;database/&gt;</code> configuration, or
+     * <code>null</code> if snapshots aren't configured or can't be used.
+     */
+    static final DatabaseSnapshot of(org.jooq.meta.jaxb.Database d, String basedir, Locale locale) throws Exception {
+        if (isBlank(d.getSnapshotDirectory()))
+            return null;
+
+        String catalogVersion = constantVersion(d.getCatalogVersionProvider(), locale);
+        String schemaVersion = constantVersion(d.getSchemaVersionProvider(), locale);
+
+        if (catalogVersion == null || schemaVersion == null) {
+            log.warn("Snapshots", "Snapshots can only be used with constant <schemaVersionProvider/> and <catalogVersionProvider/> values. Snapshots are disabled.");
+            return null;
+        }
+        else if (catalogVersion.isEmpty() && schemaVersion.isEmpty()) {
+            log.warn("Snapshots", "Snapshots require a <schemaVersionProvider/> or <catalogVersionProvider/> value. Snapshots are disabled.");
+            return null;
+        }
+
+        File directory = new File(d.getSnapshotDirectory());
+        if (!directory.isAbsolute())
+            directory = new File(basedir, d.getSnapshotDirectory()).getCanonicalFile();
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(Constants.VERSION.getBytes(UTF_8));
+        digest.update(d.toString().getBytes(UTF_8));
+
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest())
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+        return new DatabaseSnapshot(directory, key.toString());
+    }
+
+    /**
+     * The constant value of a version provider, an empty string if there is
+     * no version provider, or <code>null</code> if the version provider is
+     * not a constant.
+     */
+    private static final String constantVersion(String provider, Locale locale) {
+        if (isBlank(provider))
+            return "";
+        else if (provider.toLowerCase(locale).startsWith("select"))
+            return null;
+
+        try {
+            Class.forName(provider);
+            return null;
+        }
+        catch (Exception e) {
+            return provider;
+        }
+    }
+
+    final File file() {
+        return xml;
+    }
+
+    final boolean exists() {
+        return xml.isFile() && properties.isFile();
+    }
+
+    /**
+     * The dialect of the database from which the snapshot was taken.
+     */
+    final SQLDialect dialect() throws Exception {
+        Properties p = new Properties();
+
+        try (InputStream in = new FileInputStream(properties)) {
+            p.load(in);
+        }
+
+        return SQLDialect.valueOf(p.getProperty("dialect"));
+    }
+
+    /**
+     * Take a snapshot of a database, if all of its objects can be represented
+     * by an {@link InformationSchema}.
+     */
+    final void write(Database db) throws Exception {
+        for (SchemaDefinition s : db.getSchemata()) {
+            if (!db.getEnums(s).stream().allMatch(e -> e.isSynthetic())
+                || !db.getDomains(s).isEmpty()
+                || !db.getArrays(s).isEmpty()
+                || !db.getPackages(s).isEmpty()
+                || !db.getXMLSchemaCollections(s).isEmpty()
+                || db.getTables(s).stream().anyMatch(t -> t.isTableValuedFunction())) {
+                log.warn("Snapshots", "Schema " + s + " contains enums, domains, arrays, packages, XML schema collections, or table valued functions, which cannot be stored in a snapshot. No snapshot is taken.");
+                return;
+            }
+        }
+
+        xml.getParentFile().mkdirs();
+        File tmp = new File(xml.getPath() + ".tmp");
+
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(tmp), UTF_8)) {
+            MiniJAXB.marshal(export(db), out);
+        }
+
+        Properties p = new Properties();
+        p.setProperty("dialect", db.getDialect().name());
+        p.setProperty("version", Constants.VERSION);
+
+        try (OutputStream out = new FileOutputStream(properties)) {
+            p.store(out, "jOOQ database snapshot");
+        }
+
+        java.nio.file.Files.move(tmp.toPath(), xml.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        log.info("Snapshots", "Snapshot written to " + xml);
+    }
+
+    private static final InformationSchema export(Database db) {
+        InformationSchema is = new InformationSchema();
+
+        for (CatalogDefinition c : db.getCatalogs()) {
+            String catalogName = c.getInputName();
+
+            if (!isBlank(catalogName))
+                is.getCatalogs().add(new Catalog()
+                    .withCatalogName(catalogName)
+                    .withComment(c.getComment()));
+
+            for (SchemaDefinition s : c.getSchemata()) {
+                String schemaName = s.getInputName();
+
+                is.getSchemata().add(new Schema()
+                    .withCatalogName(catalogName)
+                    .withSchemaName(schemaName)
+                    .withComment(s.getComment()));
+
+                for (UDTDefinition u : db.getUDTs(s)) {
+                    if (u.isSynthetic())
+                        continue;
+
+                    String udtName = u.getInputName();
+
+                    UserDefinedType udt = new UserDefinedType();
+                    udt.setUserDefinedTypeCatalog(catalogName);
+                    udt.setUserDefinedTypeSchema(schemaName);
+                    udt.setUserDefinedTypeName(udtName);
+                    udt.setUserDefinedTypeCategory(UserDefinedTypeCategory.STRUCTURED);
+                    udt.setIsInstantiable(u.isInstantiable());
+                    udt.setComment(u.getComment());
+
+                    if (u.getSupertype() != null) {
+                        DirectSupertype sup = new DirectSupertype();
+
+                        sup.setUdtCatalog(catalogName);
+                        sup.setUdtSchema(schemaName);
+                        sup.setUdtName(udtName);
+                        sup.setSupertypeCatalog(u.getSupertype().getCatalog().getInputName());
+                        sup.setSupertypeSchema(u.getSupertype().getSchema().getInputName());
+                        sup.setSupertypeName(u.getSupertype().getInputName());
+
+                        is.getDirectSupertypes().add(sup);
+                    }
+
+                    is.getUserDefinedTypes().add(udt);
+
+                    for (AttributeDefinition a : u.getAttributes()) {
+                        DataTypeDefinition type = a.getDefinedType();
+
+                        Attribute attribute = new Attribute();
+                        attribute.setUdtCatalog(catalogName);
+                        attribute.setUdtSchema(schemaName);
+                        attribute.setUdtName(udtName);
+                        attribute.setAttributeName(a.getInputName());
+                        attribute.setComment(a.getComment());
+                        attribute.setCharacterMaximumLength(type.getLength());
+                        attribute.setAttributeDefault(type.getDefaultValue());
+                        attribute.setDataType(type.getType());
+                        setUdtName(type,
+                            attribute,
+                            Attribute::setAttributeUdtCatalog,
+                            Attribute::setAttributeUdtSchema,
+                            Attribute::setAttributeUdtName);
+                        attribute.setNumericPrecision(type.getPrecision());
+                        attribute.setNumericScale(type.getScale());
+                        attribute.setOrdinalPosition(a.getPosition());
+
+                        is.getAttributes().add(attribute);
+                    }
+                }
+
+                for (TableDefinition t : db.getTables(s)) {
+                    if (t.isSynthetic())
+                        continue;
+
+                    String tableName = t.getInputName();
+
+                    Table table = new Table();
+                    table.setTableCatalog(catalogName);
+                    table.setTableSchema(schemaName);
+                    table.setTableName(tableName);
+                    table.setTableType(
+                        t.isView()
+                      ? TableType.VIEW
+                      : t.isMaterializedView()
+                      ? TableType.MATERIALIZED_VIEW
+                      : t.isGlobalTemporary()
+                      ? TableType.GLOBAL_TEMPORARY
+                      : t.isLocalTemporary()
+                      ? TableType.LOCAL_TEMPORARY
+                      : TableType.BASE_TABLE
+                    );
+                    table.setComment(t.getComment());
+
+                    is.getTables().add(table);
+
+                    if (t.isView() || t.isMaterializedView())
+                        is.getViews().add(new View()
+                            .withTableCatalog(catalogName)
+                            .withTableSchema(schemaName)
+                            .withTableName(tableName)
+                            .withViewDefinition(t.getSource()));
+
+                    for (ColumnDefinition co : t.getColumnsIncludingHidden()) {
+                        if (co.isSynthetic())
+                            continue;
+
+                        DataTypeDefinition type = co.getDefinedType();
+
+                        Column column = new Column();
+                        column.setTableCatalog(catalogName);
+                        column.setTableSchema(schemaName);
+                        column.setTableName(tableName);
+                        column.setColumnName(co.getInputName());
+                        column.setComment(co.getComment());
+                        column.setCharacterMaximumLength(type.getLength());
+                        column.setColumnDefault(type.getDefaultValue());
+                        column.setDataType(type.getType());
+                        setUdtName(type,
+                            column,
+                            Column::setUdtCatalog,
+                            Column::setUdtSchema,
+                            Column::setUdtName);
+
+                        if (co.isIdentity())
+                            column.setIdentityGeneration("YES");
+
+                        column.setIsNullable(type.isNullable());
+                        column.setNumericPrecision(type.getPrecision());
+                        column.setNumericScale(type.getScale());
+                        column.setOrdinalPosition(co.getPosition());
+                        column.setHidden(co.isHidden());
+                        column.setReadonly(co.isReadonly());
+
+                        if (type.isComputed()) {
+                            column.setIsGenerated(type.isComputed());
+                            column.setGenerationExpression(type.getGeneratedAlwaysAs());
+                            column.setGenerationOption(type.getGenerationOption() == VIRTUAL ? "VIRTUAL" : type.getGenerationOption() == STORED ? "STORED" : null);
+                        }
+
+                        is.getColumns().add(column);
+                    }
+                }
+
+                for (IndexDefinition i : db.getIndexes(s)) {
+                    String indexName = i.getInputName();
+                    TableDefinition table = i.getTable();
+                    List<IndexColumnDefinition> columns = i.getIndexColumns();
+
+                    Index index = new Index();
+                    index.setIndexCatalog(catalogName);
+                    index.setIndexSchema(schemaName);
+                    index.setIndexName(indexName);
+                    index.setComment(i.getComment());
+                    index.setTableCatalog(table.getCatalog().getInputName());
+                    index.setTableSchema(table.getSchema().getInputName());
+                    index.setTableName(table.getInputName());
+                    index.setIsUnique(i.isUnique());
+
+                    is.getIndexes().add(index);
+
+                    for (int j = 0; j < columns.size(); j++) {
+                        IndexColumnDefinition indexColumn = columns.get(j);
+
+                        IndexColumnUsage ic = new IndexColumnUsage();
+                        ic.setIndexCatalog(catalogName);
+                        ic.setIndexSchema(schemaName);
+                        ic.setIndexName(indexName);
+                        ic.setColumnName(indexColumn.getColumn().getInputName());
+                        ic.setOrdinalPosition(j + 1);
+                        ic.setIsDescending(indexColumn.getSortOrder() == SortOrder.DESC);
+                        ic.setTableCatalog(table.getCatalog().getInputName());
+                        ic.setTableSchema(table.getSchema().getInputName());
+                        ic.setTableName(table.getInputName());
+
+                        is.getIndexColumnUsages().add(ic);
+                    }
+                }
+
+                for (UniqueKeyDefinition u : db.getKeys(s)) {
+                    if (u.isSynthetic())
+                        continue;
+
+                    TableConstraint tc = tableConstraint(is, u.getInputName(), u.getTable(), u.getKeyColumns(), catalogName, schemaName);
+                    tc.setConstraintType(u.isPrimaryKey() ? PRIMARY_KEY : UNIQUE);
+                    tc.setComment(u.getComment());
+                    tc.setEnforced(u.enforced());
+                }
+
+                for (ForeignKeyDefinition f : db.getForeignKeys(s)) {
+                    if (f.isSynthetic())
+                        continue;
+
+                    UniqueKeyDefinition referenced = f.getReferencedKey();
+
+                    TableConstraint tc = tableConstraint(is, f.getInputName(), f.getKeyTable(), f.getKeyColumns(), catalogName, schemaName);
+                    tc.setConstraintType(FOREIGN_KEY);
+                    tc.setComment(f.getComment());
+                    tc.setEnforced(f.enforced());
+
+                    ReferentialConstraint rc = new ReferentialConstraint();
+                    rc.setConstraintCatalog(catalogName);
+                    rc.setConstraintSchema(schemaName);
+                    rc.setConstraintName(f.getInputName());
+                    rc.setUniqueConstraintCatalog(referenced.getCatalog().getInputName());
+                    rc.setUniqueConstraintSchema(referenced.getSchema().getInputName());
+                    rc.setUniqueConstraintName(referenced.getInputName());
+                    rc.setDeleteRule(foreignKeyRule(f.getDeleteRule()));
+                    rc.setUpdateRule(foreignKeyRule(f.getUpdateRule()));
+
+                    is.getReferentialConstraints().add(rc);
+                }
+
+                for (CheckConstraintDefinition ch : db.getCheckConstraints(s)) {
+                    TableConstraint tc = tableConstraint(is, ch.getInputName(), ch.getTable(), List.of(), catalogName, schemaName);
+                    tc.setConstraintType(CHECK);
+                    tc.setComment(ch.getComment());
+                    tc.setEnforced(ch.enforced());
+
+                    is.getCheckConstraints().add(new CheckConstraint()
+                        .withConstraintCatalog(catalogName)
+                        .withConstraintSchema(schemaName)
+                        .withConstraintName(ch.getInputName())
+                        .withCheckClause(ch.getCheckClause()));
+                }
+
+                for (SequenceDefinition se : db.getSequences(s)) {
+                    DataTypeDefinition type = se.getDefinedType();
+
+                    Sequence sequence = new Sequence();
+                    sequence.setSequenceCatalog(catalogName);
+                    sequence.setSequenceSchema(schemaName);
+                    sequence.setSequenceName(se.getInputName());
+                    sequence.setComment(se.getComment());
+                    sequence.setCharacterMaximumLength(type.getLength());
+                    sequence.setDataType(type.getType());
+                    sequence.setNumericPrecision(type.getPrecision());
+                    sequence.setNumericScale(type.getScale());
+                    sequence.setStartValue(Convert.convert(se.getStartWith(), BigInteger.class));
+                    sequence.setIncrement(Convert.convert(se.getIncrementBy(), BigInteger.class));
+                    sequence.setMinimumValue(Convert.convert(se.getMinvalue(), BigInteger.class));
+                    sequence.setMaximumValue(Convert.convert(se.getMaxvalue(), BigInteger.class));
+                    sequence.setCycleOption(se.getCycle());
+                    sequence.setCache(Convert.convert(se.getCache(), BigInteger.class));
+
+                    is.getSequences().add(sequence);
+                }
+
+                for (RoutineDefinition r : db.getRoutines(s))
+                    exportRoutine(is, r, catalogName, schemaName);
+            }
+        }
+
+        return is;
+    }
+
+    private static final TableConstraint tableConstraint(
+        InformationSchema is,
+        String constraintName,
+        TableDefinition table,
+        List<ColumnDefinition> columns,
+        String catalogName,
+        String schemaName
+    ) {
+        TableConstraint tc = new TableConstraint();
+        tc.setConstraintCatalog(catalogName);
+        tc.setConstraintSchema(schemaName);
+        tc.setConstraintName(constraintName);
+        tc.setTableCatalog(table.getCatalog().getInputName());
+        tc.setTableSchema(table.getSchema().getInputName());
+        tc.setTableName(table.getInputName());
+
+        is.getTableConstraints().add(tc);
+
+        for (int i = 0; i < columns.size(); i++) {
+            KeyColumnUsage kc = new KeyColumnUsage();
+
+            kc.setConstraintCatalog(catalogName);
+            kc.setConstraintSchema(schemaName);
+            kc.setConstraintName(constraintName);
+            kc.setColumnName(columns.get(i).getInputName());
+            kc.setOrdinalPosition(i + 1);
+            kc.setTableCatalog(table.getCatalog().getInputName());
+            kc.setTableSchema(table.getSchema().getInputName());
+            kc.setTableName(table.getInputName());
+
+            is.getKeyColumnUsages().add(kc);
+        }
+
+        return tc;
+    }
+
+    private static final void exportRoutine(InformationSchema is, RoutineDefinition r, String catalogName, String schemaName) {
+        String specificName = r.getInputName() + (isBlank(r.getOverload()) ? "" : "_" + r.getOverload());
+
+        Routine routine = new Routine();
+        routine.setRoutineCatalog(catalogName);
+        routine.setSpecificCatalog(catalogName);
+        routine.setRoutineSchema(schemaName);
+        routine.setSpecificSchema(schemaName);
+        routine.setRoutineName(r.getInputName());
+        routine.setSpecificName(specificName);
+        routine.setComment(r.getComment());
+
+        if (r.getReturnValue() == null) {
+            routine.setRoutineType(RoutineType.PROCEDURE);
+        }
+        else {
+            DataTypeDefinition type = r.getReturnValue().getDefinedType();
+
+            routine.setRoutineType(RoutineType.FUNCTION);
+            routine.setDataType(type.getType());
+            setUdtName(type,
+                routine,
+                Routine::setUdtCatalog,
+                Routine::setUdtSchema,
+                Routine::setUdtName);
+            routine.setCharacterMaximumLength(type.getLength());
+            routine.setNumericPrecision(type.getPrecision());
+            routine.setNumericScale(type.getScale());
+        }
+
+        is.getRoutines().add(routine);
+
+        int i = 1;
+        for (ParameterDefinition p : r.getAllParameters()) {
+            if (p != r.getReturnValue() && !p.isSynthetic()) {
+                DataTypeDefinition type = p.getDefinedType();
+                boolean in = r.getInParameters().contains(p);
+                boolean out = r.getOutParameters().contains(p);
+
+                Parameter parameter = new Parameter();
+                parameter.setSpecificCatalog(catalogName);
+                parameter.setSpecificSchema(schemaName);
+                parameter.setSpecificName(specificName);
+                parameter.setOrdinalPosition(i++);
+                parameter.setParameterName(p.getInputName());
+                parameter.setComment(p.getComment());
+                parameter.setParameterMode(in && out ? ParameterMode.INOUT : out ? ParameterMode.OUT : ParameterMode.IN);
+                parameter.setDataType(type.getType());
+                setUdtName(type,
+                    parameter,
+                    Parameter::setUdtCatalog,
+                    Parameter::setUdtSchema,
+                    Parameter::setUdtName);
+                parameter.setCharacterMaximumLength(type.getLength());
+                parameter.setNumericPrecision(type.getPrecision());
+                parameter.setNumericScale(type.getScale());
+                parameter.setParameterDefault(type.getDefaultValue());
+
+                is.getParameters().add(parameter);
+            }
+        }
+    }
+
+    private static final <T> void setUdtName(
+        DataTypeDefinition type,
+        T object,
+        BiConsumer<T, String> udtCatalog,
+        BiConsumer<T, String> udtSchema,
+        BiConsumer<T, String> udtName
+    ) {
+        if (type.isUDT()) {
+            Name name = type.getQualifiedUserType();
+
+            if (name != null) {
+                udtName.accept(object, name.last());
+
+                Name us = name.qualifier();
+                if (us != null) {
+                    udtSchema.accept(object, us.last());
+
+                    Name uc = us.qualifier();
+                    if (uc != null)
+                        udtCatalog.accept(object, uc.last());
+                }
+            }
+        }
+    }
+}
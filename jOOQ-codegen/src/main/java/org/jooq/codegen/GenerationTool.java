@@ -94,6 +94,7 @@ import org.jooq.meta.jaxb.Property;
 import org.jooq.meta.jaxb.SchemaMappingType;
 import org.jooq.meta.jaxb.Strategy;
 import org.jooq.meta.jaxb.Target;
+import org.jooq.meta.xml.XMLDatabase;
 // ...
 import org.jooq.tools.ClassUtils;
 import org.jooq.tools.JooqLogger;
@@ -309,11 +310,18 @@ public class GenerationTool {
 
         Database database = null;
 
+        // Previously introspected meta data can be read from a snapshot instead
+        DatabaseSnapshot snapshot = DatabaseSnapshot.of(d, configuration.getBasedir(), locale);
+        boolean fromSnapshot = snapshot != null && snapshot.exists();
+
+        if (fromSnapshot)
+            log.info("Snapshots", "Reading database meta data from snapshot " + snapshot.file());
+
         try {
 
             // Initialise connection
             // ---------------------
-            if (connection == null) {
+            if (connection == null && !fromSnapshot) {
                 close = true;
 
                 if (dataSource != null) {
@@ -423,7 +431,9 @@ public class GenerationTool {
             generator.setStrategy(strategy);
 
             Class<? extends Database> databaseClass =
-                  !isBlank(d.getJava())
+                  fromSnapshot
+                ? XMLDatabase.class
+                : !isBlank(d.getJava())
                 ? compile(databaseName, d.getJava(), Database.class)
                 : !isBlank(databaseName)
                 ? (Class<? extends Database>) loadClass(databaseName)
@@ -441,6 +451,11 @@ public class GenerationTool {
 
             database.setBasedir(configuration.getBasedir());
             database.setProperties(properties(d.getProperties()));
+
+            if (fromSnapshot) {
+                database.getProperties().setProperty("xmlFile", snapshot.file().getPath());
+                database.getProperties().setProperty("dialect", snapshot.dialect().name());
+            }
             database.setOnError(configuration.getOnError());
             database.setOnDeprecated(configuration.getOnDeprecated());
             database.setOnExperimental(configuration.getOnExperimental());
@@ -1027,6 +1042,14 @@ public class GenerationTool {
                 generator.setGenerateRenameMethodOverrides(g.getGenerate().isRenameMethodOverrides());
             if (g.getGenerate().isAsMethodOverrides() != null)
                 generator.setGenerateAsMethodOverrides(g.getGenerate().isAsMethodOverrides());
+            if (g.getGenerate().getParallelism() != null)
+                generator.setGenerateParallelism(g.getGenerate().getParallelism());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
+
+            // Any configuration change may affect any generated file
+            if (generator instanceof AbstractGenerator a)
+                a.configurationFingerprint = generator.getClass().getName() + "\n" + g;
 
 
             if (!isBlank(d.getSchemaVersionProvider()))
@@ -1053,6 +1076,15 @@ public class GenerationTool {
             verifyVersions(configuration);
             generator.generate(database);
 
+            if (snapshot != null && !fromSnapshot) {
+                try {
+                    snapshot.write(database);
+                }
+                catch (Exception e) {
+                    log.warn("Snapshots", "Error while writing snapshot " + snapshot.file(), e);
+                }
+            }
+
             if (configuration.getOnUnused() != OnError.SILENT) {
                 boolean anyUnused = false;
 
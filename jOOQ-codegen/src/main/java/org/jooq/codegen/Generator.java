@@ -1696,6 +1696,28 @@ public interface Generator {
      */
     void setGenerateAsMethodOverrides(boolean asMethodOverrides);
 
+    /**
+     * The number of threads used to generate per definition files.
+     */
+    int generateParallelism();
+
+    /**
+     * The number of threads used to generate per definition files.
+     */
+    void setGenerateParallelism(int parallelism);
+
+    /**
+     * Whether to skip regenerating per definition files whose definitions and
+     * code generation configuration haven't changed since the previous run.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether to skip regenerating per definition files whose definitions and
+     * code generation configuration haven't changed since the previous run.
+     */
+    void setGenerateIncremental(boolean incremental);
+
     /**
      * The target directory
      */
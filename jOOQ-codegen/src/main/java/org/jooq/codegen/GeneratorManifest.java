@@ -0,0 +1,438 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.meta.AttributeDefinition;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Definition;
+import org.jooq.meta.EmbeddableColumnDefinition;
+import org.jooq.meta.EmbeddableDefinition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.InverseForeignKeyDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.PositionedDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.TypedElementDefinition;
+import org.jooq.meta.UDTDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * The manifest of an incremental code generation run.
+ * <p>
+ * For each per definition code generation task (e.g. the table class of a
+ * table, or the POJO of a UDT), the manifest stores a fingerprint of the
+ * definition and the code generation configuration, as well as the files that
+ * were produced by the task. If neither the fingerprint nor the files have
+ * changed since the previous run, the task can be skipped.
+ *
+ * @author Lukas Eder
+ */
+final class GeneratorManifest {
+
+    private static final JooqLogger  log       = JooqLogger.getLogger(GeneratorManifest.class);
+    static final String              FILE_NAME = ".jooq-codegen-manifest";
+
+    private final File               root;
+    private final File               file;
+    private final String             configuration;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current;
+
+    GeneratorManifest(File root, String configuration) {
+        this.root = root;
+        this.file = new File(root, FILE_NAME);
+        this.configuration = configuration;
+        this.previous = new TreeMap<>();
+        this.current = new ConcurrentHashMap<>();
+
+        if (file.exists()) {
+            Properties properties = new Properties();
+
+            try (InputStream in = new FileInputStream(file)) {
+                properties.load(in);
+
+                for (String key : properties.stringPropertyNames())
+                    previous.put(key, Entry.parse(properties.getProperty(key)));
+            }
+            catch (Exception e) {
+                log.warn("Incremental code generation", "Cannot read manifest " + file + ". Regenerating all files.", e);
+                previous.clear();
+            }
+        }
+    }
+
+    /**
+     * A key identifying a per definition code generation task.
+     */
+    static final String key(String phase, Definition definition) {
+        return phase + " " + definition.getQualifiedOutputName() + (definition.getOverload() != null ? "/" + definition.getOverload() : "");
+    }
+
+    /**
+     * A fingerprint of a definition and everything that contributes to the
+     * files generated from it.
+     */
+    final String fingerprint(String phase, Definition definition, boolean sources) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(Constants.VERSION).append('\n');
+        sb.append(configuration).append('\n');
+        sb.append(phase).append('\n');
+        sb.append(describe(definition, sources));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+
+            for (byte b : digest)
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+            return hex.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * The files produced by a previous run of an unchanged task, or
+     * <code>null</code> if the task needs to be run again.
+     */
+    final List<File> unchanged(String key, String fingerprint) {
+        Entry entry = previous.get(key);
+
+        if (entry == null || !entry.fingerprint.equals(fingerprint))
+            return null;
+
+        List<File> result = new ArrayList<>();
+        for (Map.Entry<String, String> f : entry.files.entrySet()) {
+            File generated = new File(root, f.getKey());
+
+            if (!f.getValue().equals(stamp(generated)))
+                return null;
+
+            result.add(generated);
+        }
+
+        current.put(key, entry);
+        return result;
+    }
+
+    /**
+     * Record the files produced by a task.
+     */
+    final void put(String key, String fingerprint, List<File> files) {
+        Entry entry = new Entry(fingerprint);
+
+        for (File f : files)
+            entry.files.put(relative(f), stamp(f));
+
+        current.put(key, entry);
+    }
+
+    /**
+     * Write the manifest, retaining the entries of tasks that were not visited
+     * in this run (e.g. because their schema has been skipped), as long as
+     * their files still exist unchanged.
+     */
+    final void save() {
+        Properties properties = new Properties();
+
+        entries:
+        for (Map.Entry<String, Entry> e : previous.entrySet()) {
+            if (current.containsKey(e.getKey()))
+                continue;
+
+            for (Map.Entry<String, String> f : e.getValue().files.entrySet())
+                if (!f.getValue().equals(stamp(new File(root, f.getKey()))))
+                    continue entries;
+
+            properties.setProperty(e.getKey(), e.getValue().toString());
+        }
+
+        for (Map.Entry<String, Entry> e : current.entrySet())
+            properties.setProperty(e.getKey(), e.getValue().toString());
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            properties.store(out, "jOOQ incremental code generation manifest. Do not edit.");
+        }
+        catch (Exception e) {
+            log.warn("Incremental code generation", "Cannot write manifest " + file, e);
+        }
+    }
+
+    private final String relative(File f) {
+        return root.toPath().relativize(f.toPath()).toString().replace(File.separatorChar, '/');
+    }
+
+    private static final String stamp(File f) {
+        return f.isFile() ? f.length() + ":" + f.lastModified() : "";
+    }
+
+    private static final class Entry {
+        final String              fingerprint;
+        final Map<String, String> files;
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+            this.files = new TreeMap<>();
+        }
+
+        static Entry parse(String value) {
+            String[] parts = value.split("\\|");
+            Entry result = new Entry(parts[0]);
+
+            for (int i = 1; i < parts.length; i++) {
+                int j = parts[i].lastIndexOf('=');
+                result.files.put(parts[i].substring(0, j), parts[i].substring(j + 1));
+            }
+
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(fingerprint);
+
+            for (Map.Entry<String, String> f : files.entrySet())
+                sb.append('|').append(f.getKey()).append('=').append(f.getValue());
+
+            return sb.toString();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Definition descriptions
+    // -------------------------------------------------------------------------
+
+    /**
+     * A description of a definition and its contents.
+     * <p>
+     * This doesn't initialise any lazily computed meta data, which has to be
+     * done by the caller prior to describing definitions concurrently.
+     */
+    static final String describe(Definition d, boolean sources) {
+        StringBuilder sb = new StringBuilder();
+        describe(sb, d, sources);
+        return sb.toString();
+    }
+
+    private static final void describe(StringBuilder sb, Definition d, boolean sources) {
+        name(sb, "definition", d);
+
+        if (sources)
+            sb.append("source ").append(d.getSource()).append('\n');
+
+        if (d instanceof TableDefinition t) {
+            sb.append("flags ")
+              .append(t.isView()).append(' ')
+              .append(t.isMaterializedView()).append(' ')
+              .append(t.isGlobalTemporary()).append(' ')
+              .append(t.isLocalTemporary()).append(' ')
+              .append(t.isTableValuedFunction()).append(' ')
+              .append(t.isSynthetic()).append(' ')
+              .append(t.getTableOptions()).append('\n');
+
+            for (ColumnDefinition c : t.getColumnsIncludingHidden())
+                element(sb, "column", c);
+
+            for (ParameterDefinition p : t.getParameters())
+                element(sb, "parameter", p);
+
+            if (t.getIdentity() != null)
+                name(sb, "identity", t.getIdentity().getColumn());
+
+            for (UniqueKeyDefinition k : t.getKeys()) {
+                name(sb, k.isPrimaryKey() ? "primary key" : "unique key", k);
+                names(sb, k.getKeyColumns());
+            }
+
+            for (ForeignKeyDefinition k : t.getForeignKeys()) {
+                name(sb, "foreign key", k);
+                names(sb, k.getKeyColumns());
+                name(sb, "references", k.getReferencedTable());
+                names(sb, k.getReferencedColumns());
+                sb.append(k.getReferencedKey() == null ? null : k.getReferencedKey().getQualifiedOutputName()).append('\n');
+            }
+
+            for (InverseForeignKeyDefinition k : t.getInverseForeignKeys()) {
+                name(sb, "inverse foreign key", k);
+                name(sb, "referenced by", k.getReferencingTable());
+                names(sb, k.getReferencingColumns());
+            }
+
+            for (IndexDefinition i : t.getIndexes()) {
+                name(sb, i.isUnique() ? "unique index" : "index", i);
+
+                for (IndexColumnDefinition c : i.getIndexColumns())
+                    sb.append(c.getOutputName()).append(' ').append(c.getSortOrder()).append('\n');
+            }
+
+            for (CheckConstraintDefinition c : t.getCheckConstraints()) {
+                name(sb, "check", c);
+                sb.append(c.getCheckClause()).append('\n');
+            }
+
+            for (EmbeddableDefinition e : t.getReferencedEmbeddables()) {
+                name(sb, "embeddable", e);
+                sb.append(e.getReferencingOutputName()).append(' ').append(e.getReferencingComment()).append(' ').append(e.replacesFields()).append('\n');
+
+                for (EmbeddableColumnDefinition c : e.getColumns())
+                    name(sb, "embeddable column", c.getReferencingColumn());
+            }
+
+            name(sb, "referenced", t.getReferencedTableOrUDT());
+
+            if (t.getParentTable() != null)
+                name(sb, "parent", t.getParentTable());
+
+            for (TableDefinition c : t.getChildTables())
+                name(sb, "child", c);
+        }
+        else if (d instanceof UDTDefinition u) {
+            for (AttributeDefinition a : u.getAttributes())
+                element(sb, "attribute", a);
+
+            for (RoutineDefinition r : u.getRoutines())
+                describe(sb, r, sources);
+
+            if (u.getSupertype() != null)
+                name(sb, "supertype", u.getSupertype());
+
+            for (UDTDefinition s : u.getSubtypes())
+                name(sb, "subtype", s);
+        }
+        else if (d instanceof RoutineDefinition r) {
+            sb.append("flags ").append(r.isAggregate()).append(' ').append(r.isSQLUsable()).append('\n');
+
+            if (r.getReturnValue() != null)
+                element(sb, "return", r.getReturnValue());
+
+            for (ParameterDefinition p : r.getInParameters())
+                element(sb, "in", p);
+
+            for (ParameterDefinition p : r.getOutParameters())
+                element(sb, "out", p);
+
+            for (ParameterDefinition p : r.getAllParameters())
+                element(sb, "parameter", p);
+        }
+    }
+
+    private static final void name(StringBuilder sb, String kind, Definition d) {
+        sb.append(kind).append(' ');
+
+        if (d == null)
+            sb.append("null\n");
+        else
+            sb.append(d.getQualifiedOutputName()).append(' ')
+              .append(d.getQualifiedInputName()).append(' ')
+              .append(d.getOverload()).append(' ')
+              .append(d.getComment()).append('\n');
+    }
+
+    private static final void names(StringBuilder sb, List<? extends Definition> definitions) {
+        for (Definition d : definitions)
+            sb.append(d.getOutputName()).append(' ');
+
+        sb.append('\n');
+    }
+
+    private static final void element(StringBuilder sb, String kind, TypedElementDefinition<?> e) {
+        name(sb, kind, e);
+        type(sb, e.getType());
+
+        if (e.getDomain() != null)
+            name(sb, "domain", e.getDomain());
+
+        if (e instanceof PositionedDefinition p)
+            sb.append("position ").append(p.getPosition()).append('\n');
+
+        if (e instanceof ColumnDefinition c)
+            sb.append(c.isIdentity()).append(' ').append(c.isHidden()).append(' ').append(c.isRedacted()).append(' ').append(c.isReadonly()).append('\n');
+        else if (e instanceof ParameterDefinition p)
+            sb.append(p.isDefaulted()).append(' ').append(p.isUnnamed()).append('\n');
+    }
+
+    private static final void type(StringBuilder sb, DataTypeDefinition t) {
+        sb.append("type ")
+          .append(t.getType()).append(' ')
+          .append(t.getLength()).append(' ')
+          .append(t.getPrecision()).append(' ')
+          .append(t.getScale()).append(' ')
+          .append(t.isNullable()).append(' ')
+          .append(t.isIdentity()).append(' ')
+          .append(t.isDefaulted()).append(' ')
+          .append(t.getDefaultValue()).append(' ')
+          .append(t.isReadonly()).append(' ')
+          .append(t.isHidden()).append(' ')
+          .append(t.isRedacted()).append(' ')
+          .append(t.isComputed()).append(' ')
+          .append(t.getGeneratedAlwaysAs()).append(' ')
+          .append(t.getGenerationOption()).append(' ')
+          .append(t.getGenerationLocation()).append(' ')
+          .append(t.getQualifiedUserType()).append(' ')
+          .append(t.getUserType()).append(' ')
+          .append(t.getJavaType()).append(' ')
+          .append(t.getConverter()).append(' ')
+          .append(t.getBinding()).append(' ')
+          .append(t.getGenerator()).append('\n');
+    }
+}
@@ -267,7 +267,7 @@ class GeneratorStrategyWrapper extends AbstractDelegatingGeneratorStrategy {
      * [#182] Find all column names that are reserved because of the extended
      * class hierarchy of a generated class
      */
-    private Set<String> reservedColumns(Class<?> clazz, int length) {
+    private synchronized Set<String> reservedColumns(Class<?> clazz, int length) {
         if (clazz == null)
             return Collections.emptySet();
 
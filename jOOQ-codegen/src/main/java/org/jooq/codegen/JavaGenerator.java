@@ -94,7 +94,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -354,6 +359,23 @@ public class JavaGenerator extends AbstractGenerator {
     private final Files                           fileCache;
     private String                                visibility;
 
+    /**
+     * The executor generating per definition files, if
+     * {@link #generateParallelism()} is greater than one.
+     */
+    private ExecutorService                       executor;
+
+    /**
+     * The manifest of per definition files, if {@link #generateIncremental()}
+     * is enabled.
+     */
+    private GeneratorManifest                     manifest;
+
+    /**
+     * The files written by the per definition task of the current thread.
+     */
+    private final ThreadLocal<List<File>>         taskFiles                    = new ThreadLocal<>();
+
     static {
         SQLDATATYPE_LITERAL_LOOKUP = new IdentityHashMap<>();
         SQLDATATYPE_WITH_LENGTH = new HashSet<>();
@@ -551,6 +573,8 @@ public class JavaGenerator extends AbstractGenerator {
               ((!generateRelations && generateDaos) ? " (forced to true because of <daos/>)" : "")));
         log.info("other");
         log.info("  deprecated code", generateDeprecated());
+        log.info("  parallelism", generateParallelism());
+        log.info("  incremental", generateIncremental());
         log.info("----------------------------------------------------------");
 
         log.info("");
@@ -565,17 +589,46 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
 
         StopWatch w = new StopWatch();
-        for (CatalogDefinition catalog : database.getCatalogs()) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (generateCatalogIfEmpty(catalog))
-                        generate(catalog);
-                    else
-                        log.info("Excluding empty catalog", catalog);
-                },
-                () -> "Error generating code for catalog " + catalog
-            );
+        int parallelism = generateParallelism() > 0 ? generateParallelism() : Runtime.getRuntime().availableProcessors();
+
+        if (generateIncremental()) {
+            if (configurationFingerprint == null)
+                log.warn("Incremental code generation", "The code generation configuration is not known. Incremental code generation is only available through the GenerationTool.");
+            else
+                manifest = new GeneratorManifest(getStrategy().getFileRoot(), configurationFingerprint);
+        }
+
+        if (parallelism > 1) {
+            AtomicInteger threads = new AtomicInteger();
+
+            // Lazy meta data is initialised serially, before generating files in parallel
+            prime(db);
+            executor = Executors.newFixedThreadPool(parallelism, r -> {
+                Thread t = new Thread(r, "jooq-codegen-" + threads.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        try {
+            for (CatalogDefinition catalog : database.getCatalogs()) {
+                Logging.run(
+                    database.onError(),
+                    () -> {
+                        if (generateCatalogIfEmpty(catalog))
+                            generate(catalog);
+                        else
+                            log.info("Excluding empty catalog", catalog);
+                    },
+                    () -> "Error generating code for catalog " + catalog
+                );
+            }
+        }
+        finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
         }
 
         long time = w.split();
@@ -603,6 +656,205 @@ public class JavaGenerator extends AbstractGenerator {
         empty(getStrategy().getFileRoot(), (scala ? ".scala" : kotlin ? ".kt" : ".java"), affectedFiles, directoriesNotForRemoval);
         directoriesNotForRemoval.clear();
         affectedFiles.clear();
+
+        if (manifest != null) {
+            manifest.save();
+            manifest = null;
+        }
+    }
+
+    /**
+     * Initialise all lazily computed meta data that may be accessed by per
+     * definition tasks, which cannot safely be computed concurrently.
+     */
+    private void prime(Database db) {
+        db.getRelations();
+
+        for (SchemaDefinition schema : db.getSchemata()) {
+            db.getSequences(schema);
+            db.getIdentities(schema);
+            db.getIndexes(schema);
+            db.getPrimaryKeys(schema);
+            db.getUniqueKeys(schema);
+            db.getKeys(schema);
+            db.getForeignKeys(schema);
+            db.getCheckConstraints(schema);
+            db.getEmbeddables(schema);
+            db.getEnums(schema);
+            db.getDomains(schema);
+            db.getArrays(schema);
+            db.getXMLSchemaCollections(schema);
+
+            for (PackageDefinition pkg : db.getPackages(schema))
+                db.getUDTs(pkg);
+
+            for (TableDefinition table : db.getTables(schema)) {
+                prime(table);
+                db.getIndexes(table);
+                db.getEmbeddables(table);
+                db.getEmbeddablesByReferencingTable(table);
+            }
+
+            for (UDTDefinition udt : db.getUDTs(schema)) {
+                prime(udt);
+                db.getSubtypes(udt);
+            }
+
+            for (RoutineDefinition routine : db.getRoutines(schema))
+                prime(routine);
+        }
+    }
+
+    private void prime(TableDefinition table) {
+        if (generateSources())
+            table.getSource();
+
+        for (ColumnDefinition column : table.getColumnsIncludingHidden()) {
+            prime(column);
+            column.getPrimaryKey();
+            column.getKeys();
+            column.getUniqueKeys();
+            column.getForeignKeys();
+        }
+
+        for (ParameterDefinition parameter : table.getParameters())
+            prime(parameter);
+
+        table.getIdentity();
+
+        for (UniqueKeyDefinition key : table.getKeys()) {
+            key.getKeyColumns();
+            key.resolveReferencedKey();
+            key.getForeignKeys();
+        }
+
+        for (ForeignKeyDefinition key : table.getForeignKeys()) {
+            key.getKeyColumns();
+            key.getReferencedColumns();
+            key.getReferencedKey();
+        }
+
+        for (InverseForeignKeyDefinition key : table.getInverseForeignKeys())
+            key.getReferencingColumns();
+
+        for (IndexDefinition index : table.getIndexes())
+            index.getIndexColumns();
+
+        table.getCheckConstraints();
+        table.getReferencedEmbeddables();
+        table.getReferencedTableOrUDT();
+        table.getParentTable();
+        table.getChildTables();
+    }
+
+    private void prime(UDTDefinition udt) {
+        for (AttributeDefinition attribute : udt.getAttributes())
+            prime(attribute);
+
+        for (RoutineDefinition routine : udt.getRoutines())
+            prime(routine);
+
+        udt.getSupertype();
+        udt.getSubtypes();
+    }
+
+    private void prime(RoutineDefinition routine) {
+        if (generateSources())
+            routine.getSource();
+
+        if (routine.getReturnValue() != null)
+            prime(routine.getReturnValue());
+
+        for (ParameterDefinition parameter : routine.getAllParameters())
+            prime(parameter);
+
+        routine.getInParameters();
+        routine.getOutParameters();
+    }
+
+    private void prime(TypedElementDefinition<?> element) {
+        element.getType();
+        element.getDomain();
+    }
+
+    /**
+     * Generate the files of each definition, possibly in parallel, and
+     * possibly skipping definitions that haven't changed since the previous
+     * run.
+     * <p>
+     * Errors are handled according to {@link Database#onError()}. When
+     * generating files in parallel, the first error in definition order is
+     * thrown only after all tasks have completed.
+     */
+    private <D extends Definition> void generateEach(
+        String phase,
+        List<? extends D> definitions,
+        Consumer<? super D> generator,
+        Function<? super D, String> error
+    ) {
+        if (executor == null) {
+            for (D definition : definitions)
+                Logging.run(database.onError(), () -> generateIncrementally(phase, definition, generator), () -> error.apply(definition));
+
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(definitions.size());
+        for (D definition : definitions)
+            futures.add(executor.submit(() -> Logging.run(database.onError(), () -> generateIncrementally(phase, definition, generator), () -> error.apply(definition))));
+
+        RuntimeException first = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeneratorException("Interrupted while generating " + phase, e);
+            }
+            catch (ExecutionException e) {
+                if (first == null)
+                    first = e.getCause() instanceof RuntimeException r
+                        ? r
+                        : new GeneratorException(error.apply(definitions.get(i)), e.getCause());
+            }
+        }
+
+        if (first != null)
+            throw first;
+    }
+
+    private <D extends Definition> void generateIncrementally(String phase, D definition, Consumer<? super D> generator) {
+        if (manifest == null) {
+            generator.accept(definition);
+            return;
+        }
+
+        String key = GeneratorManifest.key(phase, definition);
+        String fingerprint = manifest.fingerprint(phase, definition, generateSources());
+        List<File> files = manifest.unchanged(key, fingerprint);
+
+        if (files != null) {
+            log.debug("Skipping unchanged " + phase, definition);
+
+            synchronized (affectedFiles) {
+                affectedFiles.addAll(files);
+            }
+
+            return;
+        }
+
+        files = new ArrayList<>();
+        taskFiles.set(files);
+
+        try {
+            generator.accept(definition);
+        }
+        finally {
+            taskFiles.remove();
+        }
+
+        manifest.put(key, fingerprint, files);
     }
 
     private boolean generateCatalogIfEmpty(CatalogDefinition catalog) {
@@ -1692,18 +1944,17 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (generateRecordsIncluded(table)) {
-                        if (!table.isTableValuedFunction() || table.getReferencedTableOrUDT() == table)
-                            generateRecord(table);
-                    }
-                },
-                () -> "Error while generating table record " + table
-            );
-        }
+        generateEach(
+            "record",
+            database.getTables(schema),
+            table -> {
+                if (generateRecordsIncluded(table)) {
+                    if (!table.isTableValuedFunction() || table.getReferencedTableOrUDT() == table)
+                        generateRecord(table);
+                }
+            },
+            table -> "Error while generating table record " + table
+        );
 
         watch.splitInfo("Table records generated");
     }
@@ -3375,15 +3626,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    generateInterface(table);
-                },
-                () -> "Error while generating table interface " + table
-            );
-        }
+        generateEach(
+            "interface",
+            database.getTables(schema),
+            table -> {
+                generateInterface(table);
+            },
+            table -> "Error while generating table interface " + table
+        );
 
         watch.splitInfo("Table interfaces generated");
     }
@@ -3653,24 +3903,23 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTs(SchemaDefinition schema) {
         log.info("Generating UDTs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (generateUDTs()) {
-                        generateUDT(schema, udt);
+        generateEach(
+            "udt",
+            database.getUDTs(schema),
+            udt -> {
+                if (generateUDTs()) {
+                    generateUDT(schema, udt);
 
-                        // [#228] Package UDTs can't be used as path expressions in SQL
-                        if (generateUDTPaths() && udt.getPackage() == null)
-                            generateUDTPath(schema, udt);
-                    }
+                    // [#228] Package UDTs can't be used as path expressions in SQL
+                    if (generateUDTPaths() && udt.getPackage() == null)
+                        generateUDTPath(schema, udt);
+                }
 
-                    if (generateGlobalObjectNames())
-                        generateGlobalObjectNames(udt, AttributeDefinition.class);
-                },
-                () -> "Error while generating udt " + udt
-            );
-        }
+                if (generateGlobalObjectNames())
+                    generateGlobalObjectNames(udt, AttributeDefinition.class);
+            },
+            udt -> "Error while generating udt " + udt
+        );
 
         watch.splitInfo("UDTs generated");
     }
@@ -4205,15 +4454,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTPojos(SchemaDefinition schema) {
         log.info("Generating UDT POJOs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    generateUDTPojo(udt);
-                },
-                () -> "Error while generating UDT POJO " + udt
-            );
-        }
+        generateEach(
+            "udt pojo",
+            database.getUDTs(schema),
+            udt -> {
+                generateUDTPojo(udt);
+            },
+            udt -> "Error while generating UDT POJO " + udt
+        );
 
         watch.splitInfo("UDT POJOs generated");
     }
@@ -4237,15 +4485,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTInterfaces(SchemaDefinition schema) {
         log.info("Generating UDT interfaces");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    generateUDTInterface(udt);
-                },
-                () -> "Error while generating UDT interface " + udt
-            );
-        }
+        generateEach(
+            "udt interface",
+            database.getUDTs(schema),
+            udt -> {
+                generateUDTInterface(udt);
+            },
+            udt -> "Error while generating UDT interface " + udt
+        );
 
         watch.splitInfo("UDT interfaces generated");
     }
@@ -4272,15 +4519,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTRecords(SchemaDefinition schema) {
         log.info("Generating UDT records");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    generateUDTRecord(udt);
-                },
-                () -> "Error while generating UDT record " + udt
-            );
-        }
+        generateEach(
+            "udt record",
+            database.getUDTs(schema),
+            udt -> {
+                generateUDTRecord(udt);
+            },
+            udt -> "Error while generating UDT record " + udt
+        );
 
         watch.splitInfo("UDT records generated");
     }
@@ -4307,16 +4553,15 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTRecordTypes(SchemaDefinition schema) {
         log.info("Generating UDT record types");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (udt.isInTypeHierarchy())
-                        generateUDTRecordType(udt);
-                },
-                () -> "Error while generating UDT record types " + udt
-            );
-        }
+        generateEach(
+            "udt record type",
+            database.getUDTs(schema),
+            udt -> {
+                if (udt.isInTypeHierarchy())
+                    generateUDTRecordType(udt);
+            },
+            udt -> "Error while generating UDT record types " + udt
+        );
 
         watch.splitInfo("UDT record types generated");
     }
@@ -4994,19 +5239,18 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateRoutines(SchemaDefinition schema) {
         log.info("Generating routines and table-valued functions");
 
-        for (RoutineDefinition routine : database.getRoutines(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (generateRoutines())
-                        generateRoutine(schema, routine);
+        generateEach(
+            "routine",
+            database.getRoutines(schema),
+            routine -> {
+                if (generateRoutines())
+                    generateRoutine(schema, routine);
 
-                    if (generateGlobalObjectNames())
-                        generateGlobalObjectNames(routine, ParameterDefinition.class);
-                },
-                () -> "Error while generating routine " + routine
-            );
-        }
+                if (generateGlobalObjectNames())
+                    generateGlobalObjectNames(routine, ParameterDefinition.class);
+            },
+            routine -> "Error while generating routine " + routine
+        );
 
         if (generateGlobalRoutineReferences()) {
             JavaWriter out = newJavaWriter(getStrategy().getGlobalReferencesFile(schema, RoutineDefinition.class));
@@ -5478,16 +5722,15 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (generateDaosIncluded(table))
-                        generateDao(table);
-                },
-                () -> "Error while generating table DAO " + table
-            );
-        }
+        generateEach(
+            "dao",
+            database.getTables(schema),
+            table -> {
+                if (generateDaosIncluded(table))
+                    generateDao(table);
+            },
+            table -> "Error while generating table DAO " + table
+        );
 
         watch.splitInfo("Table DAOs generated");
     }
@@ -6119,16 +6362,15 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (generatePojosIncluded(table))
-                        generatePojo(table);
-                },
-                () -> "Error while generating table POJO " + table
-            );
-        }
+        generateEach(
+            "pojo",
+            database.getTables(schema),
+            table -> {
+                if (generatePojosIncluded(table))
+                    generatePojo(table);
+            },
+            table -> "Error while generating table POJO " + table
+        );
 
         watch.splitInfo("Table POJOs generated");
     }
@@ -7467,19 +7709,18 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateTables(SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            Logging.run(
-                database.onError(),
-                () -> {
-                    if (generateTables())
-                        generateTable(schema, table);
+        generateEach(
+            "table",
+            database.getTables(schema),
+            table -> {
+                if (generateTables())
+                    generateTable(schema, table);
 
-                    if (generateGlobalObjectNames())
-                        generateGlobalObjectNames(table, ColumnDefinition.class);
-                },
-                () -> "Error while generating table " + table
-            );
-        }
+                if (generateGlobalObjectNames())
+                    generateGlobalObjectNames(table, ColumnDefinition.class);
+            },
+            table -> "Error while generating table " + table
+        );
 
         watch.splitInfo("Tables generated");
     }
@@ -12624,10 +12865,16 @@ public class JavaGenerator extends AbstractGenerator {
     protected void closeJavaWriter(JavaWriter out) {
         CloseResult result = out.close();
 
-        if (result.affected)
-            affectedFiles.add(out.file());
+        synchronized (affectedFiles) {
+            if (result.affected)
+                affectedFiles.add(out.file());
+
+            if (result.modified)
+                modifiedFiles.add(out.file());
+        }
 
-        if (result.modified)
-            modifiedFiles.add(out.file());
+        List<File> files = taskFiles.get();
+        if (files != null && result.affected)
+            files.add(out.file());
     }
 }
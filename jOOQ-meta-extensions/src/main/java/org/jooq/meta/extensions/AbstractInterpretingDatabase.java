@@ -61,9 +61,9 @@ import org.jetbrains.annotations.ApiStatus.Internal;
  * party meta format, applying that to an in-memory H2 database, and reverse
  * engineering that.
  * <p>
- * Future versions of this implementation might switch the H2 database
- * dependency for jOOQ's native DDL interpreting "database", which allows for
- * supporting more native SQL than what H2 supports currently.
+ * For plain DDL scripts, the {@link org.jooq.meta.extensions.ddl.DDLInterpreterDatabase}
+ * skips the H2 database and uses jOOQ's native DDL interpreting "database",
+ * which allows for supporting more native SQL than what H2 supports currently.
  * <p>
  * This class is INTERNAL and should not be implemented directly by users.
  *
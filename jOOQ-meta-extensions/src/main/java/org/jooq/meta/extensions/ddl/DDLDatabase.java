@@ -80,6 +80,8 @@ import org.h2.api.ErrorCode;
  * <p>
  * The SQL scripts are located in the <code>scripts</code> scripts property
  * available from {@link #getProperties()}.
+ * <p>
+ * The {@link DDLInterpreterDatabase} interprets the same scripts without H2.
  *
  * @author Lukas Eder
  */
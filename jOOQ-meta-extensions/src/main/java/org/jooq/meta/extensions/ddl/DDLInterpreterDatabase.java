@@ -0,0 +1,457 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta.extensions.ddl;
+
+import static org.jooq.tools.StringUtils.isBlank;
+
+import java.io.File;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.stream.Collectors;
+
+import org.jooq.Check;
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.Domain;
+import org.jooq.Field;
+import org.jooq.FilePattern;
+import org.jooq.FilePattern.Sort;
+import org.jooq.ForeignKey;
+import org.jooq.Index;
+import org.jooq.Key;
+import org.jooq.Meta;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.Schema;
+import org.jooq.SortField;
+import org.jooq.Source;
+import org.jooq.Table;
+import org.jooq.UniqueKey;
+import org.jooq.conf.InterpreterSearchSchema;
+import org.jooq.conf.ParseNameCase;
+import org.jooq.conf.ParseUnknownFunctions;
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.ParserException;
+import org.jooq.meta.AbstractIndexDefinition;
+import org.jooq.meta.AbstractMetaDatabase;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.DefaultCheckConstraintDefinition;
+import org.jooq.meta.DefaultDataTypeDefinition;
+import org.jooq.meta.DefaultDomainDefinition;
+import org.jooq.meta.DefaultIndexColumnDefinition;
+import org.jooq.meta.DefaultRelations;
+import org.jooq.meta.DomainDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * The DDL interpreter database.
+ * <p>
+ * This meta data source parses the same set of SQL scripts as the
+ * {@link DDLDatabase}, and supports the same properties, but instead of
+ * running them on an in-memory H2 database and reverse engineering the
+ * outcome, it feeds them to jOOQ's DDL interpreter and reads the resulting
+ * {@link Meta} directly. This avoids the H2 dependency and its startup cost,
+ * and supports any DDL that the interpreter supports, independently of what H2
+ * supports.
+ * <p>
+ * Unqualified objects are created in the <code>PUBLIC</code> schema, like with
+ * the {@link DDLDatabase}. Unnamed constraints are given synthetic names derived
+ * from their table and column names. Statements that the interpreter cannot
+ * handle, such as DML statements, are ignored.
+ * <p>
+ * Additional properties:
+ * <ul>
+ * <li><code>dialect</code>: The {@link SQLDialect} used to resolve data types
+ * and to render default values and check clauses. Defaults to
+ * {@link SQLDialect#DEFAULT}.</li>
+ * </ul>
+ *
+ * @author Lukas Eder
+ */
+public class DDLInterpreterDatabase extends AbstractMetaDatabase {
+
+    private static final JooqLogger log = JooqLogger.getLogger(DDLInterpreterDatabase.class);
+
+    private Meta                    meta;
+    private boolean                 publicIsDefault;
+
+    @Override
+    protected DSLContext create0() {
+        SQLDialect dialect = SQLDialect.DEFAULT;
+
+        try {
+            dialect = SQLDialect.valueOf(getProperties().getProperty("dialect"));
+        }
+        catch (Exception ignore) {}
+
+        return DSL.using(dialect.family());
+    }
+
+    @Override
+    protected Meta getMeta0() {
+        if (meta == null) {
+            try {
+                meta = interpret();
+            }
+            catch (DataAccessException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                throw new DataAccessException("Error while interpreting schema", e);
+            }
+        }
+
+        return meta;
+    }
+
+    private Meta interpret() throws Exception {
+        Settings defaultSettings = new Settings();
+        String scripts = getProperties().getProperty("scripts");
+        String sql = getProperties().getProperty("sql");
+        String encoding = getProperties().getProperty("encoding", "UTF-8");
+        String sort = getProperties().getProperty("sort", "semantic").toLowerCase();
+        String unqualifiedSchema = getProperties().getProperty("unqualifiedSchema", "none").toLowerCase();
+        String defaultNameCase = getProperties().getProperty("defaultNameCase", "as_is").toUpperCase();
+        boolean parseIgnoreComments = !"false".equalsIgnoreCase(getProperties().getProperty("parseIgnoreComments"));
+        String parseIgnoreCommentStart = getProperties().getProperty("parseIgnoreCommentStart", defaultSettings.getParseIgnoreCommentStart());
+        String parseIgnoreCommentStop = getProperties().getProperty("parseIgnoreCommentStop", defaultSettings.getParseIgnoreCommentStop());
+        boolean logExecutedQueries = !"false".equalsIgnoreCase(getProperties().getProperty("logExecutedQueries"));
+
+        publicIsDefault = "none".equals(unqualifiedSchema);
+
+        if (isBlank(scripts) && isBlank(sql)) {
+            scripts = "";
+            sql = "";
+            log.warn("No scripts defined", "It is recommended that you provide an explicit script directory to scan");
+        }
+
+        DSLContext ctx = DSL.using(create().dialect(), new Settings()
+            .withParseIgnoreComments(parseIgnoreComments)
+            .withParseIgnoreCommentStart(parseIgnoreCommentStart)
+            .withParseIgnoreCommentStop(parseIgnoreCommentStop)
+            .withParseUnknownFunctions(ParseUnknownFunctions.IGNORE)
+
+            // The interpreter doesn't render names, so the name case has to
+            // be applied by the parser, instead
+            .withParseNameCase(
+                  "UPPER".equals(defaultNameCase)
+                ? ParseNameCase.UPPER_IF_UNQUOTED
+                : "LOWER".equals(defaultNameCase)
+                ? ParseNameCase.LOWER_IF_UNQUOTED
+                : ParseNameCase.AS_IS
+            )
+
+            // Unqualified objects are created in H2's default schema by the DDLDatabase
+            .withInterpreterSearchPath(new InterpreterSearchSchema().withSchema("PUBLIC"))
+        );
+
+        List<Query> queries = new ArrayList<>();
+
+        try {
+            if (!isBlank(sql))
+                load(ctx, Source.of(sql), queries);
+
+            if (!isBlank(scripts))
+                new FilePattern()
+                    .encoding(encoding)
+                    .basedir(new File(getBasedir()))
+                    .pattern(scripts)
+                    .sort(Sort.of(sort))
+                    .load(source -> load(ctx, source, queries));
+        }
+        catch (ParserException e) {
+            log.error("An exception occurred while parsing script source : " + scripts + ". Please report this error to https://jooq.org/bug", e);
+            throw e;
+        }
+
+        if (logExecutedQueries)
+            for (Query query : queries)
+                log.info(query);
+
+        return ctx.meta(queries.toArray(new Query[0]));
+    }
+
+    private void load(DSLContext ctx, Source source, List<Query> queries) {
+        Reader r = null;
+
+        try {
+            Scanner s = new Scanner(r = source.reader()).useDelimiter("\\A");
+
+            for (Query query : ctx.parser().parse(s.hasNext() ? s.next() : ""))
+                queries.add(query);
+        }
+        finally {
+            JDBCUtils.safeClose(r);
+        }
+    }
+
+    @Override
+    public void close() {
+        meta = null;
+        super.close();
+    }
+
+    @Override
+    protected void loadUniqueKeys(DefaultRelations relations) throws SQLException {
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Table<?> table : schema.getTables()) {
+                    TableDefinition t = getTable(s, table.getName());
+
+                    if (t != null) {
+                        UniqueKey<?> pk = table.getPrimaryKey();
+
+                        if (pk != null)
+                            for (Field<?> field : pk.getFields())
+                                relations.addPrimaryKey(keyName(pk), t, t.getColumn(field.getName()), pk.enforced());
+
+                        for (UniqueKey<?> uk : table.getUniqueKeys())
+                            if (!uk.isPrimary())
+                                for (Field<?> field : uk.getFields())
+                                    relations.addUniqueKey(keyName(uk), t, t.getColumn(field.getName()), uk.enforced());
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void loadForeignKeys(DefaultRelations relations) throws SQLException {
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Table<?> table : schema.getTables()) {
+                    TableDefinition t = getTable(s, table.getName());
+
+                    if (t != null) {
+                        fkLoop:
+                        for (ForeignKey<?, ?> fk : table.getReferences()) {
+                            UniqueKey<?> uk = fk.getKey();
+                            Table<?> referencedT = uk.getTable();
+                            Schema referencedS = referencedT.getSchema() != null ? referencedT.getSchema() : schema;
+                            SchemaDefinition referencedSD = getSchema(referencedS.getName());
+                            TableDefinition referencedTD = referencedSD != null ? getTable(referencedSD, referencedT.getName()) : null;
+
+                            if (referencedTD == null)
+                                continue fkLoop;
+
+                            for (Field<?> field : fk.getFields())
+                                if (t.getColumn(field.getName()) == null)
+                                    continue fkLoop;
+
+                            for (Field<?> field : fk.getFields())
+                                relations.addForeignKey(
+                                    keyName(fk),
+                                    t,
+                                    t.getColumn(field.getName()),
+                                    keyName(uk),
+                                    referencedTD,
+                                    fk.enforced(),
+                                    fk.getDeleteRule(),
+                                    fk.getUpdateRule()
+                                );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void loadCheckConstraints(DefaultRelations relations) throws SQLException {
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Table<?> table : schema.getTables()) {
+                    TableDefinition t = getTable(s, table.getName());
+
+                    if (t != null) {
+                        int i = 0;
+
+                        for (Check<?> check : table.getChecks()) {
+                            i++;
+
+                            relations.addCheckConstraint(t, new DefaultCheckConstraintDefinition(
+                                s,
+                                t,
+                                isBlank(check.getName()) ? "CK_" + table.getName() + "_" + i : check.getName(),
+                                create().renderInlined(check.condition()),
+                                check.enforced()
+                            ));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected List<IndexDefinition> getIndexes0() throws SQLException {
+        List<IndexDefinition> result = new ArrayList<>();
+
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Table<?> table : schema.getTables()) {
+                    TableDefinition t = getTable(s, table.getName());
+
+                    if (t != null) {
+                        indexLoop:
+                        for (Index index : table.getIndexes()) {
+
+                            // [#6310] [#6620] Function-based indexes are not yet supported
+                            for (SortField<?> field : index.getFields())
+                                if (t.getColumn(field.getName()) == null)
+                                    continue indexLoop;
+
+                            result.add(new AbstractIndexDefinition(s, index.getName(), t, index.getUnique()) {
+                                List<IndexColumnDefinition> indexColumns = new ArrayList<>();
+
+                                {
+                                    int position = 0;
+
+                                    for (SortField<?> field : index.getFields())
+                                        indexColumns.add(new DefaultIndexColumnDefinition(
+                                            this,
+                                            t.getColumn(field.getName()),
+                                            field.getOrder(),
+                                            ++position
+                                        ));
+                                }
+
+                                @Override
+                                protected List<IndexColumnDefinition> getIndexColumns0() {
+                                    return indexColumns;
+                                }
+                            });
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    protected List<DomainDefinition> getDomains0() throws SQLException {
+        List<DomainDefinition> result = new ArrayList<>();
+
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Domain<?> domain : schema.getDomains()) {
+                    DataType<?> dataType = domain.getDataType();
+
+                    DataTypeDefinition baseType = new DefaultDataTypeDefinition(
+                        this,
+                        s,
+                        dataType.getTypeName(),
+                        dataType.lengthDefined() ? dataType.length() : null,
+                        dataType.precisionDefined() ? dataType.precision() : null,
+                        dataType.scaleDefined() ? dataType.scale() : null,
+                        dataType.nullable(),
+                        dataType.defaulted() ? create().renderInlined(dataType.defaultValue()) : null
+                    );
+
+                    DefaultDomainDefinition d = new DefaultDomainDefinition(s, domain.getName(), baseType);
+
+                    for (Check<?> check : domain.getChecks())
+                        d.addCheckClause(create().renderInlined(check.condition()));
+
+                    result.add(d);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public String getOutputSchema(String inputSchema) {
+        String outputSchema = super.getOutputSchema(inputSchema);
+
+        if (publicIsDefault && "PUBLIC".equals(outputSchema))
+            return "";
+
+        return outputSchema;
+    }
+
+    @Override
+    public String getOutputSchema(String inputCatalog, String inputSchema) {
+        String outputSchema = super.getOutputSchema(inputCatalog, inputSchema);
+
+        if (publicIsDefault && "PUBLIC".equals(outputSchema))
+            return "";
+
+        return outputSchema;
+    }
+
+    /**
+     * The interpreter doesn't name unnamed constraints, so we have to do that,
+     * consistently for the unique key and the foreign keys referencing it.
+     */
+    private static String keyName(Key<?> key) {
+        if (!isBlank(key.getName()))
+            return key.getName();
+        else if (key instanceof UniqueKey<?> uk && uk.isPrimary())
+            return "PK_" + key.getTable().getName();
+        else
+            return (key instanceof ForeignKey ? "FK_" : "UK_")
+                + key.getTable().getName() + "_"
+                + key.getFields().stream().map(Field::getName).collect(Collectors.joining("_"));
+    }
+}
@@ -96,6 +96,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -258,33 +259,33 @@ public abstract class AbstractDatabase implements Database {
     private boolean                                                              forcedTypesForXMLSchemaCollections      = true;
     private boolean                                                              builtInForcedTypesInitialised           = false;
     private List<ForcedType>                                                     configuredForcedTypes;
-    private Set<ForcedType>                                                      unusedForcedTypes                       = new HashSet<>();
+    private Set<ForcedType>                                                      unusedForcedTypes                       = ConcurrentHashMap.newKeySet();
     private List<EmbeddableDefinitionType>                                       configuredEmbeddables                   = new ArrayList<>();
-    private Set<EmbeddableDefinitionType>                                        unusedEmbeddables                       = new HashSet<>();
+    private Set<EmbeddableDefinitionType>                                        unusedEmbeddables                       = ConcurrentHashMap.newKeySet();
     private List<CommentType>                                                    configuredComments                      = new ArrayList<>();
-    private Set<CommentType>                                                     unusedComments                          = new HashSet<>();
+    private Set<CommentType>                                                     unusedComments                          = ConcurrentHashMap.newKeySet();
     private List<SyntheticColumnType>                                            configuredSyntheticColumns              = new ArrayList<>();
-    private Set<SyntheticColumnType>                                             unusedSyntheticColumns                  = new HashSet<>();
+    private Set<SyntheticColumnType>                                             unusedSyntheticColumns                  = ConcurrentHashMap.newKeySet();
     private List<SyntheticReadonlyColumnType>                                    configuredSyntheticReadonlyColumns      = new ArrayList<>();
-    private Set<SyntheticReadonlyColumnType>                                     unusedSyntheticReadonlyColumns          = new HashSet<>();
+    private Set<SyntheticReadonlyColumnType>                                     unusedSyntheticReadonlyColumns          = ConcurrentHashMap.newKeySet();
     private List<SyntheticReadonlyRowidType>                                     configuredSyntheticReadonlyRowids       = new ArrayList<>();
-    private Set<SyntheticReadonlyRowidType>                                      unusedSyntheticReadonlyRowids           = new HashSet<>();
+    private Set<SyntheticReadonlyRowidType>                                      unusedSyntheticReadonlyRowids           = ConcurrentHashMap.newKeySet();
     private List<SyntheticIdentityType>                                          configuredSyntheticIdentities           = new ArrayList<>();
-    private Set<SyntheticIdentityType>                                           unusedSyntheticIdentities               = new HashSet<>();
+    private Set<SyntheticIdentityType>                                           unusedSyntheticIdentities               = ConcurrentHashMap.newKeySet();
     private List<SyntheticDefaultType>                                           configuredSyntheticDefaults             = new ArrayList<>();
-    private Set<SyntheticDefaultType>                                            unusedSyntheticDefaults                 = new HashSet<>();
+    private Set<SyntheticDefaultType>                                            unusedSyntheticDefaults                 = ConcurrentHashMap.newKeySet();
     private List<SyntheticEnumType>                                              configuredSyntheticEnums                = new ArrayList<>();
-    private Set<SyntheticEnumType>                                               unusedSyntheticEnums                    = new HashSet<>();
+    private Set<SyntheticEnumType>                                               unusedSyntheticEnums                    = ConcurrentHashMap.newKeySet();
     private List<SyntheticPrimaryKeyType>                                        configuredSyntheticPrimaryKeys          = new ArrayList<>();
-    private Set<SyntheticPrimaryKeyType>                                         unusedSyntheticPrimaryKeys              = new HashSet<>();
+    private Set<SyntheticPrimaryKeyType>                                         unusedSyntheticPrimaryKeys              = ConcurrentHashMap.newKeySet();
     private List<SyntheticUniqueKeyType>                                         configuredSyntheticUniqueKeys           = new ArrayList<>();
-    private Set<SyntheticUniqueKeyType>                                          unusedSyntheticUniqueKeys               = new HashSet<>();
+    private Set<SyntheticUniqueKeyType>                                          unusedSyntheticUniqueKeys               = ConcurrentHashMap.newKeySet();
     private List<SyntheticForeignKeyType>                                        configuredSyntheticForeignKeys          = new ArrayList<>();
-    private Set<SyntheticForeignKeyType>                                         unusedSyntheticForeignKeys              = new HashSet<>();
+    private Set<SyntheticForeignKeyType>                                         unusedSyntheticForeignKeys              = ConcurrentHashMap.newKeySet();
     private List<SyntheticSynonymType>                                           configuredSyntheticSynonyms             = new ArrayList<>();
-    private Set<SyntheticSynonymType>                                            unusedSyntheticSynonyms                 = new HashSet<>();
+    private Set<SyntheticSynonymType>                                            unusedSyntheticSynonyms                 = ConcurrentHashMap.newKeySet();
     private List<SyntheticViewType>                                              configuredSyntheticViews                = new ArrayList<>();
-    private Set<SyntheticViewType>                                               unusedSyntheticViews                    = new HashSet<>();
+    private Set<SyntheticViewType>                                               unusedSyntheticViews                    = ConcurrentHashMap.newKeySet();
     private List<SyntheticDaoType>                                               configuredSyntheticDaos                 = new ArrayList<>();
     private SchemaVersionProvider                                                schemaVersionProvider;
     private CatalogVersionProvider                                               catalogVersionProvider;
@@ -4171,7 +4172,7 @@ public abstract class AbstractDatabase implements Database {
                 if (!columns.isEmpty()) {
                     markUsed(key);
 
-                    DefaultUniqueKeyDefinition pk = new DefaultUniqueKeyDefinition(table.getSchema(), keyName, table, true);
+                    DefaultUniqueKeyDefinition pk = new DefaultUniqueKeyDefinition(table.getSchema(), keyName, table, true).synthetic(true);
                     pk.getKeyColumns().addAll(columns);
                     log.info("Synthetic primary key", "" + pk);
                     r.overridePrimaryKey(pk);
@@ -198,17 +198,19 @@ public abstract class AbstractMetaDatabase extends AbstractDatabase {
         List<SequenceDefinition> result = new ArrayList<>();
 
         for (Schema schema : getSchemasFromMeta()) {
-            for (Sequence<?> sequence : schema.getSequences()) {
-                SchemaDefinition sd = getSchema(schema.getName());
+            SchemaDefinition sd = getSchema(schema.getName());
 
-                DataTypeDefinition type = new DefaultDataTypeDefinition(
-                    this,
-                    sd,
-                    sequence.getDataType().getTypeName()
-                );
+            if (sd != null) {
+                for (Sequence<?> sequence : schema.getSequences()) {
+                    DataTypeDefinition type = new DefaultDataTypeDefinition(
+                        this,
+                        sd,
+                        sequence.getDataType().getTypeName()
+                    );
 
-                result.add(new DefaultSequenceDefinition(
-                    sd, sequence.getName(), type));
+                    result.add(new DefaultSequenceDefinition(
+                        sd, sequence.getName(), type));
+                }
             }
         }
 
@@ -46,8 +46,8 @@ import static org.jooq.tools.StringUtils.isEmpty;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.AbstractMap.SimpleImmutableEntry;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -93,7 +93,7 @@ implements
         super(container, name, position, comment, overload);
 
         this.definedType = definedType;
-        this.resolvedType = new HashMap<>();
+        this.resolvedType = new ConcurrentHashMap<>();
     }
 
     @Override
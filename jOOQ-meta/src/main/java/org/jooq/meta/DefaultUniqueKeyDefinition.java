@@ -48,6 +48,7 @@ public class DefaultUniqueKeyDefinition extends AbstractConstraintDefinition imp
     private final List<ForeignKeyDefinition> foreignKeys;
     private final List<ColumnDefinition>     keyColumns;
     private final boolean                    isPrimaryKey;
+    private boolean                          synthetic;
     private transient boolean                resolvedUKCalculated;
     private transient UniqueKeyDefinition    resolvedUK;
 
@@ -63,6 +64,16 @@ public class DefaultUniqueKeyDefinition extends AbstractConstraintDefinition imp
         this.isPrimaryKey = isPrimaryKey;
     }
 
+    final DefaultUniqueKeyDefinition synthetic(boolean s) {
+        this.synthetic = s;
+        return this;
+    }
+
+    @Override
+    public final boolean isSynthetic() {
+        return synthetic;
+    }
+
     @Override
     public boolean isPrimaryKey() {
         return isPrimaryKey;
@@ -153,6 +153,8 @@ public class Database implements Serializable, XMLAppendable
     @XmlElement(defaultValue = "")
     @XmlJavaTypeAdapter(StringAdapter.class)
     protected String catalogVersionProvider = "";
+    @XmlJavaTypeAdapter(StringAdapter.class)
+    protected String snapshotDirectory;
     @XmlElement(defaultValue = "")
     @XmlJavaTypeAdapter(StringAdapter.class)
     protected String orderProvider = "";
@@ -1731,6 +1733,60 @@ public class Database implements Serializable, XMLAppendable
         this.catalogVersionProvider = value;
     }
 
+    /**
+     * A directory in which snapshots of the database meta data are stored, and from which they are loaded.
+     * <p>
+     * Snapshots are keyed by the {@link #getSchemaVersionProvider()} and {@link #getCatalogVersionProvider()}
+     * values, which must be constants for snapshots to be used. If a snapshot for the current versions exists,
+     * the code generator reads it using the {@link org.jooq.meta.xml.XMLDatabase} instead of connecting to the
+     * database. Otherwise, the database is introspected and a new snapshot is written after code generation.
+     * <p>
+     * A snapshot is an {@link org.jooq.util.xml.jaxb.InformationSchema}, which can't represent everything that a
+     * vendor specific database implementation can read. Code generated from a snapshot may thus differ from code
+     * generated from the database in these known ways:
+     * <ul>
+     * <li>Data types are stored by name and resolved again by the {@link org.jooq.meta.xml.XMLDatabase}, which may
+     * differ for vendor specific type names.</li>
+     * <li>Identities are stored as a flag. Identity sequence options aren't stored.</li>
+     * <li>Column defaults, generation expressions, check clauses and view sources are stored verbatim as reported
+     * by the database, and aren't normalised again.</li>
+     * <li>Routine sources, table options and table inheritance (parent and child tables) aren't stored.</li>
+     * </ul>
+     * No snapshot is written for schemas containing enums, domains, arrays, packages, XML schema collections or
+     * table valued functions.
+     * 
+     */
+    public String getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    /**
+     * A directory in which snapshots of the database meta data are stored, and from which they are loaded.
+     * <p>
+     * Snapshots are keyed by the {@link #getSchemaVersionProvider()} and {@link #getCatalogVersionProvider()}
+     * values, which must be constants for snapshots to be used. If a snapshot for the current versions exists,
+     * the code generator reads it using the {@link org.jooq.meta.xml.XMLDatabase} instead of connecting to the
+     * database. Otherwise, the database is introspected and a new snapshot is written after code generation.
+     * <p>
+     * A snapshot is an {@link org.jooq.util.xml.jaxb.InformationSchema}, which can't represent everything that a
+     * vendor specific database implementation can read. Code generated from a snapshot may thus differ from code
+     * generated from the database in these known ways:
+     * <ul>
+     * <li>Data types are stored by name and resolved again by the {@link org.jooq.meta.xml.XMLDatabase}, which may
+     * differ for vendor specific type names.</li>
+     * <li>Identities are stored as a flag. Identity sequence options aren't stored.</li>
+     * <li>Column defaults, generation expressions, check clauses and view sources are stored verbatim as reported
+     * by the database, and aren't normalised again.</li>
+     * <li>Routine sources, table options and table inheritance (parent and child tables) aren't stored.</li>
+     * </ul>
+     * No snapshot is written for schemas containing enums, domains, arrays, packages, XML schema collections or
+     * table valued functions.
+     * 
+     */
+    public void setSnapshotDirectory(String value) {
+        this.snapshotDirectory = value;
+    }
+
     /**
      * A custom {@link java.util.Comparator} that can compare two {@link org.jooq.meta.Definition} objects to determine their order.
      * <p>
@@ -2911,6 +2967,34 @@ public class Database implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * A directory in which snapshots of the database meta data are stored, and from which they are loaded.
+     * <p>
+     * Snapshots are keyed by the {@link #getSchemaVersionProvider()} and {@link #getCatalogVersionProvider()}
+     * values, which must be constants for snapshots to be used. If a snapshot for the current versions exists,
+     * the code generator reads it using the {@link org.jooq.meta.xml.XMLDatabase} instead of connecting to the
+     * database. Otherwise, the database is introspected and a new snapshot is written after code generation.
+     * <p>
+     * A snapshot is an {@link org.jooq.util.xml.jaxb.InformationSchema}, which can't represent everything that a
+     * vendor specific database implementation can read. Code generated from a snapshot may thus differ from code
+     * generated from the database in these known ways:
+     * <ul>
+     * <li>Data types are stored by name and resolved again by the {@link org.jooq.meta.xml.XMLDatabase}, which may
+     * differ for vendor specific type names.</li>
+     * <li>Identities are stored as a flag. Identity sequence options aren't stored.</li>
+     * <li>Column defaults, generation expressions, check clauses and view sources are stored verbatim as reported
+     * by the database, and aren't normalised again.</li>
+     * <li>Routine sources, table options and table inheritance (parent and child tables) aren't stored.</li>
+     * </ul>
+     * No snapshot is written for schemas containing enums, domains, arrays, packages, XML schema collections or
+     * table valued functions.
+     * 
+     */
+    public Database withSnapshotDirectory(String value) {
+        setSnapshotDirectory(value);
+        return this;
+    }
+
     /**
      * A custom {@link java.util.Comparator} that can compare two {@link org.jooq.meta.Definition} objects to determine their order.
      * <p>
@@ -3302,6 +3386,7 @@ public class Database implements Serializable, XMLAppendable
         builder.append("outputSchemaToDefault", outputSchemaToDefault);
         builder.append("schemaVersionProvider", schemaVersionProvider);
         builder.append("catalogVersionProvider", catalogVersionProvider);
+        builder.append("snapshotDirectory", snapshotDirectory);
         builder.append("orderProvider", orderProvider);
         builder.append("embeddablePrimaryKeys", embeddablePrimaryKeys);
         builder.append("embeddableUniqueKeys", embeddableUniqueKeys);
@@ -3842,6 +3927,15 @@ public class Database implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (snapshotDirectory == null) {
+            if (other.snapshotDirectory!= null) {
+                return false;
+            }
+        } else {
+            if (!snapshotDirectory.equals(other.snapshotDirectory)) {
+                return false;
+            }
+        }
         if (orderProvider == null) {
             if (other.orderProvider!= null) {
                 return false;
@@ -4120,6 +4214,7 @@ public class Database implements Serializable, XMLAppendable
         result = ((prime*result)+((outputSchemaToDefault == null)? 0 :outputSchemaToDefault.hashCode()));
         result = ((prime*result)+((schemaVersionProvider == null)? 0 :schemaVersionProvider.hashCode()));
         result = ((prime*result)+((catalogVersionProvider == null)? 0 :catalogVersionProvider.hashCode()));
+        result = ((prime*result)+((snapshotDirectory == null)? 0 :snapshotDirectory.hashCode()));
         result = ((prime*result)+((orderProvider == null)? 0 :orderProvider.hashCode()));
         result = ((prime*result)+((embeddablePrimaryKeys == null)? 0 :embeddablePrimaryKeys.hashCode()));
         result = ((prime*result)+((embeddableUniqueKeys == null)? 0 :embeddableUniqueKeys.hashCode()));
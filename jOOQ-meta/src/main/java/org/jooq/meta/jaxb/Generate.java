@@ -302,6 +302,10 @@ public class Generate implements Serializable, XMLAppendable
     protected Boolean renameMethodOverrides = true;
     @XmlElement(defaultValue = "true")
     protected Boolean asMethodOverrides = true;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
     @XmlElement(defaultValue = "false")
     protected Boolean hiddenColumnsInRecords = false;
     @XmlElement(defaultValue = "false")
@@ -3509,6 +3513,54 @@ public class Generate implements Serializable, XMLAppendable
         this.asMethodOverrides = value;
     }
 
+    /**
+     * The number of threads used to generate per definition files, such as tables, records, POJOs, DAOs, interfaces, UDTs and routines. <code>0</code> uses the number of available processors.
+     * <p>
+     * Generated files are identical to those of a serial run. Custom generators and generator strategies must be thread safe if this is more than <code>1</code>.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to generate per definition files, such as tables, records, POJOs, DAOs, interfaces, UDTs and routines. <code>0</code> uses the number of available processors.
+     * <p>
+     * Generated files are identical to those of a serial run. Custom generators and generator strategies must be thread safe if this is more than <code>1</code>.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * Whether to skip regenerating per definition files, such as tables, records, POJOs, DAOs, interfaces, UDTs and routines, if neither their definitions nor the code generation configuration have changed since the previous run.
+     * <p>
+     * Definition fingerprints are kept in a manifest file in the target directory. Files that are missing or that have been modified since the previous run are regenerated.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Whether to skip regenerating per definition files, such as tables, records, POJOs, DAOs, interfaces, UDTs and routines, if neither their definitions nor the code generation configuration have changed since the previous run.
+     * <p>
+     * Definition fingerprints are kept in a manifest file in the target directory. Files that are missing or that have been modified since the previous run are regenerated.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
     /**
      * Whether hidden columns should be generated in records.
      * <p>
@@ -4902,6 +4954,28 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to generate per definition files, such as tables, records, POJOs, DAOs, interfaces, UDTs and routines. <code>0</code> uses the number of available processors.
+     * <p>
+     * Generated files are identical to those of a serial run. Custom generators and generator strategies must be thread safe if this is more than <code>1</code>.
+     * 
+     */
+    public Generate withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    /**
+     * Whether to skip regenerating per definition files, such as tables, records, POJOs, DAOs, interfaces, UDTs and routines, if neither their definitions nor the code generation configuration have changed since the previous run.
+     * <p>
+     * Definition fingerprints are kept in a manifest file in the target directory. Files that are missing or that have been modified since the previous run are regenerated.
+     * 
+     */
+    public Generate withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
     /**
      * Whether hidden columns should be generated in records.
      * <p>
@@ -5080,6 +5154,8 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("whereMethodOverrides", whereMethodOverrides);
         builder.append("renameMethodOverrides", renameMethodOverrides);
         builder.append("asMethodOverrides", asMethodOverrides);
+        builder.append("parallelism", parallelism);
+        builder.append("incremental", incremental);
         builder.append("hiddenColumnsInRecords", hiddenColumnsInRecords);
         builder.append("hiddenColumnsInPojos", hiddenColumnsInPojos);
         builder.append("hiddenColumnsInInterfaces", hiddenColumnsInInterfaces);
@@ -6293,6 +6369,24 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
         if (hiddenColumnsInRecords == null) {
             if (other.hiddenColumnsInRecords!= null) {
                 return false;
@@ -6468,6 +6562,8 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((whereMethodOverrides == null)? 0 :whereMethodOverrides.hashCode()));
         result = ((prime*result)+((renameMethodOverrides == null)? 0 :renameMethodOverrides.hashCode()));
         result = ((prime*result)+((asMethodOverrides == null)? 0 :asMethodOverrides.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
         result = ((prime*result)+((hiddenColumnsInRecords == null)? 0 :hiddenColumnsInRecords.hashCode()));
         result = ((prime*result)+((hiddenColumnsInPojos == null)? 0 :hiddenColumnsInPojos.hashCode()));
         result = ((prime*result)+((hiddenColumnsInInterfaces == null)? 0 :hiddenColumnsInInterfaces.hashCode()));
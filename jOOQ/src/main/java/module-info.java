@@ -22,6 +22,9 @@ module org.jooq {
     requires static org.slf4j;
     requires static java.logging;
 
+    // JMX is used optionally for exporting metrics
+    requires static java.management;
+
     // Nullability annotations for better Kotlin interop
     requires static org.jetbrains.annotations;
 
@@ -64,4 +64,23 @@ public interface CacheProvider {
      */
     @Nullable
     Map<Object, Object> provide(CacheContext context);
+
+    /**
+     * Get the {@link CacheStatistics} of the cache of the given
+     * {@link CacheType}, which this provider provided to a
+     * {@link Configuration}.
+     * <p>
+     * By default, this returns the cache itself, if it implements
+     * {@link CacheStatistics}, which is the case for the caches provided by
+     * jOOQ's default provider. Implementations providing other caches may
+     * override this method to expose their own statistics.
+     *
+     * @return The statistics, or <code>null</code> if the cache hasn't been
+     *         initialised yet, or if it doesn't maintain any statistics.
+     */
+    @Nullable
+    default CacheStatistics statistics(Configuration configuration, CacheType type) {
+        Object cache = configuration.data(type);
+        return cache instanceof CacheStatistics ? (CacheStatistics) cache : null;
+    }
 }
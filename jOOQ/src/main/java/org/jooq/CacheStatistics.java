@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.impl.CacheType;
+
+/**
+ * Statistics about the usage of a cache of a given {@link CacheType}.
+ * <p>
+ * These statistics are obtained from
+ * {@link CacheProvider#statistics(Configuration, CacheType)}. The default
+ * caches provided by jOOQ maintain them, but third party caches may not.
+ * Values are approximate when the cache is being accessed concurrently.
+ *
+ * @author Lukas Eder
+ */
+public interface CacheStatistics {
+
+    /**
+     * The number of lookups that found a cached value.
+     */
+    long hits();
+
+    /**
+     * The number of lookups that didn't find a cached value.
+     */
+    long misses();
+
+    /**
+     * The number of values that were evicted from the cache because it grew
+     * beyond its size.
+     */
+    long evictions();
+
+    /**
+     * The number of values currently in the cache.
+     */
+    int size();
+}
@@ -4276,6 +4276,29 @@ public interface DSLContext extends Scope {
     @Support
     Result<Record> fetchFromJSON(String string);
 
+    /**
+     * Fetch data lazily from a JSON source.
+     * <p>
+     * This is the same as {@link #fetchFromJSON(String)}, except that records
+     * are read one by one from the {@link Source} as the resulting
+     * {@link Cursor} is consumed, without reading the entire document into
+     * memory first. If a <code>"fields"</code> header is present, it must
+     * precede the <code>"records"</code>, as produced by
+     * {@link Result#formatJSON()}.
+     * <p>
+     * Client code is responsible for closing the cursor after use, which
+     * closes the underlying source.
+     *
+     * @param source The JSON source
+     * @return The cursor. This will never be <code>null</code>.
+     * @throws DataAccessException If anything went wrong reading or parsing
+     *             the JSON source
+     */
+    @NotNull
+    @Support
+    @Blocking
+    Cursor<Record> fetchLazyFromJSON(Source source) throws DataAccessException;
+
     /**
      * Fetch all data from an XML string.
      * <p>
@@ -55,6 +55,9 @@ import org.jetbrains.annotations.NotNull;
  * <li>If {@link Configuration#executorProvider()} does not return
  * <code>null</code>, then {@link #provide()} is called to obtain an
  * <code>Executor</code> for the asynchronous task.</li>
+ * <li>If {@link org.jooq.conf.Settings#getExecutorType()} is
+ * {@link org.jooq.conf.ExecutorType#VIRTUAL_THREAD_PER_TASK}, then a new
+ * virtual thread is started for each asynchronous task.</li>
  * <li>In the jOOQ Java 8 distribution, {@link ForkJoinPool#commonPool()} is
  * used if <code>{@link ForkJoinPool#getCommonPoolParallelism()} &gt; 1</code></li>
  * <li>A new "one thread per call" <code>Executor</code> is used in any other
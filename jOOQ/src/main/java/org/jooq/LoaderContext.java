@@ -68,6 +68,16 @@ public interface LoaderContext {
     @Nullable @CheckReturnValue
     Object @NotNull [] row();
 
+    /**
+     * The partition that is loading the row, if
+     * {@link LoaderOptionsStep#parallelism(int)} is used, or <code>0</code>,
+     * otherwise.
+     * <p>
+     * The aggregate {@link Loader#result()} of a parallel load reports
+     * <code>-1</code>.
+     */
+    int partition();
+
     /**
      * A list of errors that might have happened during the load.
      */
@@ -347,4 +347,45 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Load data in parallel on a given number of connections.
+     * <p>
+     * The input is read on the calling thread and handed to <code>n</code>
+     * worker threads in chunks of consecutive rows. Each worker acquires its
+     * own connection from the {@link Configuration#connectionProvider()} and
+     * applies the BULK, BATCH, and COMMIT OPTIONS to its chunks independently.
+     * Chunks always contain a whole number of committed row groups, so
+     * {@link #commitAfter(int)} keeps its meaning per connection. With
+     * {@link #commitAll()}, every connection is rolled back if any connection
+     * encountered an error, or committed otherwise.
+     * <p>
+     * Row listeners are invoked concurrently from the worker threads. The
+     * {@link LoaderContext} passed to them reports the worker's
+     * {@link LoaderContext#partition()} and that partition's errors and
+     * counts, whereas {@link Loader#processed()}, {@link Loader#stored()},
+     * etc. report the aggregate counts after loading.
+     * <p>
+     * Parallel loading requires a {@link ConnectionProvider} that provides
+     * distinct connections, e.g. one backed by a connection pool. All
+     * connections are acquired before loading starts, and if the provider
+     * returns the same connection more than once, e.g. because it wraps a
+     * single or a transaction bound connection, data is loaded sequentially.
+     * The workers run on <code>n</code> dedicated threads owned by the loader,
+     * not on the {@link Configuration#executorProvider()}, as they stay busy
+     * for the entire load and have to wait for each other before committing
+     * with {@link #commitAll()}. If you
+     * don't specify a PARALLELISM, data is loaded sequentially on a single
+     * connection.
+     *
+     * @param n The number of connections used in parallel. Must be at least
+     *            <code>1</code>.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallelism(int n);
 }
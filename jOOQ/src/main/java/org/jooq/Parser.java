@@ -331,4 +331,22 @@ public interface Parser {
     @Support
     @PlainSQL
     Name parseName(String sql, Object... bindings) throws ParserException;
+
+    /**
+     * Compute a normalised fingerprint of a SQL string.
+     * <p>
+     * This is a lightweight, lexical operation that doesn't parse the SQL
+     * string into a query object model, and thus never fails on unsupported
+     * syntax. Comments are removed, whitespace is collapsed, keywords and
+     * unquoted identifiers are upper cased, and literals as well as bind
+     * markers are replaced by <code>?</code>. Two SQL strings that differ only
+     * in these aspects produce the same fingerprint, which is useful e.g. for
+     * caching or grouping statements.
+     * <p>
+     * The fingerprint is not meant to be parsed or executed again.
+     *
+     * @param sql The SQL string
+     */
+    @NotNull
+    String fingerprint(String sql);
 }
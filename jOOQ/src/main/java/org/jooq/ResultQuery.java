@@ -38,6 +38,8 @@
 
 package org.jooq;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -170,6 +172,38 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @Blocking
     Result<R> fetch() throws DataAccessException;
 
+    /**
+     * Execute the query and return the generated result in a read-only,
+     * column oriented representation.
+     * <p>
+     * This is useful for large, read-only results, e.g. for analytics.
+     * Rather than keeping a {@link Record} per row, including its original
+     * values and its changed flags, the values are kept in one array per
+     * column. {@link Integer}, {@link Long}, and {@link Double} columns are
+     * stored in primitive arrays. {@link Record} objects are created only when
+     * they are accessed, e.g. via {@link Result#get(int)} or iteration, and
+     * they are not retained by the {@link Result}.
+     * <p>
+     * Methods that only access values, such as
+     * {@link Result#getValues(int)}, {@link Result#intoArray(int)},
+     * {@link Result#intoMap(int, int)}, {@link Result#intoGroups(int, int)},
+     * {@link Result#intoGroups(int)}, or {@link Result#sortAsc(int)} operate
+     * on the columns directly.
+     * <p>
+     * The returned {@link Result} cannot be modified, except for sorting.
+     * Modifications to the {@link Record} objects it produces do not affect
+     * its contents.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles,
+     * eagerly fetching all results into memory, just like {@link #fetch()}.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Blocking
+    Result<R> fetchColumnar() throws DataAccessException;
+
     /**
      * Execute the query and return the generated result as a JDBC
      * {@link ResultSet}.
@@ -437,6 +471,76 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @Blocking
     Cursor<R> fetchLazy() throws DataAccessException;
 
+    /**
+     * Execute the query and format its result as JSON to a {@link Writer}.
+     * <p>
+     * This produces the same output as {@link #fetchLazy()} and
+     * {@link Cursor#formatJSON(Writer, JSONFormat)}, but where possible, values
+     * are written directly from the JDBC {@link ResultSet} using the
+     * {@link Field#getBinding()} of each projected column, without creating
+     * any intermediary {@link Record} objects. This is useful for exporting
+     * large results, e.g. to an HTTP response.
+     * <p>
+     * As no {@link Record} objects are created, {@link ExecuteListener}
+     * implementations are not notified of any
+     * {@link ExecuteListener#recordStart(ExecuteContext)} or
+     * {@link ExecuteListener#resultStart(ExecuteContext)} events, and
+     * {@link RecordListener} implementations are not notified of any
+     * {@link RecordListener#loadStart(RecordContext)} events.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    @Blocking
+    void formatJSON(Writer writer, JSONFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Execute the query and format its result as UTF-8 encoded JSON to an
+     * {@link OutputStream}.
+     * <p>
+     * This is the same as {@link #formatJSON(Writer, JSONFormat)}, except that
+     * characters are encoded directly into the stream. The stream is flushed,
+     * but not closed.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    @Blocking
+    void formatJSON(OutputStream stream, JSONFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Execute the query and format its result as CSV to a {@link Writer}.
+     * <p>
+     * This produces the same output as {@link #fetchLazy()} and
+     * {@link Cursor#formatCSV(Writer, CSVFormat)}, but where possible, values
+     * are written directly from the JDBC {@link ResultSet}, without creating
+     * any intermediary {@link Record} objects. See
+     * {@link #formatJSON(Writer, JSONFormat)} for details.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    @Blocking
+    void formatCSV(Writer writer, CSVFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Execute the query and format its result as UTF-8 encoded CSV to an
+     * {@link OutputStream}.
+     * <p>
+     * This is the same as {@link #formatCSV(Writer, CSVFormat)}, except that
+     * characters are encoded directly into the stream. The stream is flushed,
+     * but not closed.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    @Blocking
+    void formatCSV(OutputStream stream, CSVFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
     /**
      * Execute a query, possibly returning several result sets.
      * <p>
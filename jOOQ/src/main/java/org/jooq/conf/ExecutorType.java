@@ -0,0 +1,46 @@
+package org.jooq.conf;
+
+import jakarta.xml.bind.annotation.XmlEnum;
+import jakarta.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for ExecutorType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="ExecutorType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="DEFAULT"/&gt;
+ *     &lt;enumeration value="VIRTUAL_THREAD_PER_TASK"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "ExecutorType")
+@XmlEnum
+public enum ExecutorType {
+
+
+    /**
+     * Asynchronous executions run on the common ForkJoinPool, or on a new thread per task, if the common pool's parallelism is 1.
+     * 
+     */
+    DEFAULT,
+
+    /**
+     * Asynchronous executions run on a new virtual thread per task.
+     * 
+     */
+    VIRTUAL_THREAD_PER_TASK;
+
+    public String value() {
+        return name();
+    }
+
+    public static ExecutorType fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
@@ -363,6 +363,14 @@ public class Settings
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected DiagnosticsConnection diagnosticsConnection = DiagnosticsConnection.DEFAULT;
+    @XmlElement(defaultValue = "50000")
+    protected Integer diagnosticsDuplicateStatementsLRUCacheSize = 50000;
+    @XmlElement(defaultValue = "500")
+    protected Integer diagnosticsRepeatedStatementsLRUCacheSize = 500;
+    @XmlElement(defaultValue = "500")
+    protected Integer diagnosticsStatementVariantsLimit = 500;
+    @XmlElement(defaultValue = "1")
+    protected Integer diagnosticsSampleRate = 1;
     @XmlElement(defaultValue = "true")
     protected Boolean updateRecordVersion = true;
     @XmlElement(defaultValue = "true")
@@ -389,10 +397,20 @@ public class Settings
     protected Boolean cacheRecordMappers = true;
     @XmlElement(defaultValue = "true")
     protected Boolean cacheParsingConnection = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheParsingConnectionNormaliseLiterals = false;
+    @XmlElement(defaultValue = "true")
+    protected Boolean cacheDiagnosticsConnection = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheRenderedQueries = false;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
     @XmlElement(defaultValue = "8192")
+    protected Integer cacheDiagnosticsConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "8192")
     protected Integer cacheRecordMappersLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheRenderedQueriesLRUCacheSize = 8192;
     @XmlElement(defaultValue = "32768")
     protected Integer reflectionCacheLRUCacheSize = 32768;
     @XmlElement(defaultValue = "true")
@@ -435,6 +453,13 @@ public class Settings
     protected Integer fetchSize = 0;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
+    @XmlElement(defaultValue = "0")
+    protected Integer r2dbcPrefetch = 0;
+    @XmlElement(defaultValue = "0")
+    protected Integer r2dbcPrefetchLowWatermark = 0;
+    @XmlElement(defaultValue = "DEFAULT")
+    @XmlSchemaType(name = "string")
+    protected ExecutorType executorType = ExecutorType.DEFAULT;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
@@ -483,6 +508,8 @@ public class Settings
     protected Boolean metaIncludeSystemIndexes = false;
     @XmlElement(defaultValue = "false")
     protected Boolean metaIncludeSystemSequences = false;
+    @XmlElement(defaultValue = "1")
+    protected Integer metaParallelism = 1;
     protected MigrationSchema migrationHistorySchema;
     @XmlElement(defaultValue = "false")
     protected Boolean migrationHistorySchemaCreateSchemaIfNotExists = false;
@@ -5052,6 +5079,70 @@ public class Settings
         this.diagnosticsConnection = value;
     }
 
+    /**
+     * The maximum number of normalised statements that the DiagnosticsConnection remembers per configuration for the duplicate statements diagnostic.
+     * 
+     */
+    public Integer getDiagnosticsDuplicateStatementsLRUCacheSize() {
+        return diagnosticsDuplicateStatementsLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of normalised statements that the DiagnosticsConnection remembers per configuration for the duplicate statements diagnostic.
+     * 
+     */
+    public void setDiagnosticsDuplicateStatementsLRUCacheSize(Integer value) {
+        this.diagnosticsDuplicateStatementsLRUCacheSize = value;
+    }
+
+    /**
+     * The maximum number of normalised statements that the DiagnosticsConnection remembers per transaction (or per configuration, outside of transactions) for the repeated statements and consecutive aggregation diagnostics.
+     * 
+     */
+    public Integer getDiagnosticsRepeatedStatementsLRUCacheSize() {
+        return diagnosticsRepeatedStatementsLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of normalised statements that the DiagnosticsConnection remembers per transaction (or per configuration, outside of transactions) for the repeated statements and consecutive aggregation diagnostics.
+     * 
+     */
+    public void setDiagnosticsRepeatedStatementsLRUCacheSize(Integer value) {
+        this.diagnosticsRepeatedStatementsLRUCacheSize = value;
+    }
+
+    /**
+     * The maximum number of distinct or repeated SQL strings that the DiagnosticsConnection remembers per normalised statement.
+     * 
+     */
+    public Integer getDiagnosticsStatementVariantsLimit() {
+        return diagnosticsStatementVariantsLimit;
+    }
+
+    /**
+     * The maximum number of distinct or repeated SQL strings that the DiagnosticsConnection remembers per normalised statement.
+     * 
+     */
+    public void setDiagnosticsStatementVariantsLimit(Integer value) {
+        this.diagnosticsStatementVariantsLimit = value;
+    }
+
+    /**
+     * The rate at which the DiagnosticsConnection samples statements for analysis: 1 in N statements, chosen at random, is analysed. The default of 1 analyses all statements.
+     * 
+     */
+    public Integer getDiagnosticsSampleRate() {
+        return diagnosticsSampleRate;
+    }
+
+    /**
+     * The rate at which the DiagnosticsConnection samples statements for analysis: 1 in N statements, chosen at random, is analysed. The default of 1 analyses all statements.
+     * 
+     */
+    public void setDiagnosticsSampleRate(Integer value) {
+        this.diagnosticsSampleRate = value;
+    }
+
     /**
      * Whether store(), insert(), and update() methods should update the record version prior to the operation, for use with {@link #executeWithOptimisticLocking}.
      * 
@@ -5336,6 +5427,86 @@ public class Settings
         this.cacheParsingConnection = value;
     }
 
+    /**
+     * Whether the ParsingConnection should replace inline numeric literals by bind values prior to looking up translations in its cache, such that statements differing only in their literals share a translation.
+     * <p>
+     * This only applies to numeric literals in comparison predicates, <code>LIKE</code>, <code>BETWEEN</code>, <code>IN</code> lists, and <code>VALUES</code> rows, and only when the {@link ParamType} is {@link ParamType#INDEXED}. Statements sent to the server will then contain bind values rather than the original literals. This is turned off by default.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParsingConnectionNormaliseLiterals() {
+        return cacheParsingConnectionNormaliseLiterals;
+    }
+
+    /**
+     * Whether the ParsingConnection should replace inline numeric literals by bind values prior to looking up translations in its cache, such that statements differing only in their literals share a translation.
+     * <p>
+     * This only applies to numeric literals in comparison predicates, <code>LIKE</code>, <code>BETWEEN</code>, <code>IN</code> lists, and <code>VALUES</code> rows, and only when the {@link ParamType} is {@link ParamType#INDEXED}. Statements sent to the server will then contain bind values rather than the original literals. This is turned off by default.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParsingConnectionNormaliseLiterals(Boolean value) {
+        this.cacheParsingConnectionNormaliseLiterals = value;
+    }
+
+    /**
+     * Whether the DiagnosticsConnection should cache the normalised form of SQL strings in the configuration, to avoid parsing repeated statements.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheDiagnosticsConnection() {
+        return cacheDiagnosticsConnection;
+    }
+
+    /**
+     * Whether the DiagnosticsConnection should cache the normalised form of SQL strings in the configuration, to avoid parsing repeated statements.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheDiagnosticsConnection(Boolean value) {
+        this.cacheDiagnosticsConnection = value;
+    }
+
+    /**
+     * Whether rendered SQL strings of structurally identical queries should be cached in the configuration, such that repeated executions only need to collect bind values.
+     * <p>
+     * This is an experimental feature, which is turned off by default. Queries are fingerprinted based on their query part tree excluding bind values, the SQL dialect, and the configuration's settings.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheRenderedQueries() {
+        return cacheRenderedQueries;
+    }
+
+    /**
+     * Whether rendered SQL strings of structurally identical queries should be cached in the configuration, such that repeated executions only need to collect bind values.
+     * <p>
+     * This is an experimental feature, which is turned off by default. Queries are fingerprinted based on their query part tree excluding bind values, the SQL dialect, and the configuration's settings.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheRenderedQueries(Boolean value) {
+        this.cacheRenderedQueries = value;
+    }
+
     /**
      * The default value of the ParsingConnection cache's LRU cache size.
      * 
@@ -5352,6 +5523,22 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * The default value of the DiagnosticsConnection cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheDiagnosticsConnectionLRUCacheSize() {
+        return cacheDiagnosticsConnectionLRUCacheSize;
+    }
+
+    /**
+     * The default value of the DiagnosticsConnection cache's LRU cache size.
+     * 
+     */
+    public void setCacheDiagnosticsConnectionLRUCacheSize(Integer value) {
+        this.cacheDiagnosticsConnectionLRUCacheSize = value;
+    }
+
     /**
      * The default value of the RecordMapper cache's LRU cache size.
      * 
@@ -5368,6 +5555,22 @@ public class Settings
         this.cacheRecordMappersLRUCacheSize = value;
     }
 
+    /**
+     * The default value of the rendered query cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheRenderedQueriesLRUCacheSize() {
+        return cacheRenderedQueriesLRUCacheSize;
+    }
+
+    /**
+     * The default value of the rendered query cache's LRU cache size.
+     * 
+     */
+    public void setCacheRenderedQueriesLRUCacheSize(Integer value) {
+        this.cacheRenderedQueriesLRUCacheSize = value;
+    }
+
     /**
      * The default value of the reflection cache's LRU cache size.
      * 
@@ -5802,6 +6005,62 @@ public class Settings
         this.batchSize = value;
     }
 
+    /**
+     * The number of rows that are requested from an R2DBC result ahead of downstream demand, and that may be buffered per result.
+     * <p>
+     * If this is <code>0</code>, rows are requested from the R2DBC driver only as they are requested downstream. Otherwise, this is the high watermark of rows that are requested from the driver or buffered but not yet consumed downstream. If no explicit fetchSize is specified, it is also used as the R2DBC statement's fetch size.
+     * 
+     */
+    public Integer getR2dbcPrefetch() {
+        return r2dbcPrefetch;
+    }
+
+    /**
+     * The number of rows that are requested from an R2DBC result ahead of downstream demand, and that may be buffered per result.
+     * <p>
+     * If this is <code>0</code>, rows are requested from the R2DBC driver only as they are requested downstream. Otherwise, this is the high watermark of rows that are requested from the driver or buffered but not yet consumed downstream. If no explicit fetchSize is specified, it is also used as the R2DBC statement's fetch size.
+     * 
+     */
+    public void setR2dbcPrefetch(Integer value) {
+        this.r2dbcPrefetch = value;
+    }
+
+    /**
+     * The low watermark of rows that are requested from an R2DBC result or buffered, at which more rows are requested up to {@link #getR2dbcPrefetch()}.
+     * <p>
+     * If this is <code>0</code>, a quarter of {@link #getR2dbcPrefetch()} is used.
+     * 
+     */
+    public Integer getR2dbcPrefetchLowWatermark() {
+        return r2dbcPrefetchLowWatermark;
+    }
+
+    /**
+     * The low watermark of rows that are requested from an R2DBC result or buffered, at which more rows are requested up to {@link #getR2dbcPrefetch()}.
+     * <p>
+     * If this is <code>0</code>, a quarter of {@link #getR2dbcPrefetch()} is used.
+     * 
+     */
+    public void setR2dbcPrefetchLowWatermark(Integer value) {
+        this.r2dbcPrefetchLowWatermark = value;
+    }
+
+    /**
+     * The type of {@link java.util.concurrent.Executor} that is provided by default if no explicit {@link org.jooq.ExecutorProvider} is configured, e.g. for {@link org.jooq.ResultQuery#fetchAsync()}, {@link org.jooq.Query#executeAsync()}, or {@link org.jooq.DSLContext#transactionAsync(org.jooq.TransactionalRunnable)}.
+     * 
+     */
+    public ExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    /**
+     * The type of {@link java.util.concurrent.Executor} that is provided by default if no explicit {@link org.jooq.ExecutorProvider} is configured, e.g. for {@link org.jooq.ResultQuery#fetchAsync()}, {@link org.jooq.Query#executeAsync()}, or {@link org.jooq.DSLContext#transactionAsync(org.jooq.TransactionalRunnable)}.
+     * 
+     */
+    public void setExecutorType(ExecutorType value) {
+        this.executorType = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -6212,6 +6471,22 @@ public class Settings
         this.metaIncludeSystemSequences = value;
     }
 
+    /**
+     * The maximum number of schemas whose meta data the {@link org.jooq.Meta} implementation that is backed by {@link java.sql.DatabaseMetaData} loads concurrently in {@link org.jooq.Meta#snapshot()}, each on its own connection, using the {@link org.jooq.Configuration#executorProvider()}. The default of 1 loads schemas sequentially. Values greater than 1 require the {@link org.jooq.ConnectionProvider} to return distinct connections from concurrent {@link org.jooq.ConnectionProvider#acquire()} calls.
+     * 
+     */
+    public Integer getMetaParallelism() {
+        return metaParallelism;
+    }
+
+    /**
+     * The maximum number of schemas whose meta data the {@link org.jooq.Meta} implementation that is backed by {@link java.sql.DatabaseMetaData} loads concurrently in {@link org.jooq.Meta#snapshot()}, each on its own connection, using the {@link org.jooq.Configuration#executorProvider()}. The default of 1 loads schemas sequentially. Values greater than 1 require the {@link org.jooq.ConnectionProvider} to return distinct connections from concurrent {@link org.jooq.ConnectionProvider#acquire()} calls.
+     * 
+     */
+    public void setMetaParallelism(Integer value) {
+        this.metaParallelism = value;
+    }
+
     /**
      * The database schema where the migration history is located.
      * 
@@ -9257,6 +9532,42 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of normalised statements that the DiagnosticsConnection remembers per configuration for the duplicate statements diagnostic.
+     * 
+     */
+    public Settings withDiagnosticsDuplicateStatementsLRUCacheSize(Integer value) {
+        setDiagnosticsDuplicateStatementsLRUCacheSize(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of normalised statements that the DiagnosticsConnection remembers per transaction (or per configuration, outside of transactions) for the repeated statements and consecutive aggregation diagnostics.
+     * 
+     */
+    public Settings withDiagnosticsRepeatedStatementsLRUCacheSize(Integer value) {
+        setDiagnosticsRepeatedStatementsLRUCacheSize(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of distinct or repeated SQL strings that the DiagnosticsConnection remembers per normalised statement.
+     * 
+     */
+    public Settings withDiagnosticsStatementVariantsLimit(Integer value) {
+        setDiagnosticsStatementVariantsLimit(value);
+        return this;
+    }
+
+    /**
+     * The rate at which the DiagnosticsConnection samples statements for analysis: 1 in N statements, chosen at random, is analysed. The default of 1 analyses all statements.
+     * 
+     */
+    public Settings withDiagnosticsSampleRate(Integer value) {
+        setDiagnosticsSampleRate(value);
+        return this;
+    }
+
     /**
      * Whether store(), insert(), and update() methods should update the record version prior to the operation, for use with {@link #executeWithOptimisticLocking}.
      * 
@@ -9371,6 +9682,37 @@ public class Settings
         return this;
     }
 
+    /**
+     * Whether the ParsingConnection should replace inline numeric literals by bind values prior to looking up translations in its cache, such that statements differing only in their literals share a translation.
+     * <p>
+     * This only applies to numeric literals in comparison predicates, <code>LIKE</code>, <code>BETWEEN</code>, <code>IN</code> lists, and <code>VALUES</code> rows, and only when the {@link ParamType} is {@link ParamType#INDEXED}. Statements sent to the server will then contain bind values rather than the original literals. This is turned off by default.
+     * 
+     */
+    public Settings withCacheParsingConnectionNormaliseLiterals(Boolean value) {
+        setCacheParsingConnectionNormaliseLiterals(value);
+        return this;
+    }
+
+    /**
+     * Whether the DiagnosticsConnection should cache the normalised form of SQL strings in the configuration, to avoid parsing repeated statements.
+     * 
+     */
+    public Settings withCacheDiagnosticsConnection(Boolean value) {
+        setCacheDiagnosticsConnection(value);
+        return this;
+    }
+
+    /**
+     * Whether rendered SQL strings of structurally identical queries should be cached in the configuration, such that repeated executions only need to collect bind values.
+     * <p>
+     * This is an experimental feature, which is turned off by default. Queries are fingerprinted based on their query part tree excluding bind values, the SQL dialect, and the configuration's settings.
+     * 
+     */
+    public Settings withCacheRenderedQueries(Boolean value) {
+        setCacheRenderedQueries(value);
+        return this;
+    }
+
     /**
      * The default value of the ParsingConnection cache's LRU cache size.
      * 
@@ -9380,6 +9722,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * The default value of the DiagnosticsConnection cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheDiagnosticsConnectionLRUCacheSize(Integer value) {
+        setCacheDiagnosticsConnectionLRUCacheSize(value);
+        return this;
+    }
+
     /**
      * The default value of the RecordMapper cache's LRU cache size.
      * 
@@ -9389,6 +9740,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * The default value of the rendered query cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheRenderedQueriesLRUCacheSize(Integer value) {
+        setCacheRenderedQueriesLRUCacheSize(value);
+        return this;
+    }
+
     /**
      * The default value of the reflection cache's LRU cache size.
      * 
@@ -9578,6 +9938,37 @@ public class Settings
         return this;
     }
 
+    /**
+     * The number of rows that are requested from an R2DBC result ahead of downstream demand, and that may be buffered per result.
+     * <p>
+     * If this is <code>0</code>, rows are requested from the R2DBC driver only as they are requested downstream. Otherwise, this is the high watermark of rows that are requested from the driver or buffered but not yet consumed downstream. If no explicit fetchSize is specified, it is also used as the R2DBC statement's fetch size.
+     * 
+     */
+    public Settings withR2dbcPrefetch(Integer value) {
+        setR2dbcPrefetch(value);
+        return this;
+    }
+
+    /**
+     * The low watermark of rows that are requested from an R2DBC result or buffered, at which more rows are requested up to {@link #getR2dbcPrefetch()}.
+     * <p>
+     * If this is <code>0</code>, a quarter of {@link #getR2dbcPrefetch()} is used.
+     * 
+     */
+    public Settings withR2dbcPrefetchLowWatermark(Integer value) {
+        setR2dbcPrefetchLowWatermark(value);
+        return this;
+    }
+
+    /**
+     * The type of {@link java.util.concurrent.Executor} that is provided by default if no explicit {@link org.jooq.ExecutorProvider} is configured, e.g. for {@link org.jooq.ResultQuery#fetchAsync()}, {@link org.jooq.Query#executeAsync()}, or {@link org.jooq.DSLContext#transactionAsync(org.jooq.TransactionalRunnable)}.
+     * 
+     */
+    public Settings withExecutorType(ExecutorType value) {
+        setExecutorType(value);
+        return this;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -9763,6 +10154,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of schemas whose meta data the {@link org.jooq.Meta} implementation that is backed by {@link java.sql.DatabaseMetaData} loads concurrently in {@link org.jooq.Meta#snapshot()}, each on its own connection, using the {@link org.jooq.Configuration#executorProvider()}. The default of 1 loads schemas sequentially. Values greater than 1 require the {@link org.jooq.ConnectionProvider} to return distinct connections from concurrent {@link org.jooq.ConnectionProvider#acquire()} calls.
+     * 
+     */
+    public Settings withMetaParallelism(Integer value) {
+        setMetaParallelism(value);
+        return this;
+    }
+
     /**
      * The database schema where the migration history is located.
      * 
@@ -10445,6 +10845,10 @@ public class Settings
         builder.append("executeLoggingSQLExceptions", executeLoggingSQLExceptions);
         builder.append("diagnosticsLogging", diagnosticsLogging);
         builder.append("diagnosticsConnection", diagnosticsConnection);
+        builder.append("diagnosticsDuplicateStatementsLRUCacheSize", diagnosticsDuplicateStatementsLRUCacheSize);
+        builder.append("diagnosticsRepeatedStatementsLRUCacheSize", diagnosticsRepeatedStatementsLRUCacheSize);
+        builder.append("diagnosticsStatementVariantsLimit", diagnosticsStatementVariantsLimit);
+        builder.append("diagnosticsSampleRate", diagnosticsSampleRate);
         builder.append("updateRecordVersion", updateRecordVersion);
         builder.append("updateRecordTimestamp", updateRecordTimestamp);
         builder.append("executeWithOptimisticLocking", executeWithOptimisticLocking);
@@ -10457,8 +10861,13 @@ public class Settings
         builder.append("reflectionCaching", reflectionCaching);
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cacheParsingConnection", cacheParsingConnection);
+        builder.append("cacheParsingConnectionNormaliseLiterals", cacheParsingConnectionNormaliseLiterals);
+        builder.append("cacheDiagnosticsConnection", cacheDiagnosticsConnection);
+        builder.append("cacheRenderedQueries", cacheRenderedQueries);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheDiagnosticsConnectionLRUCacheSize", cacheDiagnosticsConnectionLRUCacheSize);
         builder.append("cacheRecordMappersLRUCacheSize", cacheRecordMappersLRUCacheSize);
+        builder.append("cacheRenderedQueriesLRUCacheSize", cacheRenderedQueriesLRUCacheSize);
         builder.append("reflectionCacheLRUCacheSize", reflectionCacheLRUCacheSize);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
         builder.append("throwExceptions", throwExceptions);
@@ -10479,6 +10888,9 @@ public class Settings
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
         builder.append("batchSize", batchSize);
+        builder.append("r2dbcPrefetch", r2dbcPrefetch);
+        builder.append("r2dbcPrefetchLowWatermark", r2dbcPrefetchLowWatermark);
+        builder.append("executorType", executorType);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
@@ -10499,6 +10911,7 @@ public class Settings
         builder.append("interpreterWithMetaLookups", interpreterWithMetaLookups);
         builder.append("metaIncludeSystemIndexes", metaIncludeSystemIndexes);
         builder.append("metaIncludeSystemSequences", metaIncludeSystemSequences);
+        builder.append("metaParallelism", metaParallelism);
         builder.append("migrationHistorySchema", migrationHistorySchema);
         builder.append("migrationHistorySchemaCreateSchemaIfNotExists", migrationHistorySchemaCreateSchemaIfNotExists);
         builder.append("migrationDefaultSchema", migrationDefaultSchema);
@@ -11869,6 +12282,42 @@ public class Settings
                 return false;
             }
         }
+        if (diagnosticsDuplicateStatementsLRUCacheSize == null) {
+            if (other.diagnosticsDuplicateStatementsLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsDuplicateStatementsLRUCacheSize.equals(other.diagnosticsDuplicateStatementsLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsRepeatedStatementsLRUCacheSize == null) {
+            if (other.diagnosticsRepeatedStatementsLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsRepeatedStatementsLRUCacheSize.equals(other.diagnosticsRepeatedStatementsLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsStatementVariantsLimit == null) {
+            if (other.diagnosticsStatementVariantsLimit!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsStatementVariantsLimit.equals(other.diagnosticsStatementVariantsLimit)) {
+                return false;
+            }
+        }
+        if (diagnosticsSampleRate == null) {
+            if (other.diagnosticsSampleRate!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSampleRate.equals(other.diagnosticsSampleRate)) {
+                return false;
+            }
+        }
         if (updateRecordVersion == null) {
             if (other.updateRecordVersion!= null) {
                 return false;
@@ -11977,6 +12426,33 @@ public class Settings
                 return false;
             }
         }
+        if (cacheParsingConnectionNormaliseLiterals == null) {
+            if (other.cacheParsingConnectionNormaliseLiterals!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnectionNormaliseLiterals.equals(other.cacheParsingConnectionNormaliseLiterals)) {
+                return false;
+            }
+        }
+        if (cacheDiagnosticsConnection == null) {
+            if (other.cacheDiagnosticsConnection!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheDiagnosticsConnection.equals(other.cacheDiagnosticsConnection)) {
+                return false;
+            }
+        }
+        if (cacheRenderedQueries == null) {
+            if (other.cacheRenderedQueries!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedQueries.equals(other.cacheRenderedQueries)) {
+                return false;
+            }
+        }
         if (cacheParsingConnectionLRUCacheSize == null) {
             if (other.cacheParsingConnectionLRUCacheSize!= null) {
                 return false;
@@ -11986,6 +12462,15 @@ public class Settings
                 return false;
             }
         }
+        if (cacheDiagnosticsConnectionLRUCacheSize == null) {
+            if (other.cacheDiagnosticsConnectionLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheDiagnosticsConnectionLRUCacheSize.equals(other.cacheDiagnosticsConnectionLRUCacheSize)) {
+                return false;
+            }
+        }
         if (cacheRecordMappersLRUCacheSize == null) {
             if (other.cacheRecordMappersLRUCacheSize!= null) {
                 return false;
@@ -11995,6 +12480,15 @@ public class Settings
                 return false;
             }
         }
+        if (cacheRenderedQueriesLRUCacheSize == null) {
+            if (other.cacheRenderedQueriesLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedQueriesLRUCacheSize.equals(other.cacheRenderedQueriesLRUCacheSize)) {
+                return false;
+            }
+        }
         if (reflectionCacheLRUCacheSize == null) {
             if (other.reflectionCacheLRUCacheSize!= null) {
                 return false;
@@ -12175,6 +12669,33 @@ public class Settings
                 return false;
             }
         }
+        if (r2dbcPrefetch == null) {
+            if (other.r2dbcPrefetch!= null) {
+                return false;
+            }
+        } else {
+            if (!r2dbcPrefetch.equals(other.r2dbcPrefetch)) {
+                return false;
+            }
+        }
+        if (r2dbcPrefetchLowWatermark == null) {
+            if (other.r2dbcPrefetchLowWatermark!= null) {
+                return false;
+            }
+        } else {
+            if (!r2dbcPrefetchLowWatermark.equals(other.r2dbcPrefetchLowWatermark)) {
+                return false;
+            }
+        }
+        if (executorType == null) {
+            if (other.executorType!= null) {
+                return false;
+            }
+        } else {
+            if (!executorType.equals(other.executorType)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -12355,6 +12876,15 @@ public class Settings
                 return false;
             }
         }
+        if (metaParallelism == null) {
+            if (other.metaParallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!metaParallelism.equals(other.metaParallelism)) {
+                return false;
+            }
+        }
         if (migrationHistorySchema == null) {
             if (other.migrationHistorySchema!= null) {
                 return false;
@@ -12983,6 +13513,10 @@ public class Settings
         result = ((prime*result)+((executeLoggingSQLExceptions == null)? 0 :executeLoggingSQLExceptions.hashCode()));
         result = ((prime*result)+((diagnosticsLogging == null)? 0 :diagnosticsLogging.hashCode()));
         result = ((prime*result)+((diagnosticsConnection == null)? 0 :diagnosticsConnection.hashCode()));
+        result = ((prime*result)+((diagnosticsDuplicateStatementsLRUCacheSize == null)? 0 :diagnosticsDuplicateStatementsLRUCacheSize.hashCode()));
+        result = ((prime*result)+((diagnosticsRepeatedStatementsLRUCacheSize == null)? 0 :diagnosticsRepeatedStatementsLRUCacheSize.hashCode()));
+        result = ((prime*result)+((diagnosticsStatementVariantsLimit == null)? 0 :diagnosticsStatementVariantsLimit.hashCode()));
+        result = ((prime*result)+((diagnosticsSampleRate == null)? 0 :diagnosticsSampleRate.hashCode()));
         result = ((prime*result)+((updateRecordVersion == null)? 0 :updateRecordVersion.hashCode()));
         result = ((prime*result)+((updateRecordTimestamp == null)? 0 :updateRecordTimestamp.hashCode()));
         result = ((prime*result)+((executeWithOptimisticLocking == null)? 0 :executeWithOptimisticLocking.hashCode()));
@@ -12995,8 +13529,13 @@ public class Settings
         result = ((prime*result)+((reflectionCaching == null)? 0 :reflectionCaching.hashCode()));
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
+        result = ((prime*result)+((cacheParsingConnectionNormaliseLiterals == null)? 0 :cacheParsingConnectionNormaliseLiterals.hashCode()));
+        result = ((prime*result)+((cacheDiagnosticsConnection == null)? 0 :cacheDiagnosticsConnection.hashCode()));
+        result = ((prime*result)+((cacheRenderedQueries == null)? 0 :cacheRenderedQueries.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheDiagnosticsConnectionLRUCacheSize == null)? 0 :cacheDiagnosticsConnectionLRUCacheSize.hashCode()));
         result = ((prime*result)+((cacheRecordMappersLRUCacheSize == null)? 0 :cacheRecordMappersLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheRenderedQueriesLRUCacheSize == null)? 0 :cacheRenderedQueriesLRUCacheSize.hashCode()));
         result = ((prime*result)+((reflectionCacheLRUCacheSize == null)? 0 :reflectionCacheLRUCacheSize.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
@@ -13017,6 +13556,9 @@ public class Settings
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
+        result = ((prime*result)+((r2dbcPrefetch == null)? 0 :r2dbcPrefetch.hashCode()));
+        result = ((prime*result)+((r2dbcPrefetchLowWatermark == null)? 0 :r2dbcPrefetchLowWatermark.hashCode()));
+        result = ((prime*result)+((executorType == null)? 0 :executorType.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
@@ -13037,6 +13579,7 @@ public class Settings
         result = ((prime*result)+((interpreterWithMetaLookups == null)? 0 :interpreterWithMetaLookups.hashCode()));
         result = ((prime*result)+((metaIncludeSystemIndexes == null)? 0 :metaIncludeSystemIndexes.hashCode()));
         result = ((prime*result)+((metaIncludeSystemSequences == null)? 0 :metaIncludeSystemSequences.hashCode()));
+        result = ((prime*result)+((metaParallelism == null)? 0 :metaParallelism.hashCode()));
         result = ((prime*result)+((migrationHistorySchema == null)? 0 :migrationHistorySchema.hashCode()));
         result = ((prime*result)+((migrationHistorySchemaCreateSchemaIfNotExists == null)? 0 :migrationHistorySchemaCreateSchemaIfNotExists.hashCode()));
         result = ((prime*result)+((migrationDefaultSchema == null)? 0 :migrationDefaultSchema.hashCode()));
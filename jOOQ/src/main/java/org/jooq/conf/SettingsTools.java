@@ -203,6 +203,20 @@ public final class SettingsTools {
         return defaultIfNull(settings.isCacheParsingConnection(), true);
     }
 
+    /**
+     * Whether diagnostics connection caching is active.
+     */
+    public static final boolean diagnosticsConnectionCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheDiagnosticsConnection(), true);
+    }
+
+    /**
+     * Whether rendered query caching is active.
+     */
+    public static final boolean renderedQueryCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheRenderedQueries(), false);
+    }
+
     /**
      * The render locale that is applicable, or the default locale if no such
      * locale is configured.
@@ -103,12 +103,12 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext sql(String sql) {
+    public BindContext sql(String sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(String sql, boolean literal) {
+    public BindContext sql(String sql, boolean literal) {
         return this;
     }
 
@@ -133,7 +133,7 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext sql(char sql) {
+    public BindContext sql(char sql) {
         return this;
     }
 
@@ -148,22 +148,22 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext sql(int sql) {
+    public BindContext sql(int sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(long sql) {
+    public BindContext sql(long sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(float sql) {
+    public BindContext sql(float sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(double sql) {
+    public BindContext sql(double sql) {
         return this;
     }
 
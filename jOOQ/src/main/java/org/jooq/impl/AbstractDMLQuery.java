@@ -1469,8 +1469,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
                                 AbstractRecord.class,
                                 fields)
                              .operate(record -> {
-                                record.values[0] = id;
-                                record.originals[0] = id;
+                                record.load(0, id);
 
                                 return record;
                             }));
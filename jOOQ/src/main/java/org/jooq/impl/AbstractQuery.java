@@ -91,6 +91,7 @@ import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DetachedException;
 import org.jooq.impl.DefaultRenderContext.Rendered;
 import org.jooq.impl.DefaultUnwrapperProvider.DefaultUnwrapper;
+import org.jooq.impl.Tools.DataKey;
 import org.jooq.tools.Ints;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.BatchedPreparedStatement;
@@ -266,6 +267,14 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
     @Override
     public final int execute() {
+        return executeWith(null, null);
+    }
+
+    /**
+     * Execute this query, passing some per-execution data to the
+     * {@link ExecuteContext}, instead of modifying this query's state.
+     */
+    final int executeWith(DataKey key, Object value) {
         if (isExecutable()) {
 
             // Get the attached configuration of this query
@@ -276,6 +285,9 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
             //         in case this Query / Configuration was previously
             //         deserialised
             DefaultExecuteContext ctx = new DefaultExecuteContext(c, this);
+            if (key != null)
+                ctx.data(key, value);
+
             ExecuteListener listener = ExecuteListeners.get(ctx);
 
             int result = 0;
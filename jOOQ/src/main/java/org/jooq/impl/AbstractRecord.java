@@ -132,8 +132,19 @@ implements
 
     final AbstractRow<? extends AbstractRecord> fields;
     final Object[]                              values;
-    final Object[]                              originals;
-    final BitSet                                touched;
+
+    /**
+     * The original values, or <code>null</code> as long as they are the same
+     * as the {@link #values}, e.g. for fetched records that have not been
+     * modified. Use {@link #originals()} prior to modifying {@link #values}.
+     */
+    Object[]                                    originals;
+
+    /**
+     * The touched flags, or <code>null</code> as long as no value has been
+     * touched. Use {@link #touched0()} to modify them.
+     */
+    BitSet                                      touched;
     boolean                                     fetched;
 
     /**
@@ -157,8 +168,46 @@ implements
 
         this.fields = (AbstractRow<? extends AbstractRecord>) fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
-        this.touched = new BitSet(size);
+    }
+
+    /**
+     * Get the {@link #originals}, copying them from the {@link #values} if
+     * they haven't been separated yet.
+     */
+    final Object[] originals() {
+        if (originals == null)
+            originals = values.clone();
+
+        return originals;
+    }
+
+    final Object original0(int index) {
+        return originals == null ? values[index] : originals[index];
+    }
+
+    /**
+     * Get the {@link #touched} flags, creating them if needed.
+     */
+    final BitSet touched0() {
+        if (touched == null)
+            touched = new BitSet(values.length);
+
+        return touched;
+    }
+
+    final boolean touched0(int index) {
+        return touched != null && touched.get(index);
+    }
+
+    /**
+     * Set both a value and its original, e.g. when loading a record from the
+     * database.
+     */
+    final void load(int index, Object value) {
+        values[index] = value;
+
+        if (originals != null)
+            originals[index] = value;
     }
 
     // ------------------------------------------------------------------------
@@ -321,22 +370,22 @@ implements
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
-            touched.set(index);
+            touched0().set(index);
         }
 
         // The primary key's changed flag might've been set previously
-        else if (touched.get(index)) {
-            touched.set(index);
+        else if (touched0(index)) {
+            touched0().set(index);
         }
 
         // [#2764] Users may override updatability of primary key values
         else if (updatablePrimaryKeys(settings(this))) {
-            touched.set(index);
+            touched0().set(index);
         }
 
         // [#2698] If the primary key has not yet been set
-        else if (originals[index] == null) {
-            touched.set(index);
+        else if (original0(index) == null) {
+            touched0().set(index);
         }
 
         // [#979] If the primary key is being touched, all other fields' flags
@@ -345,12 +394,13 @@ implements
         else {
 
             // [#945] Be sure that touched is never reset to false
-            touched.set(index, touched.get(index) || !StringUtils.equals(values[index], value));
+            touched0().set(index, touched0(index) || !StringUtils.equals(values[index], value));
 
-            if (touched.get(index))
+            if (touched0(index))
                 touched(true);
         }
 
+        originals();
         values[index] = value;
     }
 
@@ -378,9 +428,9 @@ implements
             int targetIndex = indexOrFail(this.fields, field);
             int sourceIndex = indexOrFail(record.fields, field);
 
+            originals()[targetIndex] = record.original(sourceIndex);
             values[targetIndex] = record.get(sourceIndex);
-            originals[targetIndex] = record.original(sourceIndex);
-            touched.set(targetIndex, record.touched(sourceIndex));
+            touched0().set(targetIndex, record.touched(sourceIndex));
         }
     }
 
@@ -405,8 +455,8 @@ implements
     public Record original() {
         return Tools.newRecord(fetched, configuration(), (Class<AbstractRecord>) getClass(), fields)
                     .operate(record -> {
-                        for (int i = 0; i < originals.length; i++)
-                            record.values[i] = record.originals[i] = originals[i];
+                        for (int i = 0; i < values.length; i++)
+                            record.load(i, original0(i));
 
                         return record;
                     });
@@ -428,7 +478,7 @@ implements
 
     @Override
     public final Object original(int fieldIndex) {
-        return originals[safeIndex(fieldIndex)];
+        return original0(safeIndex(fieldIndex));
     }
 
     @Override
@@ -503,7 +553,7 @@ implements
 
     @Override
     public final boolean touched() {
-        return !touched.isEmpty();
+        return touched != null && !touched.isEmpty();
     }
 
     @Override
@@ -520,7 +570,7 @@ implements
 
     @Override
     public final boolean touched(int fieldIndex) {
-        return touched.get(safeIndex(fieldIndex));
+        return touched0(safeIndex(fieldIndex));
     }
 
     @Override
@@ -535,12 +585,15 @@ implements
 
     @Override
     public final void touched(boolean c) {
-        touched.set(0, values.length, c);
+        if (c)
+            touched0().set(0, values.length);
+        else
+            touched = null;
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
         if (!c)
-            System.arraycopy(values, 0, originals, 0, values.length);
+            originals = null;
     }
 
     @Override
@@ -560,11 +613,14 @@ implements
     public final void touched(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
-        touched.set(fieldIndex, c);
+        if (c)
+            touched0().set(fieldIndex);
+        else if (touched != null)
+            touched.clear(fieldIndex);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c)
+        if (!c && originals != null)
             originals[fieldIndex] = values[fieldIndex];
     }
 
@@ -603,7 +659,7 @@ implements
     @Override
     public final boolean modified(int fieldIndex) {
         int i = safeIndex(fieldIndex);
-        return touched.get(i) && !deepEqual(values[i], originals[i]);
+        return touched0(i) && !deepEqual(values[i], original0(i));
     }
 
     @Override
@@ -618,9 +674,12 @@ implements
 
     @Override
     public final void reset() {
-        touched.clear();
+        touched = null;
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        if (originals != null) {
+            System.arraycopy(originals, 0, values, 0, originals.length);
+            originals = null;
+        }
     }
 
     @Override
@@ -640,8 +699,11 @@ implements
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
-        touched.clear(fieldIndex);
-        values[fieldIndex] = originals[fieldIndex];
+        if (touched != null)
+            touched.clear(fieldIndex);
+
+        if (originals != null)
+            values[fieldIndex] = originals[fieldIndex];
     }
 
     @Override
@@ -875,9 +937,9 @@ implements
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
 
+                            t.originals()[targetIndex] = targetType.convert(original0(sourceIndex));
                             t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-                            t.touched.set(targetIndex, touched.get(sourceIndex));
+                            t.touched0().set(targetIndex, touched0(sourceIndex));
                         }
                     }
                 }
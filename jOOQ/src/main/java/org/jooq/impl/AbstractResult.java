@@ -415,17 +415,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
 
 
-            if (format.header()) {
-                String sep1 = "";
-                for (Field<?> field : fields.fields.fields) {
-                    writer.append(sep1);
-                    writer.append(formatCSV0(field.getName(), format));
-
-                    sep1 = format.delimiter();
-                }
-
-                writer.append(format.newline());
-            }
+            formatCSVHeader(fields.fields.fields, format, writer);
 
             for (R record : this) {
                 record = nullSafe(record);
@@ -455,7 +445,24 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         }
     }
 
-    private static final String formatCSV0(Object value, CSVFormat format) {
+    /**
+     * Write the CSV header, if applicable.
+     */
+    static final void formatCSVHeader(Field<?>[] fields, CSVFormat format, Writer writer) throws java.io.IOException {
+        if (format.header()) {
+            String sep1 = "";
+            for (Field<?> field : fields) {
+                writer.append(sep1);
+                writer.append(formatCSV0(field.getName(), format));
+
+                sep1 = format.delimiter();
+            }
+
+            writer.append(format.newline());
+        }
+    }
+
+    static final String formatCSV0(Object value, CSVFormat format) {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         // [#4746] Escape null and empty strings
@@ -505,92 +512,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             int recordLevel = format.header() ? 2 : 1;
             boolean hasRecords = false;
 
-            if (format.header()) {
-                if (format.format())
-                    writer.append('{').append(format.newline())
-                          .append(format.indentString(1)).append("\"fields\": [");
-                else
-                    writer.append("{\"fields\":[");
-
-                separator = "";
-
-                for (Field<?> field : fields.fields.fields) {
-                    writer.append(separator);
-
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
-
-                    writer.append('{');
-
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(3));
-
-                    if (field instanceof TableField<?, ?> f) {
-                        Table<?> table = f.getTable();
-
-                        if (table != null) {
-                            Schema schema = table.getSchema();
-
-                            if (schema != null) {
-                                writer.append("\"schema\":");
-
-                                if (format.format())
-                                    writer.append(' ');
-
-                                JSONValue.writeJSONString(schema.getName(), writer);
-                                writer.append(',');
-
-                                if (format.format())
-                                    writer.append(format.newline()).append(format.indentString(3));
-                            }
-
-                            writer.append("\"table\":");
-
-                            if (format.format())
-                                writer.append(' ');
-
-                            JSONValue.writeJSONString(table.getName(), writer);
-                            writer.append(',');
-
-                            if (format.format())
-                                writer.append(format.newline()).append(format.indentString(3));
-                        }
-                    }
-
-                    writer.append("\"name\":");
-
-                    if (format.format())
-                        writer.append(' ');
-
-                    JSONValue.writeJSONString(field.getName(), writer);
-
-                    if (!field.getDataType().getQualifiedName().empty()) {
-                        writer.append(',');
-
-                        if (format.format())
-                            writer.append(format.newline()).append(format.indentString(3));
-
-                        writer.append("\"type\":");
-
-                        if (format.format())
-                            writer.append(' ');
-
-                        JSONValue.writeJSONString(formatTypeName(field), writer);
-                    }
-
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
-
-                    writer.append('}');
-                    separator = ",";
-                }
-
-                if (format.format())
-                    writer.append(format.newline()).append(format.indentString(1)).append("],")
-                          .append(format.newline()).append(format.indentString(1)).append("\"records\": ");
-                else
-                    writer.append("],\"records\":");
-            }
+            formatJSONHeader(configuration, fields.fields.fields, format, writer);
 
             writer.append('[');
             separator = "";
@@ -632,32 +554,134 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                     throw new IllegalArgumentException("Format not supported: " + format);
             }
 
-            if (format.format() && hasRecords) {
-                writer.append(format.newline());
+            formatJSONFooter(format, hasRecords, writer);
+            writer.flush();
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while writing JSON", e);
+        }
+    }
 
-                if (format.header())
-                    writer.append(format.indentString(1));
-                else
-                    writer.append(format.indentString(0));
-            }
+    /**
+     * Write the JSON header, i.e. the <code>fields</code> and the beginning of
+     * the <code>records</code> of a {@link JSONFormat#header()}.
+     */
+    static final void formatJSONHeader(Configuration configuration, Field<?>[] fields, JSONFormat format, Writer writer) throws java.io.IOException {
+        String separator;
 
-            writer.append(']');
+        if (format.header()) {
+            if (format.format())
+                writer.append('{').append(format.newline())
+                      .append(format.indentString(1)).append("\"fields\": [");
+            else
+                writer.append("{\"fields\":[");
+
+            separator = "";
+
+            for (Field<?> field : fields) {
+                writer.append(separator);
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(2));
+
+                writer.append('{');
 
-            if (format.header()) {
                 if (format.format())
-                    writer.append(format.newline()).append(format.indentString(0));
+                    writer.append(format.newline()).append(format.indentString(3));
+
+                if (field instanceof TableField<?, ?> f) {
+                    Table<?> table = f.getTable();
+
+                    if (table != null) {
+                        Schema schema = table.getSchema();
+
+                        if (schema != null) {
+                            writer.append("\"schema\":");
+
+                            if (format.format())
+                                writer.append(' ');
+
+                            JSONValue.writeJSONString(schema.getName(), writer);
+                            writer.append(',');
+
+                            if (format.format())
+                                writer.append(format.newline()).append(format.indentString(3));
+                        }
+
+                        writer.append("\"table\":");
+
+                        if (format.format())
+                            writer.append(' ');
+
+                        JSONValue.writeJSONString(table.getName(), writer);
+                        writer.append(',');
+
+                        if (format.format())
+                            writer.append(format.newline()).append(format.indentString(3));
+                    }
+                }
+
+                writer.append("\"name\":");
+
+                if (format.format())
+                    writer.append(' ');
+
+                JSONValue.writeJSONString(field.getName(), writer);
+
+                if (!field.getDataType().getQualifiedName().empty()) {
+                    writer.append(',');
+
+                    if (format.format())
+                        writer.append(format.newline()).append(format.indentString(3));
+
+                    writer.append("\"type\":");
+
+                    if (format.format())
+                        writer.append(' ');
+
+                    JSONValue.writeJSONString(formatTypeName(configuration, field), writer);
+                }
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(2));
 
                 writer.append('}');
+                separator = ",";
             }
 
-            writer.flush();
+            if (format.format())
+                writer.append(format.newline()).append(format.indentString(1)).append("],")
+                      .append(format.newline()).append(format.indentString(1)).append("\"records\": ");
+            else
+                writer.append("],\"records\":");
         }
-        catch (java.io.IOException e) {
-            throw new IOException("Exception while writing JSON", e);
+    }
+
+    /**
+     * Write the end of the JSON <code>records</code>, and of the header, if
+     * applicable.
+     */
+    static final void formatJSONFooter(JSONFormat format, boolean hasRecords, Writer writer) throws java.io.IOException {
+        if (format.format() && hasRecords) {
+            writer.append(format.newline());
+
+            if (format.header())
+                writer.append(format.indentString(1));
+            else
+                writer.append(format.indentString(0));
+        }
+
+        writer.append(']');
+
+        if (format.header()) {
+            if (format.format())
+                writer.append(format.newline()).append(format.indentString(0));
+
+            writer.append('}');
         }
     }
 
-    private final String formatTypeName(Field<?> field) {
+    private static final String formatTypeName(Configuration configuration, Field<?> field) {
         return ((AbstractDataType<?>) field.getDataType()).typeName0().toUpperCase(renderLocale(configuration.settings()));
     }
 
@@ -886,7 +910,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
                     if (!field.getDataType().getQualifiedName().empty()) {
                         writer.append(" type=\"");
-                        writer.append(escapeXML(formatTypeName(field)));
+                        writer.append(escapeXML(formatTypeName(configuration, field)));
                         writer.append("\"");
                     }
 
@@ -1300,7 +1324,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                     eField.setAttribute("name", field.getName());
 
                     if (!field.getDataType().getQualifiedName().empty())
-                        eField.setAttribute("type", formatTypeName(field));
+                        eField.setAttribute("type", formatTypeName(configuration, field));
 
                     eFields.appendChild(eField);
                 }
@@ -1432,7 +1456,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 attrs.addAttribute("", "", "name", "CDATA", field.getName());
 
                 if (!field.getDataType().getQualifiedName().empty())
-                    attrs.addAttribute("", "", "type", "CDATA", formatTypeName(field));
+                    attrs.addAttribute("", "", "type", "CDATA", formatTypeName(configuration, field));
 
                 handler.startElement("", "", "field", attrs);
                 handler.endElement("", "", "field");
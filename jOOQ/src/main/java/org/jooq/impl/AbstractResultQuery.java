@@ -44,13 +44,16 @@ import static org.jooq.SQLDialect.YUGABYTEDB;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.Tools.consumeResultSets;
 import static org.jooq.impl.Tools.executeStatementAndGetFirstResultSet;
+import static org.jooq.impl.Tools.SimpleDataKey.DATA_RESULT_QUERY_FORMAT;
 
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
 
+import org.jooq.CSVFormat;
 import org.jooq.CloseableResultQuery;
 import org.jooq.Configuration;
 import org.jooq.Cursor;
@@ -58,6 +61,7 @@ import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
@@ -67,6 +71,7 @@ import org.jooq.Results;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
 import org.jooq.conf.SettingsTools;
+import org.jooq.exception.IOException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.MockResultSet;
 
@@ -232,8 +237,33 @@ implements
             }
 
             Field<?>[] fields = getFields(() -> ctx.resultSet().getMetaData());
+
+            // Format the ResultSet directly, without creating any records
+            Format format = (Format) ctx.data(DATA_RESULT_QUERY_FORMAT);
+            if (format != null && ResultSetFormatter.supported(ctx, fields)) {
+                try {
+                    return format.format instanceof JSONFormat j
+                         ? ResultSetFormatter.formatJSON(ctx, listener, fields, format.writer, j)
+                         : ResultSetFormatter.formatCSV(ctx, listener, fields, format.writer, (CSVFormat) format.format);
+                }
+                catch (java.io.IOException x) {
+                    throw new IOException("Exception while writing " + (format.format instanceof JSONFormat ? "JSON" : "CSV"), x);
+                }
+            }
+
             cursor = new CursorImpl<>(ctx, listener, fields, keepStatement(), keepResultSet(), getTable(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing);
 
+            // Nested records span several columns and are formatted from a cursor
+            if (format != null) {
+                if (format.format instanceof JSONFormat j)
+                    cursor.formatJSON(format.writer, j);
+                else
+                    cursor.formatCSV(format.writer, (CSVFormat) format.format);
+
+                cursor = null;
+                return 0;
+            }
+
             if (!lazy) {
                 result = cursor.fetch();
                 cursor = null;
@@ -280,6 +310,26 @@ implements
         return cursor;
     }
 
+    @Override
+    public final void formatJSON(Writer writer, JSONFormat format) {
+        format0(writer, format);
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, CSVFormat format) {
+        format0(writer, format);
+    }
+
+    private final void format0(Writer writer, Object format) {
+        executeWith(DATA_RESULT_QUERY_FORMAT, new Format(writer, format));
+    }
+
+    /**
+     * The target of {@link #formatJSON(Writer, JSONFormat)} or
+     * {@link #formatCSV(Writer, CSVFormat)}, for a single execution.
+     */
+    private record Format(Writer writer, Object format) {}
+
     /**
      * When we manage the lifecycle of a returned {@link Cursor} internally in
      * jOOQ, then the cursor must not be auto-closed.
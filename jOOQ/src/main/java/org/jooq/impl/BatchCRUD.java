@@ -37,30 +37,47 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.impl.BatchSingle.SUPPORT_BATCH_GENERATED_KEYS;
+import static org.jooq.impl.Tools.EMPTY_PARAM;
 import static org.jooq.impl.Tools.map;
+import static org.jooq.impl.Tools.SimpleDataKey.DATA_BATCH_CRUD_COLLECTOR;
 
 import java.math.BigInteger;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Identity;
+import org.jooq.Insert;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataChangedException;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+import org.jooq.impl.R2DBC.BatchCRUDSubscriber;
+import org.jooq.impl.R2DBC.BatchSubscription;
+import org.jooq.impl.R2DBC.DownstreamSubscriber;
 import org.jooq.tools.JooqLogger;
 
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.r2dbc.spi.ConnectionFactory;
 
 /**
  * @author Lukas Eder
@@ -84,10 +101,18 @@ final class BatchCRUD extends AbstractBatch {
     }
 
     @Override
-    public void subscribe(Subscriber<? super Integer> s) {
+    public void subscribe(Subscriber<? super Integer> subscriber) {
+        ConnectionFactory cf = configuration.connectionFactory();
+
+        if (!(cf instanceof NoConnectionFactory)) {
+            RowCountCollector rowCounts = new RowCountCollector(subscriber);
+            subscriber.onSubscribe(new BatchSubscription<>(this, rowCounts, s -> new BatchCRUDSubscriber(this, rowCounts, s)));
+        }
+        else {
 
-        // [#11700] TODO: Implement this
-        throw new UnsupportedOperationException("BatchCRUD operations are not yet supported in a reactive way. Use ordinary batch operations, instead, or avoid batching. See https://github.com/jOOQ/jOOQ/issues/14874");
+            // [#11700] TODO: Implement this
+            throw new UnsupportedOperationException("BatchCRUD operations are not yet supported in a reactive way. Use ordinary batch operations, instead, or avoid batching. See https://github.com/jOOQ/jOOQ/issues/14874");
+        }
     }
 
     @Override
@@ -115,14 +140,21 @@ final class BatchCRUD extends AbstractBatch {
             .withReturnComputedOnUpdatableRecord(false)
             .withReturnIdentityOnUpdatableRecord(false);
 
+        // The derived configuration has its own copy of the data map
+        local.data(DATA_BATCH_CRUD_COLLECTOR, collector);
+        collector.configuration = local;
         return local;
     }
 
-    private final int[] executePrepared() {
-        boolean optimisticLocking = TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking());
-        Map<String, List<QueryCollectorSignal>> queries = new LinkedHashMap<>();
-        List<QueryCollectorSignal> signals = new ArrayList<>();
-        QueryCollector collector = new QueryCollector();
+    /**
+     * Let each record produce its store query, without executing it.
+     *
+     * @return The collected queries in record order, with <code>null</code>
+     *         entries for records that didn't produce any executable query.
+     */
+    private final CollectedQuery[] collect(boolean render) {
+        CollectedQuery[] result = new CollectedQuery[records.length];
+        QueryCollector collector = new QueryCollector(render);
 
         // Add the QueryCollector to intercept query execution after rendering
         Configuration local = deriveConfiguration(collector);
@@ -133,23 +165,34 @@ final class BatchCRUD extends AbstractBatch {
             try {
                 records[i].attach(local);
                 executeAction(i);
-
-                if (optimisticLocking)
-                    signals.add(null);
             }
-            catch (QueryCollectorSignal e) {
-                if (optimisticLocking)
-                    signals.add(e);
 
-                // Aggregate executable queries by identical SQL
+            // Auxiliary queries executed by records (e.g. those checking for
+            // optimistic locking) are still intercepted by the ExecuteListener
+            catch (QueryCollectorSignal e) {
                 if (e.getQuery().isExecutable())
-                    queries.computeIfAbsent(e.getSQL(), s -> new ArrayList<>()).add(e);
+                    collector.collected = new CollectedQuery(records[i], e.getQuery(), e.getSQL(), e.getParams(), null, null);
             }
             finally {
                 records[i].attach(previous);
             }
+
+            result[i] = collector.collected;
+            collector.collected = null;
         }
 
+        return result;
+    }
+
+    private final int[] executePrepared() {
+        CollectedQuery[] collected = collect(true);
+        Map<String, List<CollectedQuery>> queries = new LinkedHashMap<>();
+
+        // Aggregate executable queries by identical SQL
+        for (CollectedQuery c : collected)
+            if (c != null)
+                queries.computeIfAbsent(c.sql, s -> new ArrayList<>()).add(c);
+
         if (log.isDebugEnabled())
             log.debug("Batch " + action + " of " + records.length + " records using " + queries.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + queries.values().stream().mapToInt(List::size).average().orElse(0.0) + " (higher is better)");
 
@@ -158,14 +201,28 @@ final class BatchCRUD extends AbstractBatch {
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
         queries.forEach((k, v) -> {
-            BatchBindStep batch = dsl.batch(v.get(0).getQuery());
+            BatchSingle batch = new BatchSingle(configuration, v.get(0).query);
+            Identity<?, ?> identity = generatedKey(v.get(0));
 
-            for (QueryCollectorSignal signal : v)
-                batch.bind(map(signal.getParams(), p -> p.getValue(), Object[]::new));
+            if (identity != null)
+                batch.generatedKey = identity.getField();
+
+            for (CollectedQuery c : v)
+                batch.bind(map(c.params, p -> p.getValue(), Object[]::new));
 
             int[] array = batch.execute();
-            for (int i : array)
-                result.add(i);
+            for (int i = 0; i < array.length; i++) {
+                result.add(array[i]);
+
+                if (i < v.size())
+                    v.get(i).rows = array[i];
+            }
+
+            // Generated keys can only be matched with records if the driver
+            // produced exactly one key per record
+            if (identity != null && batch.generatedKeys != null && batch.generatedKeys.size() == v.size())
+                for (int i = 0; i < v.size(); i++)
+                    setGeneratedKey(v.get(i).record, identity.getField(), batch.generatedKeys.get(i));
         });
 
         int[] array = new int[result.size()];
@@ -173,64 +230,67 @@ final class BatchCRUD extends AbstractBatch {
             array[i] = result.get(i);
 
         // [#8283] Store back optimistic locking values to updated records
-        if (optimisticLocking)
-            updateRecordVersionsAndTimestamps(signals, array);
-
+        updateRecordVersionsAndTimestamps(collected);
         updateChangedFlag();
         return array;
     }
 
     private final int[] executeStatic() {
-        boolean optimisticLocking = TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking());
+        CollectedQuery[] collected = collect(false);
         List<Query> queries = new ArrayList<>();
-        List<QueryCollectorSignal> signals = new ArrayList<>();
-        QueryCollector collector = new QueryCollector();
-        Configuration local = deriveConfiguration(collector);
-
-        for (int i = 0; i < records.length; i++) {
-            Configuration previous = records[i].configuration();
+        List<CollectedQuery> executed = new ArrayList<>();
 
-            try {
-                records[i].attach(local);
-                executeAction(i);
-
-                if (optimisticLocking)
-                    signals.add(null);
-            }
-            catch (QueryCollectorSignal e) {
-                if (optimisticLocking)
-                    signals.add(e);
-
-                Query query = e.getQuery();
-
-                if (query.isExecutable())
-                    queries.add(query);
-            }
-            finally {
-                records[i].attach(previous);
+        for (CollectedQuery c : collected) {
+            if (c != null) {
+                queries.add(c.query);
+                executed.add(c);
             }
         }
 
         // Resulting statements can be batch executed in their requested order
         int[] result = dsl.batch(queries).execute();
+        for (int i = 0; i < result.length && i < executed.size(); i++)
+            executed.get(i).rows = result[i];
 
         // [#8283] Store back optimistic locking values to updated records
-        if (optimisticLocking)
-            updateRecordVersionsAndTimestamps(signals, result);
-
+        updateRecordVersionsAndTimestamps(collected);
         updateChangedFlag();
         return result;
     }
 
-    private final void updateRecordVersionsAndTimestamps(List<QueryCollectorSignal> signals, int[] array) {
-        for (int i = 0; i < records.length && i < array.length; i++) {
-            QueryCollectorSignal signal = signals.get(i);
+    /**
+     * The identity whose generated values can be fetched from a batch of
+     * inserts, or <code>null</code> if this isn't possible.
+     */
+    private final Identity<?, ?> generatedKey(CollectedQuery c) {
+        if (c.query instanceof Insert
+                && !FALSE.equals(configuration.settings().isReturnIdentityOnUpdatableRecord())
+                && SUPPORT_BATCH_GENERATED_KEYS.contains(configuration.dialect()))
+            return c.record.getTable().getIdentity();
+        else
+            return null;
+    }
 
-            if (signal != null && array[i] > 0)
-                ((TableRecordImpl<?>) records[i]).setRecordVersionAndTimestamp(signal.version, signal.timestamp);
+    private static final void setGeneratedKey(TableRecord<?> record, Field<?> field, Object key) {
+        AbstractRecord r = (AbstractRecord) record;
+        int index = r.fieldsRow().indexOf(field);
+
+        if (index >= 0) {
+            Object value = field.getDataType().convert(key);
+
+            r.load(index, value);
         }
     }
 
+    private final void updateRecordVersionsAndTimestamps(CollectedQuery[] collected) {
+        if (!TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking()))
+            return;
+
+        for (CollectedQuery c : collected)
+            if (c != null && c.rows > 0)
+                ((TableRecordImpl<?>) c.record).setRecordVersionAndTimestamp(c.version, c.timestamp);
+    }
+
     private final void executeAction(int i) {
         switch (action) {
             case STORE:
@@ -252,10 +312,17 @@ final class BatchCRUD extends AbstractBatch {
     }
 
     private final void updateChangedFlag() {
+        updateChangedFlag(Collections.emptySet());
+    }
+
+    private final void updateChangedFlag(Set<TableRecord<?>> skip) {
         // 1. Deleted records should be marked as changed, such that subsequent
         //    calls to store() will insert them again
         // 2. Stored records should be marked as unchanged
         for (TableRecord<?> record : records) {
+            if (skip.contains(record))
+                continue;
+
             record.touched(action == Action.DELETE);
 
             // [#3362] If new records (fetched = false) are batch-stored twice in a row, the second
@@ -265,6 +332,98 @@ final class BatchCRUD extends AbstractBatch {
         }
     }
 
+    /**
+     * A {@link Subscriber} wrapping the downstream subscriber of a reactive
+     * batch execution.
+     * <p>
+     * It assigns the row counts to the executed records, and on completion
+     * stores back optimistic locking values like the blocking execution does.
+     * Records whose optimistically locked <code>UPDATE</code> or
+     * <code>DELETE</code> didn't affect any rows are reported as a
+     * {@link DataChangedException} after all row counts have been emitted.
+     */
+    final class RowCountCollector implements DownstreamSubscriber<Integer> {
+
+        final Subscriber<? super Integer> subscriber;
+        List<CollectedQuery>              executed;
+        int                               next;
+
+        RowCountCollector(Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Let each record produce its store query, without executing or
+         * rendering it.
+         *
+         * @return The executable queries in record order. The caller sets
+         *         {@link #executed} to the queries in execution order.
+         */
+        final List<CollectedQuery> collect() {
+            CollectedQuery[] collected = BatchCRUD.this.collect(false);
+            List<CollectedQuery> result = new ArrayList<>(collected.length);
+
+            for (CollectedQuery c : collected)
+                if (c != null)
+                    result.add(c);
+
+            return result;
+        }
+
+        @Override
+        public final Subscriber<?> downstream() {
+            return subscriber;
+        }
+
+        @Override
+        public final void onSubscribe(Subscription s) {
+            subscriber.onSubscribe(s);
+        }
+
+        @Override
+        public final void onNext(Integer rows) {
+            if (executed != null && next < executed.size())
+                executed.get(next++).rows = rows;
+
+            subscriber.onNext(rows);
+        }
+
+        @Override
+        public final void onError(Throwable t) {
+            subscriber.onError(t);
+        }
+
+        @Override
+        public final void onComplete() {
+            if (executed != null) {
+                try {
+                    Set<TableRecord<?>> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+                    if (TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking()))
+                        for (CollectedQuery c : executed)
+                            if (c.rows == 0 && !(c.query instanceof Insert))
+                                changed.add(c.record);
+
+                    // [#8283] Store back optimistic locking values to updated records,
+                    //         but keep the state of records that failed the check
+                    updateRecordVersionsAndTimestamps(executed.toArray(new CollectedQuery[0]));
+                    updateChangedFlag(changed);
+
+                    if (!changed.isEmpty()) {
+                        subscriber.onError(new DataChangedException(changed.size() + " database record(s) have been changed or don't exist any longer"));
+                        return;
+                    }
+                }
+                catch (Throwable t) {
+                    subscriber.onError(t);
+                    return;
+                }
+            }
+
+            subscriber.onComplete();
+        }
+    }
+
     /**
      * The action to be performed by this operation.
      */
@@ -299,11 +458,55 @@ final class BatchCRUD extends AbstractBatch {
     /**
      * Collect queries
      * <p>
-     * The query collector intercepts query execution after rendering. This
-     * allows for rendering SQL according to the specific logic contained in
-     * TableRecords without actually executing that SQL
+     * Records pass their store queries to the query collector, if one is
+     * present in their {@link Configuration#data()}, instead of executing them.
+     * This allows for rendering SQL according to the specific logic contained
+     * in TableRecords without actually executing that SQL, and without
+     * unwinding the stack with an exception for each record.
+     * <p>
+     * Other queries that records may execute are still intercepted after
+     * rendering through the {@link ExecuteListener} callback.
      */
-    private static class QueryCollector implements ExecuteListener {
+    static final class QueryCollector implements ExecuteListener {
+        final boolean  render;
+        Configuration  configuration;
+        CollectedQuery collected;
+
+        QueryCollector(boolean render) {
+            this.render = render;
+        }
+
+        static QueryCollector collector(Configuration configuration) {
+            return configuration == null ? null : (QueryCollector) configuration.data(DATA_BATCH_CRUD_COLLECTOR);
+        }
+
+        /**
+         * Collect a record's store query along with its optimistic locking
+         * information.
+         *
+         * @return The number of affected rows, which is always
+         *         <code>0</code>, as nothing is executed.
+         */
+        final int collect(TableRecord<?> record, Query query, BigInteger version, Timestamp timestamp) {
+            if (query.isExecutable()) {
+                if (render) {
+                    Rendered rendered = Rendered.rendered(configuration, new DefaultExecuteContext(configuration, query), query, true, false);
+
+                    collected = new CollectedQuery(
+                        record,
+                        query,
+                        rendered.sql,
+                        rendered.bindValues == null ? EMPTY_PARAM : rendered.bindValues.toArray(EMPTY_PARAM),
+                        version,
+                        timestamp
+                    );
+                }
+                else
+                    collected = new CollectedQuery(record, query, null, EMPTY_PARAM, version, timestamp);
+            }
+
+            return 0;
+        }
 
         @Override
         public void renderEnd(ExecuteContext ctx) {
@@ -311,6 +514,28 @@ final class BatchCRUD extends AbstractBatch {
         }
     }
 
+    /**
+     * A query collected from a record.
+     */
+    static final class CollectedQuery {
+        final TableRecord<?> record;
+        final Query          query;
+        final String         sql;
+        final Param<?>[]     params;
+        final BigInteger     version;
+        final Timestamp      timestamp;
+        int                  rows;
+
+        CollectedQuery(TableRecord<?> record, Query query, String sql, Param<?>[] params, BigInteger version, Timestamp timestamp) {
+            this.record = record;
+            this.query = query;
+            this.sql = sql;
+            this.params = params;
+            this.version = version;
+            this.timestamp = timestamp;
+        }
+    }
+
     /**
      * A query execution interception signal.
      * <p>
@@ -321,8 +546,6 @@ final class BatchCRUD extends AbstractBatch {
         final String     sql;
         final Param<?>[] params;
         final Query      query;
-        BigInteger       version;
-        Timestamp        timestamp;
 
         QueryCollectorSignal(String sql, Param<?>[] params, Query query) {
             this.sql = sql;
@@ -37,9 +37,15 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.SQLDialect.H2;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.SQLDialect.YUGABYTEDB;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.conf.SettingsTools.getBatchSize;
+import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.AbstractQuery.connection;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
 import static org.jooq.impl.Tools.checkedFunction;
@@ -49,12 +55,16 @@ import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.visitAll;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
@@ -63,14 +73,18 @@ import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext.BatchMode;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
 import org.jooq.Param;
 import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.RenderNameCase;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.impl.DefaultRenderContext.Rendered;
 import org.jooq.impl.R2DBC.BatchSingleSubscriber;
 import org.jooq.impl.R2DBC.BatchSubscription;
 import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.JDBCUtils;
 
 import org.reactivestreams.Subscriber;
 
@@ -82,12 +96,27 @@ import io.r2dbc.spi.ConnectionFactory;
 final class BatchSingle extends AbstractBatch implements BatchBindStep {
     private static final JooqLogger  log              = JooqLogger.getLogger(BatchSingle.class);
 
+    /**
+     * Dialects whose JDBC drivers can return generated keys from
+     * {@link Statement#executeBatch()}.
+     */
+    static final Set<SQLDialect>     SUPPORT_BATCH_GENERATED_KEYS  = SQLDialect.supportedBy(H2, MARIADB, MYSQL, POSTGRES, YUGABYTEDB);
+    static final Set<SQLDialect>     RETURN_GENERATED_KEYS_BY_FLAG = SQLDialect.supportedBy(MARIADB, MYSQL);
+
     final Query                      query;
     final Map<String, List<Integer>> nameToIndexMapping;
     final List<Object[]>             allBindValues;
     final int                        expectedBindValues;
     transient List<Object>           defaultValues;
 
+    /**
+     * An identity column whose generated values should be fetched after
+     * execution, if supported by the JDBC driver, and the values fetched in
+     * the order of execution.
+     */
+    transient Field<?>               generatedKey;
+    transient List<Object>           generatedKeys;
+
     public BatchSingle(Configuration configuration, Query query) {
         super(configuration);
 
@@ -210,9 +239,13 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             Rendered.rendered(configuration, ctx, ctx.batchQueries()[0], false, false).setSQLAndParams(ctx);
             listener.renderEnd(ctx);
 
+            boolean fetchGeneratedKeys = generatedKey != null && SUPPORT_BATCH_GENERATED_KEYS.contains(ctx.dialect());
+            if (fetchGeneratedKeys)
+                generatedKeys = new ArrayList<>();
+
             listener.prepareStart(ctx);
             if (ctx.statement() == null)
-                ctx.statement(connection(ctx).prepareStatement(ctx.sql()));
+                ctx.statement(fetchGeneratedKeys ? prepareGeneratedKeys(ctx) : connection(ctx).prepareStatement(ctx.sql()));
             listener.prepareEnd(ctx);
 
             // [#9295] use query timeout from settings
@@ -232,6 +265,9 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                     listener.executeStart(ctx);
                     result[i] = ctx.statement().executeUpdate();
                     listener.executeEnd(ctx);
+
+                    if (fetchGeneratedKeys)
+                        fetchGeneratedKeys(ctx);
                 }
 
                 setBatchRows(ctx, result);
@@ -255,6 +291,9 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                         setBatchRows(ctx, result);
                         listener.executeEnd(ctx);
                         reset.set(true);
+
+                        if (fetchGeneratedKeys)
+                            fetchGeneratedKeys(ctx);
                         return result;
                     }))
                     .flatMapToInt(IntStream::of)
@@ -281,6 +320,37 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         }
     }
 
+    private final PreparedStatement prepareGeneratedKeys(DefaultExecuteContext ctx) throws SQLException {
+        if (RETURN_GENERATED_KEYS_BY_FLAG.contains(ctx.dialect()))
+            return connection(ctx).prepareStatement(ctx.sql(), Statement.RETURN_GENERATED_KEYS);
+
+        // [#2845] Field names should be passed to JDBC in the case imposed by the user
+        RenderNameCase style = SettingsTools.getRenderNameCase(ctx.settings());
+        String name = style == RenderNameCase.UPPER
+            ? generatedKey.getName().toUpperCase(renderLocale(ctx.settings()))
+            : style == RenderNameCase.LOWER
+            ? generatedKey.getName().toLowerCase(renderLocale(ctx.settings()))
+            : generatedKey.getName();
+
+        return connection(ctx).prepareStatement(ctx.sql(), new String[] { name });
+    }
+
+    private final void fetchGeneratedKeys(DefaultExecuteContext ctx) throws SQLException {
+        ResultSet rs = ctx.statement().getGeneratedKeys();
+
+        // Some JDBC drivers seem to illegally return null
+        // from getGeneratedKeys() sometimes
+        if (rs != null) {
+            try {
+                while (rs.next())
+                    generatedKeys.add(rs.getObject(1));
+            }
+            finally {
+                JDBCUtils.safeClose(rs);
+            }
+        }
+    }
+
     private final void setBindValues(
         DefaultExecuteContext ctx,
         ExecuteListener listener,
@@ -43,6 +43,8 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.jooq.impl.CacheType;
@@ -76,7 +78,10 @@ final class Cache {
 
         Object cacheOrNull = configuration.data(type);
         if (cacheOrNull == null) {
-            synchronized (type) {
+            Lock lock = lock(configuration, type);
+            lock.lock();
+
+            try {
                 cacheOrNull = configuration.data(type);
 
                 if (cacheOrNull == null)
@@ -85,6 +90,9 @@ final class Cache {
                         NULL
                     ));
             }
+            finally {
+                lock.unlock();
+            }
         }
 
         if (cacheOrNull == NULL)
@@ -92,17 +100,21 @@ final class Cache {
 
         // The cache is guaranteed to be thread safe by the CacheProvider
         // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
+        // recursively, misses are computed without holding any lock, and then
+        // published using putIfAbsent(). Concurrent misses may compute the same
+        // value more than once, in case of which the first published value wins.
         Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
         Object k = key.get();
         Object v = cache.get(k);
         if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
+            v = operation.get();
 
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
-            }
+            if (v == null)
+                v = NULL;
+
+            Object previous = cache.putIfAbsent(k, v);
+            if (previous != null)
+                v = previous;
         }
 
         return (V) (v == NULL ? null : v);
@@ -113,6 +125,27 @@ final class Cache {
      */
     private static final Object NULL = new Object();
 
+    /**
+     * The striped locks guarding cache initialisation. They are only acquired
+     * when a cache hasn't been initialised yet, and never while a cached value
+     * is being computed. Unrelated {@link Configuration} instances or
+     * {@link CacheType} values are unlikely to contend for the same lock.
+     */
+    private static final Lock[] LOCKS = new Lock[64];
+
+    static {
+        for (int i = 0; i < LOCKS.length; i++)
+            LOCKS[i] = new ReentrantLock();
+    }
+
+    private static final Lock lock(Configuration configuration, CacheType type) {
+
+        // Configuration wrappers may delegate to the same data map, so stripe
+        // by the map's identity, rather than the configuration's
+        int h = System.identityHashCode(configuration.data()) * 31 + type.ordinal();
+        return LOCKS[(h ^ (h >>> 16)) & (LOCKS.length - 1)];
+    }
+
     /**
      * Create a single-value or multi-value key for caching.
      */
@@ -126,7 +159,8 @@ final class Cache {
      * [#18935] Note: A hand-written class with Eclipse-generated
      * {@link #equals(Object)} and {@link #hashCode()} implementations
      * significantly outperforms the Java 16 record alternative in a JMH
-     * benchmark.
+     * benchmark. See <code>CacheKeyBenchmark</code> in the
+     * <code>jOOQ-benchmarks</code> module.
      */
     private static final class Key2 implements Serializable {
         private final Object key1;
@@ -189,7 +223,8 @@ final class Cache {
      * [#18935] Note: A hand-written class with Eclipse-generated
      * {@link #equals(Object)} and {@link #hashCode()} implementations
      * significantly outperforms the Java 16 record alternative in a JMH
-     * benchmark.
+     * benchmark. See <code>CacheKeyBenchmark</code> in the
+     * <code>jOOQ-benchmarks</code> module.
      */
     private static final class Key3 implements Serializable {
         private final Object key1;
@@ -38,9 +38,11 @@
 package org.jooq.impl;
 
 
+import static org.jooq.impl.CacheType.CacheCategory.DIAGNOSTICS_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
+import static org.jooq.impl.CacheType.CacheCategory.RENDERED_QUERY;
 
 import java.util.function.Predicate;
 
@@ -121,7 +123,19 @@ public enum CacheType {
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for the parsed and normalised form of SQL strings in the
+     * {@link DiagnosticsConnection}, to avoid parsing repeated statements.
+     */
+    CACHE_DIAGNOSTICS_CONNECTION(DIAGNOSTICS_CONNECTION, "org.jooq.configuration.cache.diagnostics-connection"),
+
+    /**
+     * A cache for SQL strings and bind value orderings of structurally
+     * identical queries, to speed up repeated rendering of dynamic SQL.
+     */
+    CACHE_RENDERED_QUERIES(RENDERED_QUERY, "org.jooq.configuration.cache.rendered-queries");
 
     final CacheCategory category;
     final String        key;
@@ -134,7 +148,9 @@ public enum CacheType {
     enum CacheCategory {
         REFLECTION(SettingsTools::reflectionCaching),
         RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching),
+        DIAGNOSTICS_CONNECTION(SettingsTools::diagnosticsConnectionCaching),
+        RENDERED_QUERY(SettingsTools::renderedQueryCaching);
 
         final Predicate<? super Settings> predicate;
 
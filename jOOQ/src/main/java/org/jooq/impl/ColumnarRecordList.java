@@ -0,0 +1,518 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import org.jooq.Attachable;
+import org.jooq.Configuration;
+import org.jooq.Record;
+import org.jooq.exception.InvalidResultException;
+
+/**
+ * A read-only, column oriented storage for the records of a
+ * {@link ResultImpl}.
+ * <p>
+ * Values are stored per column, using primitive arrays and a null bitmap for
+ * {@link Integer}, {@link Long}, and {@link Double} columns, and an
+ * {@link Object} array for all other columns. Records are only materialised
+ * when they are accessed, and they are not retained by this list. Modifying
+ * the materialised records has no effect on the list's contents.
+ * <p>
+ * Selections (e.g. from grouping) and permutations (e.g. from sorting) share
+ * the underlying columns by means of a row index.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecordList<R extends Record> extends AbstractList<R> implements RandomAccess, Attachable {
+
+    private final AbstractRow<R>        fields;
+    private final Supplier<? extends R> factory;
+    private final Column[]              columns;
+    private Configuration               configuration;
+    private int                         rows;
+
+    /**
+     * The row index of this list, or <code>null</code> if the list contains
+     * all rows of {@link #columns} in their natural order.
+     */
+    private int[]                       index;
+
+    ColumnarRecordList(Configuration configuration, AbstractRow<R> fields, Supplier<? extends R> factory) {
+        this.configuration = configuration;
+        this.fields = fields;
+        this.factory = factory;
+        this.columns = new Column[fields.size()];
+
+        for (int i = 0; i < columns.length; i++) {
+            Class<?> type = fields.field(i).getType();
+
+            if (type == Integer.class)
+                columns[i] = new IntColumn();
+            else if (type == Long.class)
+                columns[i] = new LongColumn();
+            else if (type == Double.class)
+                columns[i] = new DoubleColumn();
+            else
+                columns[i] = new ObjectColumn();
+        }
+    }
+
+    private ColumnarRecordList(ColumnarRecordList<R> source, int[] index) {
+        this.configuration = source.configuration;
+        this.fields = source.fields;
+        this.factory = source.factory;
+        this.columns = source.columns;
+        this.rows = source.rows;
+        this.index = index;
+    }
+
+    /**
+     * Append a record's values to the columns.
+     */
+    final void append(Record record) {
+        for (int i = 0; i < columns.length; i++)
+            columns[i].set(rows, record.get(i));
+
+        rows++;
+    }
+
+    /**
+     * Release unused capacity after all records have been appended.
+     */
+    final void trim() {
+        for (Column column : columns)
+            column.trim(rows);
+    }
+
+    /**
+     * Serialise a materialised copy of the records, as neither the columns nor
+     * the record factory are serializable.
+     */
+    private final Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+
+    private final int row(int i) {
+        if (i < 0 || i >= size())
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+
+        return index == null ? i : index[i];
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column access
+    // -------------------------------------------------------------------------
+
+    final Object value(int i, int fieldIndex) {
+        return columns[fieldIndex].get(row(i));
+    }
+
+    final List<Object> values(int fieldIndex) {
+        Column column = columns[fieldIndex];
+        int size = size();
+        List<Object> result = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+            result.add(column.get(index == null ? i : index[i]));
+
+        return result;
+    }
+
+    final Object[] intoArray(int fieldIndex, Class<?> type) {
+        Column column = columns[fieldIndex];
+        int size = size();
+        Object[] result = (Object[]) Array.newInstance(type, size);
+
+        for (int i = 0; i < size; i++)
+            result[i] = column.get(index == null ? i : index[i]);
+
+        return result;
+    }
+
+    final Map<Object, Object> intoMap(int keyFieldIndex, int valueFieldIndex) {
+        Column key = columns[keyFieldIndex];
+        Column value = valueFieldIndex < 0 ? null : columns[valueFieldIndex];
+        int size = size();
+        Map<Object, Object> result = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            int row = index == null ? i : index[i];
+            Object k = key.get(row);
+
+            if (result.containsKey(k))
+                throw new InvalidResultException("Key " + k + " is not unique in Result");
+            else
+                result.put(k, value == null ? record(row) : value.get(row));
+        }
+
+        return result;
+    }
+
+    final Map<Object, List<Object>> intoGroups(int keyFieldIndex, int valueFieldIndex) {
+        Column key = columns[keyFieldIndex];
+        Column value = columns[valueFieldIndex];
+        int size = size();
+        Map<Object, List<Object>> result = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            int row = index == null ? i : index[i];
+            result.computeIfAbsent(key.get(row), k -> new ArrayList<>()).add(value.get(row));
+        }
+
+        return result;
+    }
+
+    final Map<Object, ColumnarRecordList<R>> intoGroups(int keyFieldIndex) {
+        Column key = columns[keyFieldIndex];
+        int size = size();
+        Map<Object, Rows> groups = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            int row = index == null ? i : index[i];
+            groups.computeIfAbsent(key.get(row), k -> new Rows()).add(row);
+        }
+
+        Map<Object, ColumnarRecordList<R>> result = new LinkedHashMap<>();
+        for (Map.Entry<Object, Rows> e : groups.entrySet())
+            result.put(e.getKey(), new ColumnarRecordList<>(this, e.getValue().toArray()));
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Sorting
+    // -------------------------------------------------------------------------
+
+    /**
+     * Sort the row index by a column.
+     * <p>
+     * A {@link ResultImpl.NaturalComparator} is applied directly to the column
+     * values, without boxing primitive values.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    final void sort(int fieldIndex, Comparator<?> comparator) {
+        Column column = columns[fieldIndex];
+
+        if (comparator instanceof ResultImpl.NaturalComparator<?> n)
+            sortRows(n.descending ? (r1, r2) -> column.compare(r2, r1) : column::compare);
+        else
+            sortRows((r1, r2) -> ((Comparator) comparator).compare(column.get(r1), column.get(r2)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final void sort(Comparator<? super R> c) {
+        int size = size();
+        R[] records = (R[]) new Record[rows];
+
+        for (int i = 0; i < size; i++) {
+            int row = index == null ? i : index[i];
+            records[row] = record(row);
+        }
+
+        sortRows((r1, r2) -> c.compare(records[r1], records[r2]));
+    }
+
+    private final void sortRows(RowComparator c) {
+        int[] result = index != null ? index.clone() : identity(rows);
+        mergeSort(result, result.clone(), 0, result.length, c);
+        index = result;
+    }
+
+    private static final int[] identity(int size) {
+        int[] result = new int[size];
+
+        for (int i = 0; i < size; i++)
+            result[i] = i;
+
+        return result;
+    }
+
+    /**
+     * A stable merge sort of <code>a[lo..hi)</code>, using <code>tmp</code> as
+     * a copy of <code>a</code>.
+     */
+    private static final void mergeSort(int[] a, int[] tmp, int lo, int hi, RowComparator c) {
+        if (hi - lo < 16) {
+            for (int i = lo + 1; i < hi; i++)
+                for (int j = i; j > lo && c.compare(a[j - 1], a[j]) > 0; j--) {
+                    int t = a[j];
+                    a[j] = a[j - 1];
+                    a[j - 1] = t;
+                }
+
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        mergeSort(tmp, a, lo, mid, c);
+        mergeSort(tmp, a, mid, hi, c);
+
+        for (int i = lo, p = lo, q = mid; i < hi; i++)
+            if (q >= hi || p < mid && c.compare(tmp[p], tmp[q]) <= 0)
+                a[i] = tmp[p++];
+            else
+                a[i] = tmp[q++];
+    }
+
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int row1, int row2);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Attachable API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void attach(Configuration c) {
+        configuration = c;
+    }
+
+    @Override
+    public final void detach() {
+        attach(null);
+    }
+
+    @Override
+    public final Configuration configuration() {
+        return configuration;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final R get(int i) {
+        return record(row(i));
+    }
+
+    @SuppressWarnings("unchecked")
+    private final R record(int row) {
+        AbstractRecord record = (AbstractRecord) factory.get();
+        record.fetched = true;
+
+        for (int i = 0; i < columns.length; i++)
+            record.values[i] = columns[i].get(row);
+
+        if (attachRecords(configuration))
+            record.attach(configuration);
+
+        return (R) record;
+    }
+
+    @Override
+    public final int size() {
+        return index == null ? rows : index.length;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Columns
+    // -------------------------------------------------------------------------
+
+    private static final class Rows {
+        int[] rows = new int[4];
+        int   size;
+
+        void add(int row) {
+            if (size == rows.length)
+                rows = Arrays.copyOf(rows, size * 2);
+
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+
+    private static abstract class Column {
+        final BitSet nulls = new BitSet();
+
+        abstract void set(int row, Object value);
+        abstract Object get(int row);
+        abstract void trim(int rows);
+
+        /**
+         * Compare two rows in natural order, <code>NULL</code> values first.
+         */
+        abstract int compare(int row1, int row2);
+
+        final int compareNulls(int row1, int row2) {
+            boolean n1 = nulls.get(row1);
+            boolean n2 = nulls.get(row2);
+
+            return n1 ? (n2 ? 0 : -1) : 1;
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        int[] values = new int[16];
+
+        @Override
+        void set(int row, Object value) {
+            if (row == values.length)
+                values = Arrays.copyOf(values, Math.max(16, row + (row >> 1)));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Integer) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            return nulls.get(row1) || nulls.get(row2) ? compareNulls(row1, row2) : Integer.compare(values[row1], values[row2]);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[] values = new long[16];
+
+        @Override
+        void set(int row, Object value) {
+            if (row == values.length)
+                values = Arrays.copyOf(values, Math.max(16, row + (row >> 1)));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Long) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            return nulls.get(row1) || nulls.get(row2) ? compareNulls(row1, row2) : Long.compare(values[row1], values[row2]);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] values = new double[16];
+
+        @Override
+        void set(int row, Object value) {
+            if (row == values.length)
+                values = Arrays.copyOf(values, Math.max(16, row + (row >> 1)));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Double) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            return nulls.get(row1) || nulls.get(row2) ? compareNulls(row1, row2) : Double.compare(values[row1], values[row2]);
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = new Object[16];
+
+        @Override
+        void set(int row, Object value) {
+            if (row == values.length)
+                values = Arrays.copyOf(values, Math.max(16, row + (row >> 1)));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = value;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        int compare(int row1, int row2) {
+            return nulls.get(row1) || nulls.get(row2) ? compareNulls(row1, row2) : ((Comparable) values[row1]).compareTo(values[row2]);
+        }
+    }
+}
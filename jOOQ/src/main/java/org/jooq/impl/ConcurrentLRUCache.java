@@ -0,0 +1,282 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jooq.CacheStatistics;
+
+/**
+ * A thread safe, bounded cache that approximates LRU semantics.
+ * <p>
+ * Unlike a {@link java.util.Collections#synchronizedMap(Map)} wrapping an
+ * access ordered {@link java.util.LinkedHashMap}, which mutates on
+ * {@link #get(Object)}, this cache doesn't lock on reads. Each
+ * entry carries a "referenced" flag, which is set on access. When the cache
+ * grows beyond its size, a single evicting thread sweeps over the entries
+ * with a "clock hand", clearing the flags of referenced entries, and evicting
+ * the first entry that hasn't been referenced since the last sweep (the CLOCK,
+ * or "second chance" algorithm). Other threads never wait for eviction, so the
+ * cache may temporarily exceed its size.
+ * <p>
+ * Hits and misses of {@link #get(Object)} as well as evictions are counted
+ * and exposed as {@link CacheStatistics}.
+ *
+ * @author Lukas Eder
+ */
+final class ConcurrentLRUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, CacheStatistics {
+
+    private final int                           size;
+    private final ConcurrentHashMap<K, Node<V>> map;
+    private final ReentrantLock                 evictionLock;
+    private Iterator<Map.Entry<K, Node<V>>>     hand;
+    private final LongAdder                     hits;
+    private final LongAdder                     misses;
+    private final LongAdder                     evictions;
+
+    ConcurrentLRUCache(int size) {
+        this.size = size;
+        this.map = new ConcurrentHashMap<>();
+        this.evictionLock = new ReentrantLock();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    // -------------------------------------------------------------------------
+    // Map API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final V get(Object key) {
+        Node<V> node = map.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+
+        // Avoid writing to shared memory if the flag is already set
+        if (!node.referenced)
+            node.referenced = true;
+
+        return node.value;
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public final V put(K key, V value) {
+        Node<V> previous = map.put(key, new Node<>(value));
+
+        if (previous == null)
+            evictIfNecessary();
+
+        return value(previous);
+    }
+
+    @Override
+    public final V putIfAbsent(K key, V value) {
+        Node<V> previous = map.putIfAbsent(key, new Node<>(value));
+
+        if (previous == null) {
+            evictIfNecessary();
+            return null;
+        }
+        else {
+            previous.referenced = true;
+            return previous.value;
+        }
+    }
+
+    @Override
+    public final V remove(Object key) {
+        return value(map.remove(key));
+    }
+
+    @Override
+    public final boolean remove(Object key, Object value) {
+        Node<V> node = map.get(key);
+        return node != null && Objects.equals(node.value, value) && map.remove(key, node);
+    }
+
+    @Override
+    public final boolean replace(K key, V oldValue, V newValue) {
+        Node<V> node = map.get(key);
+        return node != null && Objects.equals(node.value, oldValue) && map.replace(key, node, new Node<>(newValue));
+    }
+
+    @Override
+    public final V replace(K key, V value) {
+        return value(map.replace(key, new Node<>(value)));
+    }
+
+    @Override
+    public final int size() {
+        return map.size();
+    }
+
+    @Override
+    public final void clear() {
+        map.clear();
+    }
+
+    @Override
+    public final Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public final Iterator<Map.Entry<K, V>> iterator() {
+                Iterator<Map.Entry<K, Node<V>>> it = map.entrySet().iterator();
+
+                return new Iterator<Map.Entry<K, V>>() {
+                    @Override
+                    public final boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public final Map.Entry<K, V> next() {
+                        Map.Entry<K, Node<V>> e = it.next();
+                        return new SimpleImmutableEntry<>(e.getKey(), e.getValue().value);
+                    }
+
+                    @Override
+                    public final void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public final int size() {
+                return map.size();
+            }
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // CacheStatistics API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public final long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public final long evictions() {
+        return evictions.sum();
+    }
+
+    // -------------------------------------------------------------------------
+    // Eviction
+    // -------------------------------------------------------------------------
+
+    private final void evictIfNecessary() {
+
+        // Re-check the size after releasing the lock, as other threads may
+        // have inserted entries after the last check, without being able to
+        // acquire the lock themselves.
+        while (map.size() > size && evictionLock.tryLock()) {
+            try {
+                while (map.size() > size && evictOne());
+            }
+            finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private final boolean evictOne() {
+
+        // After two full sweeps, every entry has had its second chance, unless
+        // it has been accessed concurrently. Evict an entry regardless, then.
+        for (int i = 0, max = 2 * map.size() + 1; i <= max; i++) {
+            if (hand == null || !hand.hasNext()) {
+                hand = map.entrySet().iterator();
+
+                if (!hand.hasNext())
+                    return false;
+            }
+
+            Map.Entry<K, Node<V>> e = hand.next();
+            Node<V> node = e.getValue();
+
+            if (node.referenced && i < max)
+                node.referenced = false;
+            else if (map.remove(e.getKey(), node)) {
+                evictions.increment();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static final <V> V value(Node<V> node) {
+        return node == null ? null : node.value;
+    }
+
+    private static final class Node<V> {
+        final V          value;
+        volatile boolean referenced;
+
+        Node(V value) {
+            this.value = value;
+        }
+    }
+}
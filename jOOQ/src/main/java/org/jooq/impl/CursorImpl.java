@@ -173,6 +173,28 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         return result;
     }
 
+    /**
+     * Fetch all remaining records into a read-only {@link ResultImpl} backed by
+     * a {@link ColumnarRecordList}.
+     */
+    final Result<R> fetchColumnar() {
+        iterator();
+        ColumnarRecordList<R> records = new ColumnarRecordList<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields, factory);
+        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields, records);
+
+        ctx.result(result);
+        listener.resultStart(ctx);
+
+        while (iterator().hasNext())
+            records.append(iterator().next());
+
+        records.trim();
+        ctx.result(result);
+        listener.resultEnd(ctx);
+
+        return result;
+    }
+
     @Override
     public final void close() {
         JDBCUtils.safeClose(rs);
@@ -1566,8 +1588,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
                     value = (T) rsContext.value();
                 }
 
-                record.values[index] = value;
-                record.originals[index] = value;
+                record.load(index, value);
             }
 
             // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
@@ -200,6 +200,8 @@ import static org.jooq.util.postgres.PostgresUtils.toPGArrayString;
 import static org.jooq.util.postgres.PostgresUtils.toPGInterval;
 import static org.jooq.util.postgres.PostgresUtils.toYearToMonth;
 
+import java.io.PushbackReader;
+import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringReader;
 import java.lang.reflect.Modifier;
@@ -214,6 +216,7 @@ import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Struct;
 import java.sql.Time;
@@ -4849,6 +4852,24 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @SuppressWarnings("unchecked")
         static final <R extends Record> Result<R> readMultiset(BindingGetResultSetContext<?> ctx, DataType<Result<R>> type) throws SQLException {
+            if (streamMultisetJSON(ctx)) {
+                Reader reader = null;
+                boolean supported = true;
+
+                try {
+                    reader = ctx.resultSet().getCharacterStream(ctx.index());
+                }
+
+                // Not all drivers implement ResultSet::getCharacterStream, in
+                // case of which the content is read using ResultSet::getString
+                catch (SQLFeatureNotSupportedException e) {
+                    supported = false;
+                }
+
+                if (supported)
+                    return readMultisetJSON(ctx, (AbstractRow<R>) type.getRow(), (Class<R>) type.getRecordType(), reader);
+            }
+
             return readMultiset(ctx,
                 (AbstractRow<R>) type.getRow(),
                 (Class<R>) type.getRecordType(),
@@ -4943,6 +4964,67 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
                 return readMultisetScalar(ctx, row, recordType, s);
         }
 
+        /**
+         * Whether textual JSON <code>MULTISET</code> content can be decoded
+         * directly from the JDBC driver's character stream.
+         * <p>
+         * This excludes binary JSONB encodings, dialects that may produce
+         * native nested collections despite a JSON emulation being requested,
+         * as well as dialects whose drivers are known not to implement
+         * {@link ResultSet#getCharacterStream(int)}.
+         */
+        static final boolean streamMultisetJSON(BindingGetResultSetContext<?> ctx) {
+            switch (emulateMultiset(ctx.configuration())) {
+                case JSONB:
+                    if (EMULATE_AS_BLOB.contains(ctx.dialect()))
+                        return false;
+
+                    // no break
+                case JSON:
+                    switch (ctx.family()) {
+                        case DUCKDB:
+                        case H2:
+                        case TRINO:
+                            return false;
+
+                        default:
+                            return true;
+                    }
+
+                default:
+                    return false;
+            }
+        }
+
+        static final <R extends Record> Result<R> readMultisetJSON(Scope ctx, AbstractRow<R> row, Class<R> recordType, Reader reader) throws SQLException {
+            if (reader == null)
+                return null;
+
+            try (PushbackReader r = new PushbackReader(reader, 1)) {
+                int c = r.read();
+
+                if (c == '{' || c == '[') {
+                    r.unread(c);
+                    return new JSONReader<>(originalScope(ctx), row, recordType, true).readMultiset(r);
+                }
+
+                // Scalar content is rare, and can be read entirely
+                StringBuilder sb = new StringBuilder();
+                char[] buffer = new char[1024];
+
+                if (c != -1)
+                    sb.append((char) c);
+
+                for (int n; (n = r.read(buffer)) != -1;)
+                    sb.append(buffer, 0, n);
+
+                return readMultisetScalar(ctx, row, recordType, sb.toString());
+            }
+            catch (java.io.IOException e) {
+                throw new SQLException("Cannot read MULTISET content", e);
+            }
+        }
+
         static final <R extends Record> Result<R> readMultisetScalar(Scope ctx, AbstractRow<R> row, Class<R> recordType, String s) {
             Configuration c = originalConfiguration(ctx);
             Result<R> result = new ResultImpl<>(c, row);
@@ -37,7 +37,6 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.synchronizedMap;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
@@ -48,7 +47,8 @@ import org.jooq.CacheContext;
 import org.jooq.CacheProvider;
 
 /**
- * A default implementation a synchronized LRU cache where appropriate.
+ * A default implementation of a concurrent, bounded cache with approximate LRU
+ * semantics where appropriate.
  *
  * @author Lukas Eder
  */
@@ -58,10 +58,16 @@ final class DefaultCacheProvider implements CacheProvider {
     public Map<Object, Object> provide(CacheContext ctx) {
         switch (ctx.cacheType()) {
             case CACHE_PARSING_CONNECTION:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(ctx.settings().getCacheParsingConnectionLRUCacheSize(), 8192)));
+                return new ConcurrentLRUCache<>(defaultIfNull(ctx.settings().getCacheParsingConnectionLRUCacheSize(), 8192));
+
+            case CACHE_DIAGNOSTICS_CONNECTION:
+                return new ConcurrentLRUCache<>(defaultIfNull(ctx.settings().getCacheDiagnosticsConnectionLRUCacheSize(), 8192));
 
             case CACHE_RECORD_MAPPERS:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(ctx.settings().getCacheRecordMappersLRUCacheSize(), 8192)));
+                return new ConcurrentLRUCache<>(defaultIfNull(ctx.settings().getCacheRecordMappersLRUCacheSize(), 8192));
+
+            case CACHE_RENDERED_QUERIES:
+                return new ConcurrentLRUCache<>(defaultIfNull(ctx.settings().getCacheRenderedQueriesLRUCacheSize(), 8192));
 
             case REFLECTION_CACHE_GET_ANNOTATED_GETTER:
             case REFLECTION_CACHE_GET_ANNOTATED_MEMBERS:
@@ -70,10 +76,10 @@ final class DefaultCacheProvider implements CacheProvider {
             case REFLECTION_CACHE_GET_MATCHING_MEMBERS:
             case REFLECTION_CACHE_GET_MATCHING_SETTERS:
             case REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(ctx.settings().getReflectionCacheLRUCacheSize(), 32768)));
+                return new ConcurrentLRUCache<>(defaultIfNull(ctx.settings().getReflectionCacheLRUCacheSize(), 32768));
 
             default:
-                return synchronizedMap(new LRUCache<>(8192));
+                return new ConcurrentLRUCache<>(8192);
         }
     }
 }
@@ -93,6 +93,7 @@ import org.jooq.Unwrapper;
 import org.jooq.UnwrapperProvider;
 import org.jooq.VisitListener;
 import org.jooq.VisitListenerProvider;
+import org.jooq.conf.ExecutorType;
 import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ConfigurationException;
@@ -113,6 +114,10 @@ import io.r2dbc.spi.ConnectionFactory;
  */
 public class DefaultConfiguration extends AbstractConfiguration {
 
+    // The default executor providers are stateless and can be shared
+    private static final ExecutorProvider               DEFAULT_EXECUTOR_PROVIDER        = new DefaultExecutorProvider();
+    private static final ExecutorProvider               VIRTUAL_THREAD_EXECUTOR_PROVIDER = new VirtualThreadExecutorProvider();
+
     // Configuration objects
     private SQLDialect                                  dialect;
     private Settings                                    settings;
@@ -2184,7 +2189,9 @@ public class DefaultConfiguration extends AbstractConfiguration {
     public final ExecutorProvider executorProvider() {
         return executorProvider != null
              ? executorProvider
-             : new DefaultExecutorProvider();
+             : settings.getExecutorType() == ExecutorType.VIRTUAL_THREAD_PER_TASK
+             ? VIRTUAL_THREAD_EXECUTOR_PROVIDER
+             : DEFAULT_EXECUTOR_PROVIDER;
     }
 
     @Override
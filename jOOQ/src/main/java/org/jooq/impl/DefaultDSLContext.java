@@ -1519,6 +1519,11 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new JSONReader<Record>(this, null, null, false).read(Source.of(string));
     }
 
+    @Override
+    public Cursor<Record> fetchLazyFromJSON(Source source) {
+        return new JSONReader<Record>(this, null, null, false).readLazy(source);
+    }
+
     @Override
     public Result<Record> fetchFromXML(String string) {
         return new XMLHandler<>(this, null, null).read(string);
@@ -1553,10 +1558,8 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
                 for (String[] values : strings.subList(firstRowIndex, strings.size())) {
                     RecordImplN record = new RecordImplN(row);
 
-                    for (int i = 0; i < Math.min(values.length, fields.length); i++) {
-                        record.values[i] = values[i];
-                        record.originals[i] = values[i];
-                    }
+                    for (int i = 0; i < Math.min(values.length, fields.length); i++)
+                        record.load(i, values[i]);
 
                     result.add(record);
                 }
@@ -39,10 +39,12 @@ package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Collections.emptyList;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.EMPTY_OBJECT;
 import static org.jooq.impl.Tools.configuration;
 import static org.jooq.impl.Tools.getAnnotatedGetter;
 import static org.jooq.impl.Tools.getAnnotatedMembers;
@@ -57,6 +59,9 @@ import static org.jooq.impl.Tools.recordType;
 import static org.jooq.impl.Tools.row0;
 import static org.jooq.tools.reflect.Reflect.accessible;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -80,7 +85,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -417,7 +422,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         try {
             MutablePOJOMapper m = instance != null
                 ? new MutablePOJOMapper(null, instance)
-                : new MutablePOJOMapper(new ConstructorCall<>(accessible(type.getDeclaredConstructor())), null);
+                : new MutablePOJOMapper(constructorHandle(accessible(type.getDeclaredConstructor())), null);
 
             // [#10194] Check if the POJO is really mutable. There might as well
             //          be a no-args constructor for other reasons, e.g. when
@@ -729,7 +734,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final MutablePOJOMapper pojomapper;
 
         ProxyMapper() {
-            this.pojomapper = new MutablePOJOMapper(() -> Reflect.on(new HashMap<>()).as(type), null);
+            this.pojomapper = new MutablePOJOMapper(constructorHandle(() -> Reflect.on(new HashMap<>()).as(type)), null);
         }
 
         @Override
@@ -767,10 +772,124 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
-    private static final record ConstructorCall<E>(Constructor<? extends E> constructor) implements Callable<E> {
-        @Override
-        public E call() throws Exception {
-            return constructor.newInstance();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Create a {@link MethodHandle} of type
+     * <code>(Object[]) -> Object</code> for a constructor.
+     * <p>
+     * Access checks are performed on the {@link Constructor} already, so if
+     * the {@link MethodHandle} cannot be obtained, the constructor is invoked
+     * reflectively, which will produce the appropriate exception at mapping
+     * time.
+     */
+    static final MethodHandle constructorHandle(Constructor<?> constructor) {
+        MethodType type = methodType(Object.class, Object[].class);
+
+        try {
+            return LOOKUP.unreflectConstructor(constructor)
+                         .asFixedArity()
+                         .asSpreader(Object[].class, constructor.getParameterCount())
+                         .asType(type);
+        }
+        catch (IllegalAccessException e) {
+            return reflective(constructor, "newInstance", type);
+        }
+    }
+
+    /**
+     * Create a {@link MethodHandle} of type
+     * <code>(Object[]) -> Object</code> for a {@link Supplier}.
+     */
+    static final MethodHandle constructorHandle(Supplier<?> supplier) {
+        try {
+            return MethodHandles.dropArguments(
+                LOOKUP.findVirtual(Supplier.class, "get", methodType(Object.class)).bindTo(supplier),
+                0,
+                Object[].class
+            );
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new MappingException("Cannot access " + supplier, e);
+        }
+    }
+
+    /**
+     * Create a {@link MethodHandle} of type
+     * <code>(Object, Object) -> void</code> for a member.
+     */
+    static final MethodHandle setterHandle(java.lang.reflect.Field member) {
+        MethodType type = methodType(void.class, Object.class, Object.class);
+
+        try {
+            return LOOKUP.unreflectSetter(member).asType(type);
+        }
+        catch (IllegalAccessException e) {
+            return reflective(member, "set", type);
+        }
+    }
+
+    /**
+     * Create a {@link MethodHandle} of type
+     * <code>(Object, Object) -> void</code> for a setter method.
+     */
+    static final MethodHandle setterHandle(Method method) {
+        MethodType type = methodType(void.class, Object.class, Object.class);
+
+        try {
+            return LOOKUP.unreflect(method).asFixedArity().asType(type);
+        }
+        catch (IllegalAccessException e) {
+            return reflective(method, "invoke", methodType(Object.class, Object.class, Object[].class))
+                .asCollector(Object[].class, 1)
+                .asType(type);
+        }
+    }
+
+    private static final MethodHandle reflective(Object member, String name, MethodType type) {
+        try {
+            return LOOKUP.findVirtual(member.getClass(), name, type).bindTo(member);
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new MappingException("Cannot access " + member, e);
+        }
+    }
+
+    /**
+     * A member or setter method, pre-resolved to a {@link MethodHandle} of
+     * type <code>(Object, Object) -> void</code>, along with the type
+     * information needed to fetch and convert values from a {@link Record}.
+     */
+    private static final class Setter {
+        final MethodHandle handle;
+        final Class<?>     type;
+        final Type         genericType;
+        final boolean      collection;
+
+        Setter(MethodHandle handle, Class<?> type, Type genericType) {
+            this.handle = handle;
+            this.type = type;
+            this.genericType = genericType;
+            this.collection =
+                genericType instanceof ParameterizedType && (
+                    type == List.class
+                 || type == ArrayList.class
+                 || type == Set.class
+                 || type == LinkedHashSet.class
+                 || type == HashSet.class
+                );
+        }
+
+        static final Setter of(java.lang.reflect.Field member) {
+            return new Setter(setterHandle(member), member.getType(), member.getGenericType());
+        }
+
+        static final Setter of(Method method) {
+            return new Setter(setterHandle(method), method.getParameterTypes()[0], method.getGenericParameterTypes()[0]);
+        }
+
+        final void set(Object result, Object value) throws Throwable {
+            handle.invokeExact(result, value);
         }
     }
 
@@ -782,14 +901,21 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
      */
     private class MutablePOJOMapper extends AbstractDelegateMapper<R, E> {
 
-        private final Callable<E>                      constructor;
+        private final MethodHandle                     constructor;
         private final boolean                          useAnnotations;
         private final List<java.lang.reflect.Field>[]  members;
         private final List<java.lang.reflect.Method>[] methods;
         private final Map<String, NestedMappingInfo>   nestedMappingInfos;
         private final E                                instance;
 
-        MutablePOJOMapper(Callable<E> constructor, E instance) {
+        /**
+         * The non-final {@link #members} and the {@link #methods}, resolved
+         * to {@link MethodHandle} based setters ahead of time, per field.
+         */
+        private final Setter[][]                       setters;
+        private final Map<String, Setter[]>            nestedSetters;
+
+        MutablePOJOMapper(MethodHandle constructor, E instance) {
             this.constructor = constructor;
             this.useAnnotations = hasColumnAnnotations(configuration, type);
             this.members = new List[fields.length];
@@ -858,6 +984,33 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                         );
                 });
             }
+
+            this.setters = new Setter[fields.length][];
+            this.nestedSetters = new HashMap<>();
+
+            for (int i = 0; i < fields.length; i++)
+                setters[i] = setters(members[i], methods[i]);
+
+            for (String prefix : nestedMappingInfos.keySet())
+                nestedSetters.put(prefix, setters(
+                    getMatchingMembers(configuration, type, prefix, true),
+                    getMatchingSetters(configuration, type, prefix, true)
+                ));
+        }
+
+        private static final Setter[] setters(List<java.lang.reflect.Field> members, List<Method> methods) {
+            List<Setter> result = new ArrayList<>(members.size() + methods.size());
+
+            for (java.lang.reflect.Field member : members)
+
+                // [#935] Avoid setting final fields
+                if ((member.getModifiers() & Modifier.FINAL) == 0)
+                    result.add(Setter.of(member));
+
+            for (Method method : methods)
+                result.add(Setter.of(method));
+
+            return result.toArray(new Setter[0]);
         }
 
         final boolean isMutable() {
@@ -876,91 +1029,44 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         @Override
         public final E map(R record) {
             try {
-                final E result = instance != null ? instance : constructor.call();
+                final E result = instance != null ? instance : (E) (Object) constructor.invokeExact(EMPTY_OBJECT);
 
-                for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i])
-
-                        // [#935] Avoid setting final fields
-                        if ((member.getModifiers() & Modifier.FINAL) == 0)
-                            map(record, result, member, i);
-
-                    for (java.lang.reflect.Method method : methods[i]) {
-                        Class<?> mType = method.getParameterTypes()[0];
-                        Object value = record.get(i, mType);
-
-                        // [#3082] [#10910] Try mapping nested collection types
-                        Object list = tryConvertToListOrSet(value, mType, method.getGenericParameterTypes()[0]);
-                        if (list != null)
-                            method.invoke(result, list);
-                        else
-                            method.invoke(result, value);
+                for (int i = 0; i < setters.length; i++) {
+                    for (Setter setter : setters[i]) {
+                        Object value = record.get(i, setter.type);
+
+                        // [#3082] [#10910] [#11213] Try mapping nested collection types
+                        Object list = setter.collection ? tryConvertToListOrSet(value, setter.type, setter.genericType) : null;
+                        setter.set(result, list != null ? list : value);
                     }
                 }
 
                 for (final Entry<String, NestedMappingInfo> entry : nestedMappingInfos.entrySet()) {
-                    final String prefix = entry.getKey();
+                    final Setter[] n = nestedSetters.get(entry.getKey());
 
                     for (final RecordMapper<AbstractRecord, Object> mapper : entry.getValue().mappers) {
-                        entry.getValue().recordDelegate.operate(rec -> {
+                        Object value = mapper.map(entry.getValue().recordDelegate.operate(rec -> {
                             List<Integer> indexes = entry.getValue().indexLookup;
                             for (int index = 0; index < indexes.size(); index++)
                                 rec.set(index, record.get(indexes.get(index)));
 
-                            Object value = mapper.map(rec);
-                            for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true)) {
-
-                                // [#935] Avoid setting final fields
-                                if ((member.getModifiers() & Modifier.FINAL) == 0)
-                                    map(value, result, member);
-                            }
-
-                            for (Method method : getMatchingSetters(configuration, type, prefix, true))
-                                method.invoke(result, value);
-
                             return rec;
-                        });
+                        }));
+
+                        for (Setter setter : n)
+                            setter.set(result, value);
                     }
                 }
 
                 return result;
             }
-            catch (Exception e) {
-                throw new MappingException("An error occurred when mapping record to " + type, e);
-            }
-        }
-
-        private final void map(Record record, Object result, java.lang.reflect.Field member, int index) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    map(record.get(index, byte.class), result, member);
-                else if (mType == short.class)
-                    map(record.get(index, short.class), result, member);
-                else if (mType == int.class)
-                    map(record.get(index, int.class), result, member);
-                else if (mType == long.class)
-                    map(record.get(index, long.class), result, member);
-                else if (mType == float.class)
-                    map(record.get(index, float.class), result, member);
-                else if (mType == double.class)
-                    map(record.get(index, double.class), result, member);
-                else if (mType == boolean.class)
-                    map(record.get(index, boolean.class), result, member);
-                else if (mType == char.class)
-                    map(record.get(index, char.class), result, member);
+            // Like with reflection, where user code errors were wrapped in an
+            // InvocationTargetException, only VM errors aren't wrapped
+            catch (VirtualMachineError e) {
+                throw e;
             }
-
-            else {
-                Object value = record.get(index, mType);
-
-                // [#3082] [#10910] [#11213] Try mapping nested collection types
-                Object list = tryConvertToListOrSet(value, mType, member.getGenericType());
-                if (list != null)
-                    member.set(result, list);
-                else
-                    map(value, result, member);
+            catch (Throwable e) {
+                throw new MappingException("An error occurred when mapping record to " + type, e);
             }
         }
 
@@ -980,32 +1086,6 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
             return null;
         }
-
-        private final void map(Object value, Object result, java.lang.reflect.Field member) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    member.setByte(result, (Byte) value);
-                else if (mType == short.class)
-                    member.setShort(result, (Short) value);
-                else if (mType == int.class)
-                    member.setInt(result, (Integer) value);
-                else if (mType == long.class)
-                    member.setLong(result, (Long) value);
-                else if (mType == float.class)
-                    member.setFloat(result, (Float) value);
-                else if (mType == double.class)
-                    member.setDouble(result, (Double) value);
-                else if (mType == boolean.class)
-                    member.setBoolean(result, (Boolean) value);
-                else if (mType == char.class)
-                    member.setChar(result, (Character) value);
-            }
-            else {
-                member.set(result, value);
-            }
-        }
     }
 
     /**
@@ -1016,6 +1096,8 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         final Constructor<E>                          constructor;
         final Class<?>[]                              parameterTypes;
+        private final MethodHandle                    handle;
+        private final Object[]                        initValues;
         private final boolean                         nested;
         private final NestedMappingInfo[]             nestedMappingInfo;
         private final Integer[]                       propertyIndexes;
@@ -1031,6 +1113,10 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
             this.constructor = accessible(constructor);
             this.parameterTypes = parameterTypes;
+            this.handle = constructorHandle(this.constructor);
+
+            // [#10425] Initialise array to constructor parameter type init values
+            this.initValues = Tools.map(parameterTypes, c -> Reflect.initValue(c), Object[]::new);
             this.nestedMappingInfo = new NestedMappingInfo[size];
             this.propertyIndexes = new Integer[fields.length];
             this.propertyNames = propertyNames;
@@ -1142,17 +1228,21 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         @Override
         public final E map(R record) {
             try {
-                return constructor.newInstance(nested ? mapNested(record) : mapNonnested(record));
+                return (E) (Object) handle.invokeExact(nested ? mapNested(record) : mapNonnested(record));
             }
-            catch (Exception e) {
+            // Like with reflection, where user code errors were wrapped in an
+            // InvocationTargetException, only VM errors aren't wrapped
+            catch (VirtualMachineError e) {
+                throw e;
+            }
+            catch (Throwable e) {
                 throw new MappingException("An error occurred when mapping record to " + type, e);
             }
         }
 
         private final Object[] mapNonnested(R record) {
 
-            // [#10425] Initialise array to constructor parameter type init values
-            Object[] converted = Tools.map(parameterTypes, c -> Reflect.initValue(c), Object[]::new);
+            Object[] converted = initValues.clone();
 
             for (int i = 0; i < record.size(); i++)
                 set(record, i, converted, propertyIndexes[i]);
@@ -43,6 +43,7 @@ import static org.jooq.ExecuteType.DDL;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.renderLocale;
+import static org.jooq.conf.SettingsTools.renderedQueryCaching;
 import static org.jooq.impl.Identifiers.QUOTES;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER_ESCAPED;
@@ -941,9 +942,10 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             }
             else if (executePreparedStatements(c.settings()) && !forceStaticStatement) {
                 try {
-                    DefaultRenderContext render = new DefaultRenderContext(c, ctx);
-                    render.data(DATA_COUNT_BIND_VALUES, countBindValues);
-                    return new Rendered(render.visit(query).render(), render.bindValues(), render.skipUpdateCounts());
+                    if (renderedQueryCaching(c.settings()))
+                        return QueryShape.rendered(c, ctx, query, () -> prepared(c, ctx, query, countBindValues));
+                    else
+                        return prepared(c, ctx, query, countBindValues);
                 }
                 catch (DefaultRenderContext.ForceInlineSignal e) {
                     ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
@@ -957,6 +959,17 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             }
         }
 
+        private static final Rendered prepared(
+            Configuration c,
+            DefaultExecuteContext ctx,
+            Query query,
+            boolean countBindValues
+        ) {
+            DefaultRenderContext render = new DefaultRenderContext(c, ctx);
+            render.data(DATA_COUNT_BIND_VALUES, countBindValues);
+            return new Rendered(render.visit(query).render(), render.bindValues(), render.skipUpdateCounts());
+        }
+
         final void setSQLAndParams(DefaultExecuteContext ctx) {
             ctx.sql(sql);
 
@@ -38,7 +38,6 @@
 package org.jooq.impl;
 
 import static java.util.Arrays.asList;
-import static java.util.Collections.synchronizedMap;
 // ...
 // ...
 // ...
@@ -46,7 +45,9 @@ import static org.jooq.conf.DiagnosticsConnection.OFF;
 import static org.jooq.conf.ParamType.FORCE_INDEXED;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.CacheType.CACHE_DIAGNOSTICS_CONNECTION;
 import static org.jooq.impl.QOM.commutativeCheck;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.CallableStatement;
 import java.sql.Connection;
@@ -54,12 +55,11 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
 
 import org.jooq.AggregateFunction;
@@ -92,7 +92,7 @@ import org.jooq.tools.jdbc.DefaultConnection;
  */
 final class DiagnosticsConnection extends DefaultConnection {
 
-    // TODO: Make these configurable
+    // Defaults for the corresponding Settings
     static final int                LRU_SIZE_GLOBAL = 50000;
     static final int                LRU_SIZE_LOCAL  = 500;
     static final int                DUP_SIZE        = 500;
@@ -215,7 +215,7 @@ final class DiagnosticsConnection extends DefaultConnection {
     static final Map<String, Set<String>> duplicateSql0(Configuration configuration) {
         return (Map<String, Set<String>>) configuration.data().computeIfAbsent(
             "org.jooq.diagnostics.duplicate-sql",
-            k -> synchronizedMap(new LRU<>(LRU_SIZE_GLOBAL))
+            k -> new ConcurrentLRUCache<>(defaultIfNull(configuration.settings().getDiagnosticsDuplicateStatementsLRUCacheSize(), LRU_SIZE_GLOBAL))
         );
     }
 
@@ -239,7 +239,7 @@ final class DiagnosticsConnection extends DefaultConnection {
     private static final Map<String, List<String>> repetition0(Configuration configuration, String cacheKey) {
         return (Map<String, List<String>>) repetitionData(configuration).computeIfAbsent(
             cacheKey,
-            k -> synchronizedMap(new LRU<>(LRU_SIZE_LOCAL))
+            k -> new ConcurrentLRUCache<>(defaultIfNull(configuration.settings().getDiagnosticsRepeatedStatementsLRUCacheSize(), LRU_SIZE_LOCAL))
         );
     }
 
@@ -252,33 +252,32 @@ final class DiagnosticsConnection extends DefaultConnection {
         return configuration.settings().getDiagnosticsConnection() == OFF;
     }
 
+    /**
+     * Whether to analyse the current statement, according to
+     * {@link Settings#getDiagnosticsSampleRate()}.
+     */
+    final boolean sampled() {
+        int rate = defaultIfNull(configuration.settings().getDiagnosticsSampleRate(), 1);
+        return rate <= 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
     final String parse(String sql) {
 
         // [#7398] Don't do anything if the feature is turned OFF
-        if (disabled())
+        if (disabled() || !sampled())
             return sql;
 
-        Queries queries = null;
-        Queries transformed = null;
-        String normalised;
-
-        try {
-
-            // [#14137] TODO: Avoid unnecessary work, depending on the Settings
-            transformed = queries = parser.parse(sql);
-
-
-
+        // Repeated statements needn't be parsed and normalised again
+        Normalised n = Cache.run(configuration, () -> normalise(sql), CACHE_DIAGNOSTICS_CONNECTION, () -> sql);
+        Queries queries = n.queries;
+        Queries transformed = n.transformed;
+        String normalised = n.normalised;
 
-            normalised = normalisingRenderer.render(transformed);
-        }
-        catch (ParserException exception) {
-            normalised = sql;
+        if (n.exception != null)
             listeners.exception(new DefaultDiagnosticsContext(
                 configuration,
-                "Query could not be parsed.", sql, exception
+                "Query could not be parsed.", sql, n.exception
             ));
-        }
 
         try {
             if (check(Settings::isDiagnosticsDuplicateStatements)) {
@@ -450,38 +449,63 @@ final class DiagnosticsConnection extends DefaultConnection {
 
 
 
-    private final Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
-        synchronized (map) {
-            Set<String> v = map.computeIfAbsent(normalised, k -> new HashSet<>());
+    private final Normalised normalise(String sql) {
+        Queries queries = null;
+        Queries transformed = null;
 
-            if (v.size() >= DUP_SIZE || (v.add(sql) && v.size() > 1))
-                return v;
-            else
-                return null;
+        try {
+
+            // [#14137] TODO: Avoid unnecessary work, depending on the Settings
+            transformed = queries = parser.parse(sql);
+
+
+
+
+            return new Normalised(queries, transformed, normalisingRenderer.render(transformed), null);
+        }
+        catch (ParserException exception) {
+            return new Normalised(queries, transformed, sql, exception);
         }
     }
 
-    private final List<String> repetitions(Map<String, List<String>> map, String sql, String normalised) {
-        List<String> v = map.computeIfAbsent(normalised, k -> new ArrayList<>());
+    /**
+     * The parsed and normalised form of a SQL string.
+     */
+    private static final class Normalised {
+        final Queries         queries;
+        final Queries         transformed;
+        final String          normalised;
+        final ParserException exception;
+
+        Normalised(Queries queries, Queries transformed, String normalised, ParserException exception) {
+            this.queries = queries;
+            this.transformed = transformed;
+            this.normalised = normalised;
+            this.exception = exception;
+        }
+    }
 
-        if (v.size() >= DUP_SIZE || (v.add(sql) && v.size() > 1))
+    private final int variantsLimit() {
+        return defaultIfNull(configuration.settings().getDiagnosticsStatementVariantsLimit(), DUP_SIZE);
+    }
+
+    private final Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
+        Set<String> v = map.computeIfAbsent(normalised, k -> ConcurrentHashMap.newKeySet());
+
+        if (v.size() >= variantsLimit() || (v.add(sql) && v.size() > 1))
             return v;
         else
             return null;
     }
 
-    // See https://stackoverflow.com/a/1953516/521799
-    static final class LRU<V> extends LinkedHashMap<String, V> {
-        private final int size;
-
-        LRU(int size) {
-            super(size + 1, 1.0f, true);
-            this.size = size;
-        }
+    private final List<String> repetitions(Map<String, List<String>> map, String sql, String normalised) {
+        List<String> v = map.computeIfAbsent(normalised, k -> new ArrayList<>());
 
-        @Override
-        protected boolean removeEldestEntry(Entry<String, V> eldest) {
-            return size() > size;
+        synchronized (v) {
+            if (v.size() >= variantsLimit() || (v.add(sql) && v.size() > 1))
+                return v;
+            else
+                return null;
         }
     }
 }
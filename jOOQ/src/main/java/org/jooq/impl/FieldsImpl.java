@@ -41,6 +41,7 @@ package org.jooq.impl;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.QueryPartListView.wrap;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.EMPTY_INT;
 import static org.jooq.impl.Tools.converterOrFail;
 import static org.jooq.impl.Tools.indexFail;
 import static org.jooq.impl.Tools.indexOrFail;
@@ -52,7 +53,10 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jooq.Configuration;
@@ -90,8 +94,16 @@ implements
     UTransient
 {
 
-    private static final JooqLogger log = JooqLogger.getLogger(FieldsImpl.class);
+    private static final JooqLogger log             = JooqLogger.getLogger(FieldsImpl.class);
+
+    /**
+     * The number of fields from which on lookups go through a
+     * {@link FieldsIndex}, rather than linear scans.
+     */
+    static final int                INDEX_THRESHOLD = 16;
+
     Field<?>[]                      fields;
+    transient volatile FieldsIndex  index;
 
 
 
@@ -243,22 +255,67 @@ implements
         if (field == null)
             return result.resultNull();
 
+        FieldsIndex i = index();
+
+        // Fields that aren't AbstractNamed might be equal to fields of
+        // different names, so the index can't be used for them
+        if (i == null || !(field instanceof AbstractNamed))
+            return field0(field, result, null, null);
+
         // [#4540] Try finding a match by identity
-        for (int i = 0; i < fields.length; i++) {
-            Field<?> f = fields[i];
+        Integer identity = i.identity.get(field);
+        if (identity != null)
+            return result.result(fields[identity], identity);
+
+        int[] named = i.names.get(field.getName());
+        return field0(field, result, named == null ? EMPTY_INT : named, i.opaque);
+    }
+
+    /**
+     * Look up a field among candidates.
+     *
+     * @param named The indexes of all fields of the same name as the argument
+     *            field, or <code>null</code> to scan all fields.
+     * @param opaque The indexes of all fields that may be equal to the argument
+     *            field despite a different name, or <code>null</code> to scan
+     *            all fields.
+     */
+    private final <U> U field0(Field<?> field, FieldOrIndex<U> result, int[] named, int[] opaque) {
+        int n = named == null ? fields.length : named.length;
+
+        // [#4540] Try finding a match by identity
+        if (named == null) {
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
 
-            if (f == field)
-                return result.result(f, i);
+                if (f == field)
+                    return result.result(f, i);
+            }
         }
 
         // [#1802] Try finding an exact match (e.g. exact matching qualified name)
-        for (int i = 0; i < fields.length; i++) {
-            Field<?> f = fields[i];
+        int exact = -1;
+        for (int j = 0; j < n; j++) {
+            int i = named == null ? j : named[j];
 
-            if (f.equals(field))
-                return result.result(f, i);
+            if (fields[i].equals(field)) {
+                exact = i;
+                break;
+            }
+        }
+
+        if (opaque != null) {
+            for (int j = 0; j < opaque.length && (exact == -1 || opaque[j] < exact); j++) {
+                if (fields[opaque[j]].equals(field)) {
+                    exact = opaque[j];
+                    break;
+                }
+            }
         }
 
+        if (exact != -1)
+            return result.result(fields[exact], exact);
+
         // [#4283] table / column matches are better than column only matches
         Field<?> columnOnlyMatch = null;
         Field<?> columnOnlyMatch2 = null;
@@ -273,7 +330,8 @@ implements
         String tableName = tableName(field);
         String fieldName = field.getName();
 
-        for (int i = 0; i < fields.length; i++) {
+        for (int j = 0; j < n; j++) {
+            int i = named == null ? j : named[j];
             Field<?> f = fields[i];
             String fName = f.getName();
 
@@ -346,10 +404,17 @@ implements
         if (fieldName == null)
             return result.resultNull();
 
+        FieldsIndex index = index();
+        int[] named = null;
+
+        if (index != null && (named = index.names.get(fieldName)) == null)
+            return result.result(null, -1);
+
         Field<?> columnMatch = null;
         int indexMatch = -1;
 
-        for (int i = 0; i < fields.length; i++) {
+        for (int j = 0, n = named == null ? fields.length : named.length; j < n; j++) {
+            int i = named == null ? j : named[j];
             Field<?> f = fields[i];
 
             if (f.getName().equals(fieldName)) {
@@ -439,7 +504,11 @@ implements
 
     @Override
     public final Row fieldsRow() {
-        return new RowImplN(fields);
+        RowImplN result = new RowImplN(fields);
+
+        // The derived row has the same fields in the same order
+        result.fields.index = index;
+        return result;
     }
 
     @Override
@@ -582,6 +651,7 @@ implements
 
 
         fields = add0(fields, f);
+        index = null;
     }
 
 
@@ -631,6 +701,81 @@ implements
 
 
 
+
+    // -------------------------------------------------------------------------
+    // XXX: Lookup index
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get the lookup index for these fields, or <code>null</code> if there
+     * are too few fields for an index to pay off.
+     */
+    final FieldsIndex index() {
+        if (fields.length < INDEX_THRESHOLD)
+            return null;
+
+        // Concurrent initialisation is idempotent
+        FieldsIndex result = index;
+        if (result == null)
+            index = result = new FieldsIndex(fields);
+
+        return result;
+    }
+
+    /**
+     * An immutable index over an array of fields, replacing linear scans in
+     * the various <code>field0()</code> lookups by hash lookups.
+     * <p>
+     * A {@link TableFieldImpl} can only be equal to an {@link AbstractNamed}
+     * field of the same name, as both types compare names first. Other fields
+     * might be equal to fields of a different name, e.g. a
+     * {@link org.jooq.Param} comparing values. Such fields are recorded as
+     * opaque and are always checked explicitly.
+     */
+    static final class FieldsIndex {
+
+        /**
+         * The first index of each field by identity.
+         */
+        final Map<Field<?>, Integer> identity;
+
+        /**
+         * The indexes of all fields by {@link Field#getName()}. Ambiguous
+         * names have more than one index.
+         */
+        final Map<String, int[]>     names;
+
+        /**
+         * The indexes of all fields that aren't {@link TableFieldImpl}.
+         */
+        final int[]                  opaque;
+
+        FieldsIndex(Field<?>[] fields) {
+            this.identity = new IdentityHashMap<>(fields.length);
+            this.names = new HashMap<>(fields.length * 4 / 3 + 1);
+
+            int[] o = new int[fields.length];
+            int opaqueLength = 0;
+
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
+
+                identity.putIfAbsent(f, i);
+                names.merge(f.getName(), new int[] { i }, FieldsIndex::concat);
+
+                if (!(f instanceof TableFieldImpl))
+                    o[opaqueLength++] = i;
+            }
+
+            this.opaque = Arrays.copyOf(o, opaqueLength);
+        }
+
+        private static final int[] concat(int[] a, int[] b) {
+            int[] result = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, result, a.length, b.length);
+            return result;
+        }
+    }
 
     // -------------------------------------------------------------------------
     // XXX: [#8040] An abstraction over two possible return types.
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Collections.emptyList;
+
+import java.sql.ResultSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.jooq.Attachable;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+
+/**
+ * A {@link org.jooq.Cursor} that reads records lazily from a
+ * {@link JSONStreamReader}.
+ *
+ * @author Lukas Eder
+ */
+final class JSONCursor<R extends Record> extends AbstractCursor<R> {
+
+    private final DSLContext         ctx;
+    private final Class<? extends R> recordType;
+    private final JSONStreamReader   reader;
+    private Iterator<R>              iterator;
+    private boolean                  isClosed;
+
+    JSONCursor(DSLContext ctx, AbstractRow<R> row, Class<? extends R> recordType, JSONStreamReader reader) {
+        super(ctx.configuration(), row);
+
+        this.ctx = ctx;
+        this.recordType = recordType;
+        this.reader = reader;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Attachable API
+    // -------------------------------------------------------------------------
+
+    @Override
+    final List<? extends Attachable> getAttachables() {
+        return emptyList();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Cursor API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final Iterator<R> iterator() {
+        if (iterator == null)
+            iterator = new JSONCursorIterator();
+
+        return iterator;
+    }
+
+    @Override
+    public final Result<R> fetchNext(int number) {
+        ResultImpl<R> result = new ResultImpl<>(configuration, fields);
+
+        for (int i = 0; i < number && iterator().hasNext(); i++)
+            result.addRecord(iterator().next());
+
+        return result;
+    }
+
+    @Override
+    public final void close() {
+        reader.close();
+        isClosed = true;
+    }
+
+    @Override
+    public final boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * There is no JDBC {@link ResultSet} backing this cursor, so the remaining
+     * records are fetched and wrapped in a {@link ResultSet}.
+     */
+    @Override
+    public final ResultSet resultSet() {
+        return fetch().intoResultSet();
+    }
+
+    private final class JSONCursorIterator implements Iterator<R> {
+
+        @Override
+        public final boolean hasNext() {
+            if (isClosed)
+                return false;
+
+            if (reader.peek() == JSONStreamReader.EOF) {
+                close();
+                return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public final R next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return JSONReader.record(ctx, fields, recordType, false, reader.next());
+        }
+    }
+}
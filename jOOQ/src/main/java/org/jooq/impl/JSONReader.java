@@ -61,6 +61,7 @@ import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.newRecord;
 import static org.jooq.tools.StringUtils.defaultIfBlank;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
@@ -70,8 +71,10 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.jooq.Configuration;
 import org.jooq.ContextConverter;
 import org.jooq.ConverterContext;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.DataType;
 import org.jooq.Field;
@@ -82,6 +85,7 @@ import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.SQLDialectCategory;
 import org.jooq.Source;
+import org.jooq.exception.DataTypeException;
 
 /**
  * A very simple JSON reader based on Simple JSON.
@@ -117,6 +121,68 @@ final class JSONReader<R extends Record> {
         }
     }
 
+    /**
+     * Read records one by one from a {@link Source}, without reading the
+     * entire document into memory first.
+     */
+    final Cursor<R> readLazy(final Source source) {
+        JSONStreamReader reader = new JSONStreamReader(source.reader());
+
+        try {
+            List<Field<?>> header = reader.header();
+            AbstractRow<R> actualRow = row;
+
+            // Without a header, the row type is derived from the first record
+            if (actualRow == null) {
+                Object first = header.isEmpty() ? reader.peek() : null;
+
+                actualRow = first == JSONStreamReader.EOF
+                    ? (AbstractRow<R>) Tools.row0(header)
+                    : row(header, first);
+            }
+
+            return new JSONCursor<>(ctx, actualRow, recordType, reader);
+        }
+        catch (RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Read a <code>MULTISET</code> emulation's JSON content record by record
+     * from a {@link Reader}, without reading the entire document into a
+     * {@link String} or a tree of {@link List} and {@link Map} values first.
+     */
+    final Result<R> readMultiset(Reader reader) {
+        try (JSONStreamReader r = new JSONStreamReader(reader)) {
+            List<Field<?>> header = r.header();
+            AbstractRow<R> actualRow = row != null || header.isEmpty() ? row : (AbstractRow<R>) Tools.row0(header);
+            Result<R> result = actualRow != null ? new ResultImpl<>(ctx.configuration(), actualRow) : null;
+
+            int nulls = 0;
+
+            for (Object o; (o = r.next()) != JSONStreamReader.EOF;) {
+                if (result == null) {
+
+                    // A null record doesn't tell the row type
+                    if (o == null) {
+                        nulls++;
+                        continue;
+                    }
+
+                    result = nulls(new ResultImpl<>(ctx.configuration(), actualRow = row(header, o)), nulls);
+                }
+
+                result.add(record(ctx, actualRow, recordType, true, o));
+            }
+
+            return result == null && nulls > 0
+                 ? nulls(new ResultImpl<>(ctx.configuration(), (AbstractRow<R>) Tools.row0(header)), nulls)
+                 : result;
+        }
+    }
+
     private static final <R extends Record> Result<R> read(
         DSLContext ctx,
         AbstractRow<R> actualRow,
@@ -133,18 +199,8 @@ final class JSONReader<R extends Record> {
             Map<String, Object> o1 = (Map<String, Object>) root;
             List<Map<String, String>> fields = (List<Map<String, String>>) o1.get("fields");
 
-            if (fields != null) {
-                for (Map<String, String> field : fields) {
-                    String catalog = field.get("catalog");
-                    String schema = field.get("schema");
-                    String table = field.get("table");
-                    String name = field.get("name");
-                    String type = field.get("type");
-
-                    // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
-                    header.add(field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR"))));
-                }
-            }
+            if (fields != null)
+                header.addAll(header(fields));
 
             records = (List<?>) o1.get("records");
         }
@@ -158,66 +214,155 @@ final class JSONReader<R extends Record> {
             result = new ResultImpl<>(ctx.configuration(), actualRow);
 
         if (records != null) {
-            for (Object o3 : records) {
-                if (o3 instanceof Map) {
-                    Map<String, Object> record = (Map<String, Object>) o3;
+            int nulls = 0;
 
-                    if (result == null) {
-                        if (header.isEmpty())
-                            for (String name : record.keySet())
-                                header.add(field(name(name), VARCHAR));
+            for (Object o3 : records) {
+                if (result == null) {
 
-                        result = new ResultImpl<>(ctx.configuration(), actualRow = (AbstractRow<R>) Tools.row0(header));
+                    // A null record doesn't tell the row type
+                    if (o3 == null) {
+                        nulls++;
+                        continue;
                     }
 
-                    List<Object> list = multiset
-                        ? patchRecord(
-                            ctx,
-                            multiset,
-                            actualRow,
+                    result = nulls(new ResultImpl<>(ctx.configuration(), actualRow = row(header, o3)), nulls);
+                }
 
-                            // This sort is required if we use the JSONFormat.RecordFormat.OBJECT encoding (e.g. in SQL Server)
-                            sortedValues(record)
-                        )
-                        : null;
+                result.add(record(ctx, actualRow, recordType, multiset, o3));
+            }
 
-                    result.add(newRecord(true, ctx.configuration(), recordType, actualRow).operate(r -> {
-                        if (multiset)
-                            r.from(list);
-                        else
-                            r.fromMap(record);
+            // Without a header, records that are all null have no columns
+            if (result == null && nulls > 0)
+                result = nulls(new ResultImpl<>(ctx.configuration(), (AbstractRow<R>) Tools.row0(header)), nulls);
+        }
 
-                        r.touched(false);
-                        return r;
-                    }));
-                }
-                else {
-                    List<Object> record = (List<Object>) o3;
+        return result;
+    }
 
-                    if (result == null) {
-                        if (header.isEmpty())
-                            header.addAll(asList(fields(record.size())));
+    private static final <R extends Record> Result<R> nulls(Result<R> result, int nulls) {
+        for (int i = 0; i < nulls; i++)
+            result.add(null);
 
-                        result = new ResultImpl<>(ctx.configuration(), actualRow = (AbstractRow<R>) Tools.row0(header));
-                    }
+        return result;
+    }
 
-                    patchRecord(ctx, multiset, actualRow, record);
+    /**
+     * Read the <code>"fields"</code> header of the jOOQ JSON format.
+     */
+    static final List<Field<?>> header(List<Map<String, String>> fields) {
+        List<Field<?>> header = new ArrayList<>(fields.size());
+
+        for (Map<String, String> field : fields) {
+            String catalog = field.get("catalog");
+            String schema = field.get("schema");
+            String table = field.get("table");
+            String name = field.get("name");
+            String type = field.get("type");
+
+            // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
+            header.add(field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR"))));
+        }
 
-                    // [#12930] NULL records are possible when nested ROW is
-                    //          returned from an empty scalar subquery.
-                    if (record == null)
-                        result.add(null);
-                    else
-                        result.add(newRecord(true, ctx.configuration(), recordType, actualRow).operate(r -> {
-                            r.from(record);
-                            r.touched(false);
-                            return r;
-                        }));
-                }
-            }
+        return header;
+    }
+
+    /**
+     * Derive a row type from an explicit header, or from the first record if
+     * there is no header.
+     */
+    static final <R extends Record> AbstractRow<R> row(List<Field<?>> header, Object first) {
+        if (header.isEmpty()) {
+            if (first == null)
+                throw new DataTypeException("Cannot derive a row type from a null record without a \"fields\" header");
+
+            header = new ArrayList<>();
+
+            if (first instanceof Map)
+                for (String name : ((Map<String, Object>) first).keySet())
+                    header.add(field(name(name), VARCHAR));
+            else
+                header.addAll(asList(fields(((List<Object>) first).size())));
         }
 
-        return result;
+        return (AbstractRow<R>) Tools.row0(header);
+    }
+
+    /**
+     * Turn a single JSON record, encoded either as an array or as an object,
+     * into a {@link Record}.
+     */
+    static final <R extends Record> R record(
+        DSLContext ctx,
+        AbstractRow<R> actualRow,
+        Class<? extends R> recordType,
+        boolean multiset,
+        Object o3
+    ) {
+        if (o3 instanceof Map) {
+            Map<String, Object> record = (Map<String, Object>) o3;
+
+            List<Object> list = multiset
+                ? patchRecord(
+                    ctx,
+                    multiset,
+                    actualRow,
+
+                    // This sort is required if we use the JSONFormat.RecordFormat.OBJECT encoding (e.g. in SQL Server)
+                    sortedValues(record)
+                )
+                : null;
+
+            return newRecord(true, ctx.configuration(), recordType, actualRow).operate(r -> {
+                if (multiset)
+                    from(ctx, r, list);
+                else
+                    r.fromMap(record);
+
+                r.touched(false);
+                return r;
+            });
+        }
+        else {
+            List<Object> record = (List<Object>) o3;
+
+            // [#12930] NULL records are possible when nested ROW is
+            //          returned from an empty scalar subquery.
+            if (record == null)
+                return null;
+
+            patchRecord(ctx, multiset, actualRow, record);
+            return newRecord(true, ctx.configuration(), recordType, actualRow).operate(r -> {
+                if (multiset)
+                    from(ctx, r, record);
+                else
+                    r.from(record);
+
+                r.touched(false);
+                return r;
+            });
+        }
+    }
+
+    /**
+     * Load <code>MULTISET</code> values into a record.
+     * <p>
+     * With the {@link DefaultRecordUnmapperProvider}, this is the same as
+     * {@link Record#from(Object)}, but the values are converted and written
+     * directly into the record, rather than into an intermediary record
+     * produced by a {@link org.jooq.RecordUnmapper}.
+     */
+    static final void from(DSLContext ctx, Record r, List<?> values) {
+        Configuration c = ctx.configuration();
+
+        if (c.recordUnmapperProvider().getClass() == DefaultRecordUnmapperProvider.class && r instanceof AbstractRecord a) {
+            ConverterContext cc = converterContext(c);
+            int size = Math.min(a.size(), values.size());
+
+            for (int i = 0; i < size; i++)
+                Tools.setValue(a, a.field(i), i, values.get(i), cc);
+        }
+        else
+            r.from(values);
     }
 
     private static final List<Object> sortedValues(Map<String, Object> record) {
@@ -331,7 +476,7 @@ final class JSONReader<R extends Record> {
                     throw new IllegalStateException();
 
                 record.set(i, newRecord(true, ctx.configuration(), recordType, actualRow).operate(r -> {
-                    r.from(l);
+                    from(ctx, r, l);
                     r.touched(false);
                     return r;
                 }));
@@ -0,0 +1,465 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Collections.emptyList;
+import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.IOException;
+
+/**
+ * A pull based reader for the jOOQ JSON format, which reads records one by one
+ * from a {@link Reader}.
+ * <p>
+ * Unlike {@link JSONParser}, this reader doesn't need the entire document in
+ * memory. Only the <code>"fields"</code> header and the current record are
+ * materialised, using the same value representation as the
+ * {@link DefaultJSONContentHandler}. Both the array format
+ * <code>[record, record, ...]</code> and the object format
+ * <code>{"fields": [...], "records": [...]}</code> are supported. In the
+ * latter case, the <code>"fields"</code> are only taken into account if they
+ * precede the <code>"records"</code>, which is what
+ * {@link org.jooq.Formattable#formatJSON()} produces.
+ *
+ * @author Lukas Eder
+ */
+final class JSONStreamReader implements AutoCloseable {
+
+    /**
+     * A marker for the end of the records.
+     */
+    static final Object  EOF    = new Object();
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int          position;
+    private int          limit;
+    private long         offset;
+
+    private boolean      started;
+    private boolean      done;
+    private Object       next;
+
+    JSONStreamReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Position the reader at the first record, and return the
+     * <code>"fields"</code> header, or an empty list if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    final List<Field<?>> header() {
+        if (started)
+            throw new IllegalStateException("Header has already been read");
+
+        started = true;
+        List<Field<?>> header = emptyList();
+
+        switch (peekToken()) {
+            case '[':
+                read();
+                return header;
+
+            case '{':
+                read();
+
+                if (peekToken() == '}') {
+                    read();
+                    done = true;
+                    return header;
+                }
+
+                for (;;) {
+                    String key = readString();
+                    expect(':');
+
+                    if ("records".equals(key)) {
+                        expect('[');
+                        return header;
+                    }
+                    else if ("fields".equals(key))
+                        header = JSONReader.header((List<Map<String, String>>) readValue());
+                    else
+                        readValue();
+
+                    if (peekToken() == '}') {
+                        read();
+                        done = true;
+                        return header;
+                    }
+
+                    expect(',');
+                }
+
+            default:
+                throw exception("Array or object expected");
+        }
+    }
+
+    /**
+     * Look at the next record without consuming it.
+     *
+     * @return The next record, which is a {@link List}, a {@link Map},
+     *         <code>null</code>, or {@link #EOF}.
+     */
+    final Object peek() {
+        if (next == null)
+            next = read0();
+
+        return next == EOF ? EOF : unwrap(next);
+    }
+
+    /**
+     * Consume the next record.
+     *
+     * @return The next record, which is a {@link List}, a {@link Map},
+     *         <code>null</code>, or {@link #EOF}.
+     */
+    final Object next() {
+        Object result = peek();
+
+        if (result != EOF)
+            next = null;
+
+        return result;
+    }
+
+    @Override
+    public final void close() {
+        done = true;
+        safeClose(reader);
+    }
+
+    // -------------------------------------------------------------------------
+    // Record level parsing
+    // -------------------------------------------------------------------------
+
+    private static final Object NULL = new Object();
+
+    private final Object read0() {
+        if (!started)
+            header();
+
+        if (done)
+            return EOF;
+
+        // The first record, or the end of an empty records array
+        if (peekToken() == ']') {
+            read();
+            done = true;
+            return EOF;
+        }
+
+        Object result = readValue();
+
+        switch (peekToken()) {
+            case ',':
+                read();
+                break;
+
+            case ']':
+                read();
+                done = true;
+                break;
+
+            default:
+                throw exception("',' or ']' expected");
+        }
+
+        return result == null ? NULL : result;
+    }
+
+    private static final Object unwrap(Object record) {
+        return record == NULL ? null : record;
+    }
+
+    // -------------------------------------------------------------------------
+    // Value level parsing
+    // -------------------------------------------------------------------------
+
+    private final Object readValue() {
+        switch (peekToken()) {
+            case '{': {
+                read();
+                Map<String, Object> result = new LinkedHashMap<>();
+
+                if (peekToken() != '}') {
+                    do {
+                        String key = readString();
+                        expect(':');
+                        result.put(key, readValue());
+                    }
+                    while (readIf(','));
+                }
+
+                expect('}');
+                return result;
+            }
+
+            case '[': {
+                read();
+                List<Object> result = new ArrayList<>();
+
+                if (peekToken() != ']') {
+                    do
+                        result.add(readValue());
+                    while (readIf(','));
+                }
+
+                expect(']');
+                return result;
+            }
+
+            case '"':
+                return readString();
+
+            case 'n':
+                readKeyword("null");
+                return null;
+
+            case 't':
+                readKeyword("true");
+                return true;
+
+            case 'f':
+                readKeyword("false");
+                return false;
+
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return readNumber();
+
+            default:
+                throw exception("Value expected");
+        }
+    }
+
+    private final String readString() {
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+
+        for (;;) {
+            if (position == limit && !fill())
+                throw exception("String literal not terminated");
+
+            // Copy unescaped content in bulk
+            int p = position;
+            while (position < limit && buffer[position] != '"' && buffer[position] != '\\')
+                position++;
+
+            sb.append(buffer, p, position - p);
+
+            if (position == limit)
+                continue;
+
+            char c1 = buffer[position++];
+            if (c1 == '"')
+                return sb.toString();
+
+            char c2 = read();
+            switch (c2) {
+
+                // Escaped whitespace characters
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+
+                // Unicode character value UTF-16
+                case 'u':
+                    sb.append((char) Integer.parseInt(new String(new char[] { read(), read(), read(), read() }), 16));
+                    break;
+
+                default:
+                    sb.append(c2);
+                    break;
+            }
+        }
+    }
+
+    private final BigDecimal readNumber() {
+        StringBuilder sb = new StringBuilder();
+
+        numberLoop:
+        for (;;) {
+            if (position == limit && !fill())
+                break;
+
+            // Actual number format will be parsed and checked by BigDecimal.
+            switch (buffer[position]) {
+                case '0':
+                case '1':
+                case '2':
+                case '3':
+                case '4':
+                case '5':
+                case '6':
+                case '7':
+                case '8':
+                case '9':
+                case '.':
+                case '-':
+                case '+':
+                case 'E':
+                case 'e':
+                    sb.append(buffer[position++]);
+                    break;
+
+                default:
+                    break numberLoop;
+            }
+        }
+
+        try {
+            return new BigDecimal(sb.toString());
+        }
+        catch (NumberFormatException e) {
+            throw exception("Illegal number: " + sb);
+        }
+    }
+
+    private final void readKeyword(String keyword) {
+        for (int i = 0; i < keyword.length(); i++)
+            if (read() != keyword.charAt(i))
+                throw exception(keyword + " expected");
+    }
+
+    // -------------------------------------------------------------------------
+    // Character level parsing
+    // -------------------------------------------------------------------------
+
+    private final void expect(char c) {
+        if (peekToken() != c)
+            throw exception("'" + c + "' expected");
+
+        position++;
+    }
+
+    private final boolean readIf(char c) {
+        if (peekToken() == c) {
+            position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Skip whitespace, and return the next character without consuming it.
+     */
+    private final char peekToken() {
+        for (;;) {
+            if (position == limit && !fill())
+                throw exception("Unexpected end of input");
+
+            switch (buffer[position]) {
+                case ' ':
+                case '\t':
+                case '\r':
+                case '\n':
+                    position++;
+                    continue;
+
+                default:
+                    return buffer[position];
+            }
+        }
+    }
+
+    private final char read() {
+        if (position == limit && !fill())
+            throw exception("Unexpected end of input");
+
+        return buffer[position++];
+    }
+
+    private final boolean fill() {
+        try {
+            offset += limit;
+            position = 0;
+            limit = 0;
+
+            int read;
+            while ((read = reader.read(buffer)) == 0)
+                ;
+
+            if (read < 0)
+                return false;
+
+            limit = read;
+            return true;
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Could not read JSON source", e);
+        }
+    }
+
+    private final DataAccessException exception(String message) {
+        return new DataAccessException(message + " at position " + (offset + position));
+    }
+}
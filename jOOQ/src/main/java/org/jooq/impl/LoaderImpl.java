@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.util.Collections.emptyList;
 // ...
 import static org.jooq.SQLDialect.MARIADB;
 // ...
@@ -60,15 +61,29 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -88,11 +103,11 @@ import org.jooq.LoaderRowListener;
 import org.jooq.LoaderRowsStep;
 import org.jooq.LoaderXMLStep;
 import org.jooq.Record;
-import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Source;
 import org.jooq.Table;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DetachedException;
 import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
@@ -148,6 +163,8 @@ final class LoaderImpl<R extends Record> implements
     private static final int             CONTENT_JSON                     = 2;
     private static final int             CONTENT_ARRAYS                   = 3;
 
+    private static final int             MIN_CHUNK_SIZE                   = 1000;
+
     // Configuration data
     // ------------------
     private final Configuration          configuration;
@@ -161,6 +178,7 @@ final class LoaderImpl<R extends Record> implements
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
     private int                          content                          = CONTENT_CSV;
+    private int                          parallelism                      = 1;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
 
@@ -180,13 +198,11 @@ final class LoaderImpl<R extends Record> implements
     // -----------
     private LoaderRowListener            onRowStart;
     private LoaderRowListener            onRowEnd;
-    private final LoaderContext          rowCtx                           = new DefaultLoaderContext();
+    private LoaderContext                result                           = new DefaultLoaderContext(null);
     private int                          ignored;
     private int                          processed;
     private int                          stored;
     private int                          executed;
-    private int                          unexecuted;
-    private int                          uncommitted;
     private final List<LoaderError>      errors;
 
     LoaderImpl(Configuration configuration, Table<R> table) {
@@ -299,6 +315,15 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> parallelism(int n) {
+        if (n < 1)
+            throw new LoaderConfigurationException("Parallelism must be at least 1: " + n);
+
+        parallelism = n;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -683,20 +708,17 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeJSON() {
-        Reader reader = null;
+        Cursor<Record> cursor = null;
 
         try {
-            reader = input.reader();
-            Result<Record> r = new JSONReader<>(configuration.dsl(), null, null, false).read(Source.of(reader));
-            source = r.fields();
-
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-            executeSQL(allRecords.iterator());
+            cursor = new JSONReader<>(configuration.dsl(), null, null, false).readLazy(input);
+            source = cursor.fields();
+
+            // Records are read from the input one by one, as they are loaded
+            executeSQL(cursor.stream().map(Record::intoArray).iterator());
         }
         finally {
-            safeClose(reader);
+            safeClose(cursor);
         }
     }
 
@@ -761,219 +783,541 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
-        configuration.dsl().connection(connection -> {
-            Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+        Connection[] connections = parallelism > 1 ? acquireDistinct() : null;
 
-            if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
-                executeSQL(iterator, c.dsl());
+        if (connections != null) {
+            try {
+                executeSQLParallel(iterator, connections);
+            }
+            finally {
+                for (Connection connection : connections)
+                    configuration.connectionProvider().release(connection);
             }
+        }
+        else {
+            configuration.dsl().connection(connection -> partition(0, connection, p -> {
+                p.load(iterator, 0);
+                p.complete(!p.errors.isEmpty());
+                merge(p);
+                result = p.rowCtx;
+            }));
+        }
+    }
 
-            else {
-                try (CachedPSListener cache = new CachedPSListener()) {
-                    executeSQL(iterator, c
-                        .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
-                        .dsl()
-                    );
-                }
+    /**
+     * Acquire a connection for each worker, or <code>null</code> if the
+     * {@link ConnectionProvider} doesn't provide distinct connections, e.g.
+     * because it wraps a single or a transaction bound connection.
+     */
+    private final Connection[] acquireDistinct() {
+        ConnectionProvider provider = configuration.connectionProvider();
+        List<Connection> acquired = new ArrayList<>(parallelism);
+        boolean distinct = true;
+
+        try {
+            Set<Connection> set = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (int i = 0; distinct && i < parallelism; i++) {
+                Connection connection = provider.acquire();
+
+                if (connection == null)
+                    throw new DetachedException("No JDBC Connection provided by ConnectionProvider");
+
+                acquired.add(connection);
+                distinct = set.add(connection);
             }
-        });
-    }
-
-    private final void executeSQL(Iterator<? extends Object[]> iterator, DSLContext ctx) {
-        Object[] row = null;
-        BatchBindStep bind = null;
-        InsertQuery<R> insert = null;
-        boolean newRecord = false;
-
-        execution: {
-            rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
-                try {
-
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = Base64.getDecoder().decode((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+        }
+        catch (RuntimeException | Error e) {
+            for (Connection connection : acquired)
+                provider.release(connection);
+
+            throw e;
+        }
+
+        if (distinct)
+            return acquired.toArray(new Connection[0]);
+
+        for (Connection connection : acquired)
+            provider.release(connection);
+
+        log.info("Parallel loading requires a ConnectionProvider that provides distinct connections. Loading sequentially.");
+        return null;
+    }
+
+    /**
+     * Run a {@link Partition} on a given connection.
+     */
+    private final void partition(int index, Connection connection, Consumer<? super Partition> consumer) {
+        Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+
+        if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+            consumer.accept(new Partition(index, c.dsl()));
+        }
+
+        else {
+            try (CachedPSListener cache = new CachedPSListener()) {
+                consumer.accept(new Partition(index, c
+                    .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
+                    .dsl()
+                ));
+            }
+            catch (SQLException e) {
+                throw new DataAccessException("Error while closing cached statements", e);
+            }
+        }
+    }
+
+    /**
+     * Read the input on the calling thread, and hand it to
+     * {@link #parallelism} worker threads in chunks of whole commit units.
+     * <p>
+     * The worker threads are owned by this loader, rather than taken from the
+     * {@link Configuration#executorProvider()}, because all workers must run
+     * at the same time: the reader waits for all of them to finish loading,
+     * and they wait for the reader's commit or rollback decision. An executor
+     * with fewer threads than workers would deadlock.
+     */
+    private final void executeSQLParallel(final Iterator<? extends Object[]> iterator, Connection[] connections) {
+        int chunkSize = chunkSize();
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(parallelism * 2);
+        CountDownLatch loaded = new CountDownLatch(parallelism);
+        CompletableFuture<Boolean> failed = new CompletableFuture<>();
+        AtomicBoolean aborted = new AtomicBoolean();
+        AtomicReferenceArray<Partition> partitions = new AtomicReferenceArray<>(parallelism);
+        CompletableFuture<?>[] workers = new CompletableFuture[parallelism];
+        RuntimeException exception = null;
+        boolean read = false;
 
-                    // TODO: In batch mode, we can probably optimise this by not creating
-                    // new statements every time, just to convert bind values to their
-                    // appropriate target types. But beware of SQL dialects that tend to
-                    // need very explicit casting of bind values (e.g. Firebird)
-                    processed++;
-                    unexecuted++;
-                    uncommitted++;
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                int index = i;
+                CompletableFuture<Void> worker = new CompletableFuture<>();
+
+                Thread thread = new Thread(() -> {
+                    try {
+                        partition(index, connections[index], p -> {
+                            partitions.set(index, p);
 
-                    if (insert == null)
-                        insert = ctx.insertQuery(table);
+                            try {
+                                Chunk chunk;
+
+                                // Keep draining the queue after an abort, to unblock the reader
+                                while ((chunk = take(queue)) != Chunk.END) {
+                                    if (!aborted.get()) {
+                                        p.load(chunk.rows.iterator(), chunk.offset);
+
+                                        if (p.aborted)
+                                            aborted.set(true);
+                                    }
+                                }
+                            }
 
-                    if (newRecord) {
-                        newRecord = false;
-                        insert.newRecord();
+                            // The abort must be visible before the reader decides whether to commit
+                            catch (RuntimeException | Error e) {
+                                aborted.set(true);
+                                p.complete(true);
+                                throw e;
+                            }
+                            finally {
+                                loaded.countDown();
+                            }
+
+                            // In COMMIT_ALL mode, all partitions commit or roll back together
+                            p.complete(failed.join());
+                        });
                     }
+                    catch (RuntimeException | Error e) {
+                        if (partitions.get(index) == null) {
+                            aborted.set(true);
+                            loaded.countDown();
+                        }
 
-                    for (int i = 0; i < row.length; i++)
-                        if (i < fields.length && fields[i] != null)
-                            addValue0(insert, fields[i], row[i]);
+                        worker.completeExceptionally(e);
+                        return;
+                    }
 
-                    // TODO: This is only supported by some dialects. Let other
-                    // dialects execute a SELECT and then either an INSERT or UPDATE
-                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                        insert.onDuplicateKeyUpdate(true);
+                    worker.complete(null);
+                }, "jooq-loader-" + index);
 
-                        for (int i = 0; i < row.length; i++)
-                            if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                                addValueForUpdate0(insert, fields[i], row[i]);
+                thread.setDaemon(true);
+                thread.start();
+                workers[i] = worker;
+            }
+
+            int offset = 0;
+            List<Object[]> rows = new ArrayList<>(chunkSize);
+            Object[] row;
+
+            while (!aborted.get() && iterator.hasNext() && ((row = iterator.next()) != null)) {
+
+                // [#5145][#8755] Lazy initialisation of fields from the first row
+                // must happen before the workers see any rows
+                if (fields == null)
+                    fields0(row);
+
+                rows.add(row);
+
+                if (rows.size() == chunkSize) {
+                    put(queue, loaded, new Chunk(offset, rows));
+                    offset += rows.size();
+                    rows = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!rows.isEmpty() && !aborted.get())
+                put(queue, loaded, new Chunk(offset, rows));
+
+            read = true;
+        }
+        catch (RuntimeException e) {
+            exception = e;
+        }
+        finally {
+
+            // Workers that could not be started will not count down themselves
+            for (int i = 0; i < parallelism; i++)
+                if (workers[i] == null)
+                    loaded.countDown();
+
+            for (int i = 0; i < parallelism; i++)
+                put(queue, loaded, Chunk.END);
+
+            try {
+                loaded.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            // Roll back all partitions if the input could not be read, or if any
+            // partition failed, aborted, or reported errors
+            boolean anyErrors = !read || aborted.get();
+            for (int i = 0; i < parallelism; i++)
+                if (partitions.get(i) != null && !partitions.get(i).errors.isEmpty())
+                    anyErrors = true;
+
+            failed.complete(anyErrors);
+
+            for (CompletableFuture<?> worker : workers) {
+                if (worker != null) {
+                    try {
+                        worker.join();
                     }
+                    catch (CompletionException e) {
+                        RuntimeException cause = e.getCause() instanceof RuntimeException r ? r : e;
 
-                    // [#7253]  Use native onDuplicateKeyIgnore() support
-                    else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
-                        insert.onDuplicateKeyIgnore(true);
+                        if (exception == null)
+                            exception = cause;
+                        else if (exception != cause)
+                            exception.addSuppressed(cause);
                     }
+                }
+            }
+        }
 
-                    // Don't do anything. Let the execution fail
-                    else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+        for (int i = 0; i < parallelism; i++)
+            if (partitions.get(i) != null)
+                merge(partitions.get(i));
+
+        errors.sort(Comparator.comparingInt(LoaderError::rowIndex));
+        result = new DefaultLoaderContext(null);
+
+        if (exception != null)
+            throw exception;
+    }
+
+    /**
+     * The number of rows handed to a worker at once, which is a multiple of
+     * the rows committed (or executed) together.
+     */
+    private final int chunkSize() {
+        int unit = bulkAfter * batchAfter * (commit == COMMIT_AFTER ? commitAfter : 1);
+        return unit >= MIN_CHUNK_SIZE ? unit : ((MIN_CHUNK_SIZE + unit - 1) / unit) * unit;
+    }
+
+    private static final Chunk take(BlockingQueue<Chunk> queue) {
+        try {
+            return queue.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Chunk.END;
+        }
+    }
+
+    private static final void put(BlockingQueue<Chunk> queue, CountDownLatch loaded, Chunk chunk) {
+        try {
+
+            // Don't block forever if all workers have terminated
+            while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS))
+                if (loaded.getCount() == 0)
+                    return;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final void merge(Partition p) {
+        ignored += p.ignored;
+        processed += p.processed;
+        stored += p.stored;
+        executed += p.executed;
+        errors.addAll(p.errors);
+    }
+
+    /**
+     * A chunk of consecutive input rows, starting at a given row index.
+     */
+    private static final class Chunk {
+        static final Chunk   END = new Chunk(-1, emptyList());
+
+        final int            offset;
+        final List<Object[]> rows;
+
+        Chunk(int offset, List<Object[]> rows) {
+            this.offset = offset;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * The loading state of a single connection.
+     * <p>
+     * A sequential load runs a single partition. A parallel load runs one
+     * partition per worker thread, each with its own counters, errors, and
+     * {@link LoaderContext}, which is passed to the row listeners.
+     */
+    private final class Partition {
+        final int                  index;
+        final DSLContext           ctx;
+        final DefaultLoaderContext rowCtx;
+        final List<LoaderError>    errors;
+        int                        ignored;
+        int                        processed;
+        int                        stored;
+        int                        executed;
+        int                        unexecuted;
+        int                        uncommitted;
+        int                        rowIndex;
+        boolean                    aborted;
+
+        Partition(int index, DSLContext ctx) {
+            this.index = index;
+            this.ctx = ctx;
+            this.rowCtx = new DefaultLoaderContext(this);
+            this.errors = new ArrayList<>();
+        }
+
+        /**
+         * Load rows, the first of which has the given row index in the input.
+         */
+        final void load(Iterator<? extends Object[]> iterator, int offset) {
+            rowIndex = offset - 1;
+
+            Object[] row = null;
+            BatchBindStep bind = null;
+            InsertQuery<R> insert = null;
+            boolean newRecord = false;
+
+            execution: {
+                rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+                    rowIndex++;
 
                     try {
-                        if (bulk != BULK_NONE) {
-                            if (bulk == BULK_ALL || processed % bulkAfter != 0) {
-                                newRecord = true;
-                                continue rows;
-                            }
+
+                        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+                        if (row.getClass() != Object[].class)
+                            row = Arrays.copyOf(row, row.length, Object[].class);
+
+                        // [#5145][#8755] Lazy initialisation of fields from the first row
+                        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+                        if (fields == null)
+                            fields0(row);
+
+                        // [#1627] [#5858] Handle NULL values and base64 encodings
+                        // [#2741]         TODO: This logic will be externalised in new SPI
+                        // [#8829]         JSON binary data has already been decoded at this point
+                        for (int i = 0; i < row.length; i++)
+                            if (StringUtils.equals(nullString, row[i]))
+                                row[i] = null;
+                            else if (i < fields.length && fields[i] != null)
+                                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                                    row[i] = Base64.getDecoder().decode((String) row[i]);
+
+                        // [#10583] Pad row to the fields length
+                        if (row.length < fields.length)
+                            row = Arrays.copyOf(row, fields.length);
+
+                        rowCtx.row(row);
+                        if (onRowStart != null) {
+                            onRowStart.row(rowCtx);
+                            row = rowCtx.row();
+                        }
+
+                        // TODO: In batch mode, we can probably optimise this by not creating
+                        // new statements every time, just to convert bind values to their
+                        // appropriate target types. But beware of SQL dialects that tend to
+                        // need very explicit casting of bind values (e.g. Firebird)
+                        processed++;
+                        unexecuted++;
+                        uncommitted++;
+
+                        if (insert == null)
+                            insert = ctx.insertQuery(table);
+
+                        if (newRecord) {
+                            newRecord = false;
+                            insert.newRecord();
                         }
 
-                        if (batch != BATCH_NONE) {
-                            if (bind == null)
-                                bind = ctx.batch(insert);
+                        for (int i = 0; i < row.length; i++)
+                            if (i < fields.length && fields[i] != null)
+                                addValue0(insert, fields[i], row[i]);
+
+                        // TODO: This is only supported by some dialects. Let other
+                        // dialects execute a SELECT and then either an INSERT or UPDATE
+                        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+                            insert.onDuplicateKeyUpdate(true);
+
+                            for (int i = 0; i < row.length; i++)
+                                if (i < fields.length && fields[i] != null && !primaryKey.get(i))
+                                    addValueForUpdate0(insert, fields[i], row[i]);
+                        }
 
-                            bind.bind(insert.getBindValues().toArray());
+                        // [#7253]  Use native onDuplicateKeyIgnore() support
+                        else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
+                            insert.onDuplicateKeyIgnore(true);
+                        }
+
+                        // Don't do anything. Let the execution fail
+                        else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+
+                        try {
+                            if (bulk != BULK_NONE) {
+                                if (bulk == BULK_ALL || processed % bulkAfter != 0) {
+                                    newRecord = true;
+                                    continue rows;
+                                }
+                            }
+
+                            if (batch != BATCH_NONE) {
+                                if (bind == null)
+                                    bind = ctx.batch(insert);
+
+                                bind.bind(insert.getBindValues().toArray());
+                                insert = null;
+
+                                if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0)
+                                    continue rows;
+                            }
+
+                            int[] rowcounts = { 0 };
+                            int totalRowCounts = 0;
+
+                            if (bind != null)
+                                rowcounts = bind.execute();
+                            else if (insert != null)
+                                rowcounts = new int[] { insert.execute() };
+
+                            // [#10358] The MySQL dialect category doesn't return rowcounts
+                            //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
+                            //          1 = INSERT, 2 = UPDATE, instead
+                            if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
+                                totalRowCounts = unexecuted;
+                            else
+                                for (int rowCount : rowcounts)
+                                    totalRowCounts += rowCount;
+
+                            stored += totalRowCounts;
+                            ignored += unexecuted - totalRowCounts;
+                            executed++;
+
+                            unexecuted = 0;
+                            bind = null;
                             insert = null;
 
-                            if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0)
-                                continue rows;
+                            if (commit == COMMIT_AFTER)
+                                if ((processed % (bulkAfter * batchAfter) == 0) && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0))
+                                    commit();
+                        }
+                        catch (DataAccessException e) {
+                            errors.add(new LoaderErrorImpl(e, row, rowIndex, insert));
+                            ignored += unexecuted;
+                            unexecuted = 0;
+
+                            if (onError == ON_ERROR_ABORT) {
+                                aborted = true;
+                                break execution;
+                            }
                         }
 
-                        int[] rowcounts = { 0 };
-                        int totalRowCounts = 0;
+                    }
+                    finally {
+                        if (onRowEnd != null)
+                            onRowEnd.row(rowCtx);
+                    }
+                    // rows:
+                }
 
+                // Execute remaining batch
+                if (unexecuted != 0) {
+                    try {
                         if (bind != null)
-                            rowcounts = bind.execute();
-                        else if (insert != null)
-                            rowcounts = new int[] { insert.execute() };
-
-                        // [#10358] The MySQL dialect category doesn't return rowcounts
-                        //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
-                        //          1 = INSERT, 2 = UPDATE, instead
-                        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
-                            totalRowCounts = unexecuted;
-                        else
-                            for (int rowCount : rowcounts)
-                                totalRowCounts += rowCount;
-
-                        stored += totalRowCounts;
-                        ignored += unexecuted - totalRowCounts;
+                            bind.execute();
+                        if (insert != null)
+                            insert.execute();
+
+                        stored += unexecuted;
                         executed++;
 
                         unexecuted = 0;
-                        bind = null;
-                        insert = null;
-
-                        if (commit == COMMIT_AFTER)
-                            if ((processed % (bulkAfter * batchAfter) == 0) && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0))
-                                commit();
                     }
                     catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                        errors.add(new LoaderErrorImpl(e, row, rowIndex, insert));
                         ignored += unexecuted;
                         unexecuted = 0;
-
-                        if (onError == ON_ERROR_ABORT)
-                            break execution;
                     }
-
                 }
-                finally {
-                    if (onRowEnd != null)
-                        onRowEnd.row(rowCtx);
-                }
-                // rows:
-            }
 
-            // Execute remaining batch
-            if (unexecuted != 0) {
-                try {
-                    if (bind != null)
-                        bind.execute();
-                    if (insert != null)
-                        insert.execute();
+                // Commit remaining elements in COMMIT_AFTER mode
+                if (commit == COMMIT_AFTER && uncommitted != 0)
+                    commit();
 
-                    stored += unexecuted;
-                    executed++;
+                if (onError == ON_ERROR_ABORT)
+                    break execution;
 
-                    unexecuted = 0;
-                }
-                catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
-                    ignored += unexecuted;
-                    unexecuted = 0;
-                }
+                // execution:
             }
-
-            // Commit remaining elements in COMMIT_AFTER mode
-            if (commit == COMMIT_AFTER && uncommitted != 0)
-                commit();
-
-            if (onError == ON_ERROR_ABORT)
-                break execution;
-
-            // execution:
         }
 
-        // Rollback on errors in COMMIT_ALL mode
-        try {
-            if (commit == COMMIT_ALL) {
-                if (!errors.isEmpty()) {
-                    stored = 0;
-                    rollback();
+        /**
+         * Commit or roll back all rows in COMMIT_ALL mode.
+         */
+        final void complete(boolean rollback) {
+            try {
+                if (commit == COMMIT_ALL) {
+                    if (rollback) {
+                        stored = 0;
+                        rollback();
+                    }
+                    else
+                        commit();
                 }
-                else
-                    commit();
+            }
+            catch (DataAccessException e) {
+                errors.add(new LoaderErrorImpl(e, null, rowIndex, null));
             }
         }
-        catch (DataAccessException e) {
-            errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
-        }
-    }
 
-    private final void commit() {
-        configuration.dsl().connection(Connection::commit);
-        uncommitted = 0;
-    }
+        private final void commit() {
+            ctx.connection(Connection::commit);
+            uncommitted = 0;
+        }
 
-    private final void rollback() {
-        configuration.dsl().connection(Connection::rollback);
+        private final void rollback() {
+            ctx.connection(Connection::rollback);
+        }
     }
 
     /**
@@ -1021,11 +1365,16 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final LoaderContext result() {
-        return rowCtx;
+        return result;
     }
 
     private class DefaultLoaderContext implements LoaderContext {
-        Object[] row;
+        final Partition partition;
+        Object[]        row;
+
+        DefaultLoaderContext(Partition partition) {
+            this.partition = partition;
+        }
 
         @Override
         public Field<?> @NotNull [] fields() {
@@ -1043,29 +1392,34 @@ final class LoaderImpl<R extends Record> implements
             return row;
         }
 
+        @Override
+        public final int partition() {
+            return partition != null ? partition.index : -1;
+        }
+
         @Override
         public final List<LoaderError> errors() {
-            return errors;
+            return partition != null ? partition.errors : errors;
         }
 
         @Override
         public final int processed() {
-            return processed;
+            return partition != null ? partition.processed : processed;
         }
 
         @Override
         public final int executed() {
-            return executed;
+            return partition != null ? partition.executed : executed;
         }
 
         @Override
         public final int ignored() {
-            return ignored;
+            return partition != null ? partition.ignored : ignored;
         }
 
         @Override
         public final int stored() {
-            return stored;
+            return partition != null ? partition.stored : stored;
         }
     }
 }
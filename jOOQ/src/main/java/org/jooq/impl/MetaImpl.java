@@ -122,6 +122,7 @@ import java.util.regex.Pattern;
 import org.jooq.Catalog;
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.ConstraintEnforcementStep;
 import org.jooq.DSLContext;
 import org.jooq.DataType;
@@ -218,6 +219,21 @@ final class MetaImpl extends AbstractMeta {
         );
     }
 
+    /**
+     * Whether meta data of several schemas can be loaded concurrently, each on
+     * its own connection.
+     * <p>
+     * This is only attempted if users opt in via
+     * {@link Settings#getMetaParallelism()}, which requires the
+     * {@link ConnectionProvider} to return distinct connections from
+     * concurrent {@link ConnectionProvider#acquire()} calls. A
+     * {@link DefaultConnectionProvider} never does.
+     */
+    final boolean parallel() {
+        return databaseMetaData == null
+            && !(configuration().connectionProvider() instanceof DefaultConnectionProvider);
+    }
+
     final boolean hasCatalog(Catalog catalog) {
         return catalog != null && !isEmpty(catalog.getName());
     }
@@ -383,13 +399,24 @@ final class MetaImpl extends AbstractMeta {
     private static final record Schemas(Result<Record> schemas, boolean empty) {}
 
     private final class MetaCatalog extends CatalogImpl {
+        private transient volatile List<Schema> schemaCache;
 
         MetaCatalog(String name) {
             super(name);
         }
 
         @Override
-        public final List<Schema> getSchemas() {
+        public final synchronized List<Schema> getSchemas() {
+
+            // Return the same MetaSchema instances on repeated calls, so their
+            // table and column caches are shared with the owning MetaImpl
+            if (schemaCache == null)
+                schemaCache = getSchemas0();
+
+            return new ArrayList<>(schemaCache);
+        }
+
+        private final List<Schema> getSchemas0() {
             List<Schema> result = new ArrayList<>();
             boolean empty = false;
 
@@ -480,6 +507,7 @@ final class MetaImpl extends AbstractMeta {
         private transient volatile Map<Name, String>         sourceCache;
         private transient volatile Map<Name, String>         commentCache;
         private transient volatile Map<Name, Result<Record>> attributeCache;
+        private transient volatile List<Table<?>>            tableCache;
 
 
 
@@ -496,6 +524,15 @@ final class MetaImpl extends AbstractMeta {
             if (empty)
                 return emptyList();
 
+            // Foreign key lookups resolve referenced tables through their schema, so
+            // the schema's tables shouldn't be fetched again for every foreign key
+            if (tableCache == null)
+                tableCache = getTables0();
+
+            return new ArrayList<>(tableCache);
+        }
+
+        private final List<Table<?>> getTables0() {
             Result<Record> tables = meta(() -> "Error while fetching tables for schema: " + this, meta -> {
                 String[] types;
 
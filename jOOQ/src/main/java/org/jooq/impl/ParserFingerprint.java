@@ -0,0 +1,355 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+/**
+ * A lexical SQL normaliser producing statement fingerprints.
+ * <p>
+ * Unlike {@link ParserImpl}, this doesn't build any query object model. It
+ * only tokenises the input and:
+ * <ul>
+ * <li>removes comments and collapses whitespace</li>
+ * <li>upper cases keywords and unquoted identifiers</li>
+ * <li>replaces literals and bind markers by <code>?</code></li>
+ * <li>collapses <code>IN (?, ?, ...)</code> lists to <code>IN(?)</code></li>
+ * <li>removes trailing semicolons</li>
+ * </ul>
+ * <p>
+ * Two statements that differ only in these aspects produce the same
+ * fingerprint. The fingerprint isn't meant to be executed or parsed again.
+ *
+ * @author Lukas Eder
+ */
+final class ParserFingerprint {
+
+    private static final int NONE  = 0;
+    private static final int WORD  = 1;
+    private static final int OPEN  = 2;
+    private static final int CLOSE = 3;
+    private static final int COMMA = 4;
+    private static final int DOT   = 5;
+    private static final int OP    = 6;
+    private static final int END   = 7;
+
+    private final char[]        c;
+    private final StringBuilder sb;
+    private int                 prev;
+    private boolean             prevIn;
+    private int                 inList = -1;
+
+    private ParserFingerprint(String sql) {
+        this.c = sql.toCharArray();
+        this.sb = new StringBuilder(c.length);
+    }
+
+    static final String fingerprint(String sql) {
+        return sql == null ? null : new ParserFingerprint(sql).fingerprint();
+    }
+
+    private final String fingerprint() {
+        for (int i = 0; i < c.length;) {
+            char ch = c[i];
+
+            if (Character.isWhitespace(ch))
+                i++;
+            else if (ch == '-' && at(c, i + 1) == '-')
+                i = afterLineComment(c, i);
+            else if (ch == '/' && at(c, i + 1) == '*')
+                i = afterBlockComment(c, i);
+            else if (ch == '\'')
+                i = literal(afterQuoted(c, i, '\''));
+            else if (ch == '"' || ch == '`')
+                i = quotedIdentifier(i, ch);
+            else if (ch == '?')
+                i = literal(i + 1);
+            else if (ch == ':' && at(c, i + 1) == ':')
+                i = token(i, i + 2, DOT);
+            else if (ch == ':' && isIdentifierStart(at(c, i + 1)))
+                i = literal(afterIdentifier(c, i + 1));
+            else if (ch == '$' && isDigit(at(c, i + 1)))
+                i = literal(afterIdentifier(c, i + 1));
+            else if (ch == '$' && isDollarQuote(c, i))
+                i = literal(afterDollarQuoted(c, i));
+            else if (isDigit(ch) || ch == '.' && isDigit(at(c, i + 1)) && prev != WORD)
+                i = literal(afterNumber(c, i));
+            else if (isIdentifierStart(ch))
+                i = word(i);
+            else if (ch == '(')
+                i = token(i, i + 1, OPEN);
+            else if (ch == ')')
+                i = token(i, i + 1, CLOSE);
+            else if (ch == ',')
+                i = token(i, i + 1, COMMA);
+            else if (ch == '.')
+                i = token(i, i + 1, DOT);
+            else if (ch == ';')
+                i = token(i, i + 1, END);
+            else if (isOperator(ch))
+                i = token(i, afterOperator(c, i), OP);
+            else
+                i = token(i, i + 1, OP);
+        }
+
+        int l = sb.length();
+        while (l > 0 && sb.charAt(l - 1) == ';')
+            l--;
+
+        sb.setLength(l);
+        return sb.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Token emission
+    // -------------------------------------------------------------------------
+
+    private final void separate(int next) {
+        if (prev != NONE
+            && prev != OPEN
+            && prev != DOT
+            && next != CLOSE
+            && next != COMMA
+            && next != DOT
+            && next != END
+            && !(next == OPEN && prev == WORD))
+            sb.append(' ');
+
+        boolean wasIn = prevIn;
+        prevIn = false;
+
+        if (inList >= 0 && next != COMMA && next != CLOSE)
+            inList = -1;
+
+        if (next == CLOSE && inList >= 0 && sb.length() > inList)
+            sb.setLength(inList + 1);
+        else if (next == OPEN && wasIn)
+            inList = sb.length() + 1;
+
+        prev = next;
+    }
+
+    private final int token(int from, int to, int kind) {
+        separate(kind);
+        sb.append(c, from, to - from);
+
+        if (kind == CLOSE)
+            inList = -1;
+
+        return to;
+    }
+
+    private final int literal(int to) {
+        int l = inList;
+        boolean first = l >= 0 && sb.length() == l;
+
+        separate(WORD);
+        sb.append('?');
+
+        // Keep collapsing the IN list only if it consists of bind values
+        if (l >= 0 && (first || sb.charAt(sb.length() - 3) == ','))
+            inList = l;
+
+        return to;
+    }
+
+    private final int word(int i) {
+        int to = afterIdentifier(c, i);
+
+        // Prefixed string literals, e.g. N'abc', E'abc', X'0A', B'01', U&'abc'
+        if (to - i == 1 && at(c, to) == '\'' && isLiteralPrefix(i, to))
+            return literal(afterQuoted(c, to, '\''));
+        else if (to - i == 1 && (c[i] == 'u' || c[i] == 'U') && at(c, to) == '&' && at(c, to + 1) == '\'')
+            return literal(afterQuoted(c, to + 1, '\''));
+
+        separate(WORD);
+        for (int j = i; j < to; j++)
+            sb.append(Character.toUpperCase(c[j]));
+
+        prevIn = to - i == 2
+            && (c[i] == 'i' || c[i] == 'I')
+            && (c[i + 1] == 'n' || c[i + 1] == 'N');
+
+        return to;
+    }
+
+    private final int quotedIdentifier(int i, char quote) {
+        return token(i, afterQuoted(c, i, quote), WORD);
+    }
+
+    // -------------------------------------------------------------------------
+    // Lexing
+    // -------------------------------------------------------------------------
+
+    static final char at(char[] c, int i) {
+        return i < c.length ? c[i] : 0;
+    }
+
+    static final int afterLineComment(char[] c, int i) {
+        while (i < c.length && c[i] != '\n' && c[i] != '\r')
+            i++;
+
+        return i;
+    }
+
+    static final int afterBlockComment(char[] c, int i) {
+        int nesting = 0;
+
+        while (i < c.length) {
+            if (c[i] == '/' && at(c, i + 1) == '*') {
+                nesting++;
+                i += 2;
+            }
+            else if (c[i] == '*' && at(c, i + 1) == '/') {
+                i += 2;
+
+                if (--nesting == 0)
+                    break;
+            }
+            else
+                i++;
+        }
+
+        return i;
+    }
+
+    static final int afterQuoted(char[] c, int i, char quote) {
+        for (i++; i < c.length; i++) {
+            if (c[i] == quote) {
+
+                // Doubled quotes are escaped quotes
+                if (at(c, i + 1) == quote)
+                    i++;
+                else
+                    return i + 1;
+            }
+        }
+
+        return i;
+    }
+
+    static final boolean isDollarQuote(char[] c, int i) {
+        for (i++; i < c.length; i++)
+            if (c[i] == '$')
+                return true;
+            else if (!Character.isJavaIdentifierPart(c[i]) || c[i] == '$')
+                return false;
+
+        return false;
+    }
+
+    static final int afterDollarQuoted(char[] c, int i) {
+        int tagEnd = i + 1;
+        while (c[tagEnd] != '$')
+            tagEnd++;
+
+        int tagLength = tagEnd - i + 1;
+
+        outer:
+        for (int j = tagEnd + 1; j + tagLength <= c.length; j++) {
+            for (int k = 0; k < tagLength; k++)
+                if (c[j + k] != c[i + k])
+                    continue outer;
+
+            return j + tagLength;
+        }
+
+        return c.length;
+    }
+
+    static final int afterNumber(char[] c, int i) {
+        for (i++; i < c.length; i++) {
+            char ch = c[i];
+
+            if ((ch == '+' || ch == '-') && (c[i - 1] == 'e' || c[i - 1] == 'E'))
+                continue;
+            else if (ch != '.' && ch != '_' && !Character.isLetterOrDigit(ch))
+                break;
+        }
+
+        return i;
+    }
+
+    static final int afterIdentifier(char[] c, int i) {
+        for (i++; i < c.length && isIdentifierPart(c[i]); i++);
+        return i;
+    }
+
+    static final int afterOperator(char[] c, int i) {
+        for (i++; i < c.length && isOperator(c[i]); i++)
+            if (c[i] == '-' && at(c, i + 1) == '-' || c[i] == '/' && at(c, i + 1) == '*')
+                break;
+
+        return i;
+    }
+
+    private final boolean isLiteralPrefix(int from, int to) {
+        if (to - from == 1) {
+            switch (c[from]) {
+                case 'n': case 'N':
+                case 'e': case 'E':
+                case 'x': case 'X':
+                case 'b': case 'B':
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    static final boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    static final boolean isIdentifierStart(char ch) {
+        return ch != 0 && (Character.isJavaIdentifierStart(ch) || ch == '@' || ch == '#');
+    }
+
+    static final boolean isIdentifierPart(char ch) {
+        return Character.isJavaIdentifierPart(ch) && !Character.isIdentifierIgnorable(ch) || ch == '@' || ch == '#';
+    }
+
+    static final boolean isOperator(char ch) {
+        switch (ch) {
+            case '<': case '>': case '=': case '!': case '|': case '&':
+            case '+': case '-': case '*': case '/': case '%': case '^':
+            case '~':
+                return true;
+        }
+
+        return false;
+    }
+}
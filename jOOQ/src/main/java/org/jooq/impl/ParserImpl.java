@@ -931,6 +931,11 @@ final class ParserImpl implements Parser {
     public final Name parseName(String sql, Object... bindings) {
         return ctx(sql, bindings).parseName0();
     }
+
+    @Override
+    public final String fingerprint(String sql) {
+        return ParserFingerprint.fingerprint(sql);
+    }
 }
 
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -15921,6 +15926,25 @@ final class DefaultParseContext extends AbstractParseContext implements ParseCon
         if (chars.length < p + length)
             return false;
 
+        // Most keyword probes fail on the first character. Reject those
+        // before skipping whitespace or looking for quotes.
+        if (!peekIntoParens && !requireFunction) {
+            switch (chars[p]) {
+                case ' ':
+                case '\t':
+                case '\r':
+                case '\n':
+                case '/':
+                case '-':
+                case '#':
+                    break;
+
+                default:
+                    if (upper(chars[p]) != upper(keyword.charAt(0)))
+                        return false;
+            }
+        }
+
         int skip = afterWhitespace(p, peekIntoParens, false, icIgnore) - p;
 
         // [#18480] Function names are allowed to be quoted
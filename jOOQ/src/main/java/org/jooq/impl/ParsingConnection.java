@@ -37,7 +37,9 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Collections.emptyList;
+import static org.jooq.conf.ParamType.INDEXED;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.impl.CacheType.CACHE_PARSING_CONNECTION;
@@ -52,7 +54,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
@@ -134,33 +135,55 @@ final class ParsingConnection extends DefaultConnection {
         log.debug("Translating from", sql);
         Rendered result = null;
 
-        Supplier<CacheValue> miss = () -> {
-            log.debug("Translation cache miss", sql);
-            return new CacheValue(configuration, sql, bindValues);
-        };
-
         Settings settings = configuration.settings();
-        if (CACHE_PARSING_CONNECTION.category.predicate.test(settings) && bindValues.length > 0) {
-            switch (getParamType(settings)) {
-                case INLINED:
-                case NAMED_OR_INLINED:
-                    result = miss.get().rendered(bindValues);
-                    break;
+        if (CACHE_PARSING_CONNECTION.category.predicate.test(settings)) {
+            if (bindValues.length > 0) {
+                switch (getParamType(settings)) {
+                    case INLINED:
+                    case NAMED_OR_INLINED:
+                        result = new CacheValue(configuration, sql, bindValues).rendered(bindValues);
+                        break;
+                }
+            }
+
+            // Statements that differ only in their inline literals can share
+            // the same translation, if the literals are replaced by bind values.
+            if (result == null
+                && TRUE.equals(settings.isCacheParsingConnectionNormaliseLiterals())
+                && getParamType(settings) == INDEXED
+                && !TRUE.equals(settings.isParseIgnoreComments())
+            ) {
+                ParsingConnectionLiterals normalised = ParsingConnectionLiterals.parameterise(sql, nonNull(bindValues));
+
+                if (normalised != null) {
+                    result = translate0(configuration, normalised.sql, normalised.bindValues);
+
+                    // Static statements can't bind values, so they're inlined again
+                    if (bindValues.length == 0)
+                        result = ParsingConnectionLiterals.inline(configuration, result);
+                }
             }
         }
 
         if (result == null)
-            result = Cache.run(
-                configuration,
-                miss,
-                CACHE_PARSING_CONNECTION,
-                () -> Cache.key(sql, map(nonNull(bindValues), f -> f.getDataType()))
-            ).rendered(bindValues);
+            result = translate0(configuration, sql, bindValues);
 
         log.debug("Translating to", result.sql);
         return result;
     }
 
+    private static final Rendered translate0(Configuration configuration, String sql, Param<?>... bindValues) {
+        return Cache.run(
+            configuration,
+            () -> {
+                log.debug("Translation cache miss", sql);
+                return new CacheValue(configuration, sql, bindValues);
+            },
+            CACHE_PARSING_CONNECTION,
+            () -> Cache.key(sql, map(nonNull(bindValues), f -> f.getDataType()))
+        ).rendered(bindValues);
+    }
+
     private static Param<?>[] nonNull(Param<?>[] bindValues) {
         for (int i = 0; i < bindValues.length; i++)
             if (bindValues[i] == null)
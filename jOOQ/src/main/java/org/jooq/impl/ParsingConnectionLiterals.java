@@ -0,0 +1,413 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.ParserFingerprint.afterBlockComment;
+import static org.jooq.impl.ParserFingerprint.afterIdentifier;
+import static org.jooq.impl.ParserFingerprint.afterLineComment;
+import static org.jooq.impl.ParserFingerprint.afterNumber;
+import static org.jooq.impl.ParserFingerprint.afterOperator;
+import static org.jooq.impl.ParserFingerprint.afterQuoted;
+import static org.jooq.impl.ParserFingerprint.at;
+import static org.jooq.impl.ParserFingerprint.isDigit;
+import static org.jooq.impl.ParserFingerprint.isDollarQuote;
+import static org.jooq.impl.ParserFingerprint.isIdentifierStart;
+import static org.jooq.impl.ParserFingerprint.isOperator;
+import static org.jooq.impl.Tools.EMPTY_PARAM;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Param;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+
+/**
+ * A lexical utility for the {@link ParsingConnection}, replacing inline
+ * literals by bind values prior to looking up translations in the cache.
+ * <p>
+ * Numeric literals are replaced only where a bind value is known to be
+ * acceptable without changing the statement's semantics: as the right hand
+ * side of a comparison, <code>LIKE</code>, or <code>BETWEEN</code> predicate,
+ * or as elements of <code>IN</code> lists or <code>VALUES</code> rows.
+ * <code>IN</code> lists are replaced only if all of their elements are numeric
+ * literals. Literals in other positions (e.g. <code>ORDER BY 1</code> or
+ * <code>VARCHAR(10)</code>) are left untouched. String literals are never
+ * replaced, because dialects like PostgreSQL infer the type of an untyped
+ * string literal from its context (e.g. <code>date_col &gt; '2020-01-01'</code>),
+ * which doesn't work with a <code>VARCHAR</code> bind value.
+ *
+ * @author Lukas Eder
+ */
+final class ParsingConnectionLiterals {
+
+    final String     sql;
+    final Param<?>[] bindValues;
+
+    private ParsingConnectionLiterals(String sql, Param<?>[] bindValues) {
+        this.sql = sql;
+        this.bindValues = bindValues;
+    }
+
+    /**
+     * Replace inline literals by bind markers, merging the resulting bind
+     * values with the existing ones in order of appearance.
+     *
+     * @return The normalised SQL string and bind values, or <code>null</code>
+     *         if no literal could be replaced, or if the SQL string can't be
+     *         normalised safely.
+     */
+    static final ParsingConnectionLiterals parameterise(String sql, Param<?>[] bindValues) {
+        char[] c = sql.toCharArray();
+        StringBuilder sb = null;
+        List<Param<?>> binds = new ArrayList<>();
+        int copied = 0;
+        int existing = 0;
+
+        // The three previous significant tokens, words being upper cased
+        String p1 = "", p2 = "", p3 = "";
+        int depth = 0;
+        int valuesDepth = -1;
+        BitSet lists = new BitSet();
+
+        for (int i = 0; i < c.length;) {
+            char ch = c[i];
+            int to;
+            String token;
+            Param<?> literal = null;
+
+            if (Character.isWhitespace(ch)) {
+                i++;
+                continue;
+            }
+            else if (ch == '-' && at(c, i + 1) == '-') {
+                i = afterLineComment(c, i);
+                continue;
+            }
+            else if (ch == '/' && at(c, i + 1) == '*') {
+                i = afterBlockComment(c, i);
+                continue;
+            }
+            else if (ch == '\'') {
+                to = afterQuoted(c, i, '\'');
+
+                // Unterminated or possibly backslash escaped string literals
+                // can't be tokenised reliably
+                if (to - i < 2 || c[to - 1] != '\'' || indexOf(c, i, to, '\\') >= 0)
+                    return null;
+
+                // String literals are left untouched, as their type may be
+                // inferred from the context (e.g. date_col > '2020-01-01'),
+                // which a VARCHAR bind value would prevent in some dialects
+                token = "'";
+                lists.clear(depth);
+            }
+            else if (ch == '?') {
+                if (existing == bindValues.length)
+                    return null;
+
+                binds.add(bindValues[existing++]);
+                to = i + 1;
+                token = "?";
+            }
+
+            // Named or numbered bind markers and dollar quoted strings are
+            // not supported
+            else if (ch == ':' && isIdentifierStart(at(c, i + 1))
+                  || ch == '$' && (isDigit(at(c, i + 1)) || isDollarQuote(c, i))) {
+                return null;
+            }
+            else if (isDigit(ch) || ch == '.' && isDigit(at(c, i + 1))) {
+                to = afterNumber(c, i);
+                literal = number(new String(c, i, to - i));
+                token = "0";
+            }
+            else if (isIdentifierStart(ch)) {
+                to = afterIdentifier(c, i);
+
+                // Prefixed string literals, e.g. N'abc', X'0A', U&'abc'
+                if (at(c, to) == '\'' || at(c, to) == '&' && at(c, to + 1) == '\'')
+                    return null;
+
+                token = new String(c, i, to - i).toUpperCase(Locale.ROOT);
+
+                // Only DML statements can be normalised, DDL doesn't support
+                // bind values
+                if (p1.isEmpty() && !isDML(token))
+                    return null;
+
+                if ("VALUES".equals(token))
+                    valuesDepth = depth;
+                else if (valuesDepth == depth)
+                    valuesDepth = -1;
+
+                // Lists containing anything other than literals are left untouched
+                lists.clear(depth);
+            }
+            else if (ch == '"' || ch == '`') {
+                to = afterQuoted(c, i, ch);
+                token = "\"";
+                lists.clear(depth);
+            }
+            else if (ch == '(') {
+                to = i + 1;
+                token = "(";
+                depth++;
+
+                // IN lists are replaced only if they contain nothing but numeric
+                // literals, as their elements' types may be inferred from each
+                // other, e.g. IN (1, 'a'). VALUES rows are typed per column.
+                if ("IN".equals(p1) && numericList(c, to) || "VALUES".equals(p1) || ",".equals(p1) && valuesDepth == depth - 1)
+                    lists.set(depth);
+                else
+                    lists.clear(depth);
+            }
+            else if (ch == ')') {
+                to = i + 1;
+                token = ")";
+                lists.clear(depth);
+                depth--;
+            }
+            else if (isOperator(ch)) {
+                to = afterOperator(c, i);
+                token = new String(c, i, to - i);
+            }
+            else {
+                to = i + 1;
+                token = String.valueOf(ch);
+
+                if (ch != ',')
+                    lists.clear(depth);
+            }
+
+            if (literal != null && replaceable(p1, p2, p3, lists.get(depth))) {
+                if (sb == null)
+                    sb = new StringBuilder(c.length);
+
+                sb.append(c, copied, i - copied).append('?');
+                binds.add(literal);
+                copied = to;
+            }
+            else if (literal != null)
+                lists.clear(depth);
+
+            p3 = p2;
+            p2 = p1;
+            p1 = token;
+            i = to;
+        }
+
+        if (sb == null || existing != bindValues.length)
+            return null;
+
+        sb.append(c, copied, c.length - copied);
+        return new ParsingConnectionLiterals(sb.toString(), binds.toArray(EMPTY_PARAM));
+    }
+
+    /**
+     * Inline the bind values of a translation again, for static statements.
+     *
+     * @return The translation with inlined bind values, or <code>null</code>
+     *         if the bind markers can't be located reliably.
+     */
+    static final Rendered inline(Configuration configuration, Rendered rendered) {
+        if (rendered.bindValues.isEmpty())
+            return rendered;
+
+        DSLContext ctx = configuration.dsl();
+        char[] c = rendered.sql.toCharArray();
+        StringBuilder sb = new StringBuilder(c.length + 16 * rendered.bindValues.size());
+        int copied = 0;
+        int index = 0;
+
+        for (int i = 0; i < c.length;) {
+            char ch = c[i];
+
+            if (ch == '-' && at(c, i + 1) == '-')
+                i = afterLineComment(c, i);
+            else if (ch == '/' && at(c, i + 1) == '*')
+                i = afterBlockComment(c, i);
+            else if (ch == '\'' || ch == '"' || ch == '`')
+                i = afterQuoted(c, i, ch);
+            else if (ch == '?') {
+
+                // Possibly a PostgreSQL JSON operator, or similar
+                if (index == rendered.bindValues.size() || isOperator(at(c, i + 1)) || at(c, i + 1) == '?')
+                    return null;
+
+                sb.append(c, copied, i - copied).append(ctx.renderInlined(rendered.bindValues.get(index++)));
+                copied = ++i;
+            }
+            else
+                i++;
+        }
+
+        if (index != rendered.bindValues.size())
+            return null;
+
+        sb.append(c, copied, c.length - copied);
+        return new Rendered(sb.toString(), new QueryPartList<>(), rendered.skipUpdateCounts);
+    }
+
+    private static final boolean replaceable(String p1, String p2, String p3, boolean list) {
+        switch (p1) {
+            case "=":
+            case "<>":
+            case "!=":
+            case "<":
+            case ">":
+            case "<=":
+            case ">=":
+            case "LIKE":
+            case "ILIKE":
+            case "BETWEEN":
+                return true;
+
+            case "AND":
+                return "BETWEEN".equals(p3) && ("'".equals(p2) || "0".equals(p2) || "?".equals(p2));
+
+            case "(":
+            case ",":
+                return list;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Whether the list starting at <code>from</code> consists only of numeric
+     * literals or bind markers, up to its closing parenthesis.
+     */
+    private static final boolean numericList(char[] c, int from) {
+        for (int i = skip(c, from);;) {
+            char ch = at(c, i);
+            int to;
+
+            if (ch == '?')
+                to = i + 1;
+            else if (isDigit(ch) || ch == '.' && isDigit(at(c, i + 1)))
+                to = afterNumber(c, i);
+            else
+                return false;
+
+            i = skip(c, to);
+            ch = at(c, i);
+
+            if (ch == ')')
+                return true;
+            else if (ch == ',')
+                i = skip(c, i + 1);
+            else
+                return false;
+        }
+    }
+
+    /**
+     * Skip whitespace and comments.
+     */
+    private static final int skip(char[] c, int from) {
+        for (int i = from; i < c.length;) {
+            char ch = c[i];
+
+            if (Character.isWhitespace(ch))
+                i++;
+            else if (ch == '-' && at(c, i + 1) == '-')
+                i = afterLineComment(c, i);
+            else if (ch == '/' && at(c, i + 1) == '*')
+                i = afterBlockComment(c, i);
+            else
+                return i;
+        }
+
+        return c.length;
+    }
+
+    private static final boolean isDML(String keyword) {
+        switch (keyword) {
+            case "SELECT":
+            case "WITH":
+            case "INSERT":
+            case "UPDATE":
+            case "DELETE":
+            case "MERGE":
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    private static final Param<?> number(String s) {
+        boolean decimal = false;
+
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+
+            if (ch == '.' && !decimal)
+                decimal = true;
+
+            // Exponents, hex literals, separators, etc. are left untouched
+            else if (!isDigit(ch))
+                return null;
+        }
+
+        if (decimal)
+            return val(new BigDecimal(s));
+        else if (s.length() <= 9)
+            return val(Integer.valueOf(s));
+        else if (s.length() <= 18)
+            return val(Long.valueOf(s));
+        else
+            return val(new BigInteger(s));
+    }
+
+    private static final int indexOf(char[] c, int from, int to, char ch) {
+        for (int i = from; i < to; i++)
+            if (c[i] == ch)
+                return i;
+
+        return -1;
+    }
+}
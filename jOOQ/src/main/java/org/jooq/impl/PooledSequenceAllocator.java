@@ -0,0 +1,283 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.extractParamValue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.LoaderContext;
+import org.jooq.LoaderListenerStep;
+import org.jooq.LoaderRowListener;
+import org.jooq.Record;
+import org.jooq.RecordListener;
+import org.jooq.Sequence;
+import org.jooq.TableRecord;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A thread safe, client side pool of values of a {@link Sequence}.
+ * <p>
+ * Instead of incrementing the sequence once for every value, this allocator
+ * prefetches blocks of values using {@link Sequence#nextvals(int)} and hands
+ * them out without any locking. The block size adapts to the consumption
+ * rate: it grows when a block is used up quickly, and shrinks when it lasts
+ * long, bounded by a minimum and maximum block size.
+ * <p>
+ * If the sequence has an inline {@link Sequence#getIncrementBy()} value
+ * <code>n</code> with <code>|n| &gt; 1</code>, then each value obtained from
+ * the sequence reserves the <code>n</code> values starting from it (the
+ * "pooled-lo" or hi/lo algorithm), so a single round trip may produce many
+ * more values than it fetches. This is safe as long as all other clients use
+ * only the values they obtain from the sequence itself, or the same
+ * algorithm.
+ * <p>
+ * Values that have been prefetched, but not handed out are lost when the
+ * allocator is discarded, which produces gaps in the sequence, just like a
+ * server side sequence cache would. The allocator can be used transparently
+ * with {@link TableRecord#insert()} and {@link TableRecord#store()} via
+ * {@link #recordListener(Field)}, or with the {@link org.jooq.Loader} API via
+ * {@link #loaderRowListener(Field)}.
+ *
+ * @author Lukas Eder
+ */
+public final class PooledSequenceAllocator<T extends Number> {
+
+    private static final long           REFILL_FAST_NANOS = 1_000_000_000L;
+    private static final long           REFILL_SLOW_NANOS = 60_000_000_000L;
+
+    private final Configuration         configuration;
+    private final Sequence<T>           sequence;
+    private final int                   minBlockSize;
+    private final int                   maxBlockSize;
+    private final long                  increment;
+
+    /**
+     * The lock guarding refills. A {@link ReentrantLock} is used rather than a
+     * <code>synchronized</code> method, because refills make a database round
+     * trip, which would pin virtual threads to their carrier threads while
+     * holding a monitor.
+     */
+    private final Lock                  lock;
+    private volatile Block              block;
+    private int                         blockSize;
+    private long                        lastRefill;
+
+    /**
+     * Create an allocator with blocks of 1 to 1000 values.
+     */
+    public PooledSequenceAllocator(Configuration configuration, Sequence<T> sequence) {
+        this(configuration, sequence, 1, 1000);
+    }
+
+    /**
+     * Create an allocator with blocks of <code>minBlockSize</code> to
+     * <code>maxBlockSize</code> values.
+     */
+    public PooledSequenceAllocator(Configuration configuration, Sequence<T> sequence, int minBlockSize, int maxBlockSize) {
+        if (minBlockSize < 1 || maxBlockSize < minBlockSize)
+            throw new IllegalArgumentException("Illegal block size bounds: [" + minBlockSize + ", " + maxBlockSize + "]");
+
+        this.configuration = configuration;
+        this.sequence = sequence;
+        this.minBlockSize = minBlockSize;
+        this.maxBlockSize = maxBlockSize;
+        this.increment = increment(sequence);
+        this.lock = new ReentrantLock();
+        this.block = new Block(new long[0], 1L);
+        this.blockSize = minBlockSize;
+    }
+
+    private static final long increment(Sequence<?> sequence) {
+        Field<?> incrementBy = sequence.getIncrementBy();
+        Object value = incrementBy == null ? null : extractParamValue(incrementBy);
+
+        if (value instanceof Number n && n.longValue() != 0L)
+            return n.longValue();
+        else
+            return 1L;
+    }
+
+    /**
+     * The sequence whose values are allocated.
+     */
+    public final Sequence<T> sequence() {
+        return sequence;
+    }
+
+    /**
+     * Get the next value from the pool, fetching a new block of values from
+     * the sequence if the pool is exhausted.
+     *
+     * @throws DataAccessException if something went wrong fetching values
+     *             from the sequence.
+     */
+    public final T next() throws DataAccessException {
+        return sequence.getDataType().convert(nextLong());
+    }
+
+    private final long nextLong() {
+        for (;;) {
+            Block b = block;
+            int i = b.cursor.getAndIncrement();
+
+            if (i >= 0 && i < b.size)
+                return b.value(i);
+
+            refill(b);
+        }
+    }
+
+    private final void refill(Block exhausted) {
+        lock.lock();
+
+        try {
+
+            // Another thread has already refilled the pool
+            if (block != exhausted)
+                return;
+
+            long now = System.nanoTime();
+
+            if (lastRefill != 0L) {
+                long elapsed = now - lastRefill;
+
+                if (elapsed < REFILL_FAST_NANOS)
+                    blockSize = (int) Math.min(maxBlockSize, 2L * blockSize);
+                else if (elapsed > REFILL_SLOW_NANOS)
+                    blockSize = Math.max(minBlockSize, blockSize / 2);
+            }
+
+            long abs = Math.abs(increment);
+            int fetch = (int) Math.max(1L, (blockSize + abs - 1) / abs);
+            DSLContext ctx = configuration.dsl();
+            long[] bases;
+
+            if (fetch == 1) {
+                bases = new long[] { ctx.nextval(sequence).longValue() };
+            }
+            else {
+                List<T> values = ctx.nextvals(sequence, fetch);
+                bases = new long[values.size()];
+
+                for (int j = 0; j < bases.length; j++)
+                    bases[j] = values.get(j).longValue();
+            }
+
+            lastRefill = now;
+            block = new Block(bases, increment);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A {@link RecordListener} that assigns the next value to a field of
+     * inserted records, unless the record already contains a value for it.
+     * <p>
+     * Register it with the {@link Configuration} that is used to store
+     * records, e.g. using
+     * {@link Configuration#set(RecordListener...)}.
+     */
+    public final RecordListener recordListener(Field<T> field) {
+        return new CallbackRecordListener().onInsertStart(ctx -> {
+            Record record = ctx.record();
+
+            if (record != null && record.field(field) != null && !record.changed(field) && record.get(field) == null)
+                record.set(field, next());
+        });
+    }
+
+    /**
+     * A {@link LoaderRowListener} that assigns the next value to a field of
+     * loaded rows, if the row doesn't contain a value for it.
+     * <p>
+     * The field must be one of the {@link LoaderContext#fields()}. Register
+     * the listener with {@link LoaderListenerStep#onRowStart(LoaderRowListener)}.
+     */
+    public final LoaderRowListener loaderRowListener(Field<T> field) {
+        return ctx -> {
+            Field<?>[] fields = ctx.fields();
+            Object[] row = ctx.row();
+
+            for (int i = 0; i < fields.length && i < row.length; i++) {
+                if (field.equals(fields[i])) {
+                    if (row[i] == null)
+                        row[i] = next();
+
+                    break;
+                }
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "PooledSequenceAllocator [" + sequence + ", blockSize=" + blockSize + "]";
+    }
+
+    /**
+     * A block of prefetched values, each base value reserving
+     * <code>|increment|</code> consecutive values.
+     */
+    private static final class Block {
+        final long[]        bases;
+        final long          increment;
+        final long          size;
+        final AtomicInteger cursor;
+
+        Block(long[] bases, long increment) {
+            this.bases = bases;
+            this.increment = increment;
+            this.size = Math.min(Integer.MAX_VALUE, (long) bases.length * Math.abs(increment));
+            this.cursor = new AtomicInteger();
+        }
+
+        final long value(int i) {
+            long abs = Math.abs(increment);
+            return bases[(int) (i / abs)] + Long.signum(increment) * (i % abs);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.CacheType.CACHE_RENDERED_QUERIES;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jooq.BindContext;
+import org.jooq.Configuration;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.QueryPartInternal;
+import org.jooq.impl.DefaultBinding.InternalBinding;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+
+/**
+ * A {@link BindContext} that computes a fingerprint of a {@link Query}'s
+ * structure, excluding its bind values, while collecting the bind values.
+ * <p>
+ * The fingerprint is computed from the same traversal that
+ * {@link DefaultRenderContext} performs, except that all SQL strings produced
+ * by the various {@link QueryPartInternal#accept(org.jooq.Context)}
+ * implementations are only hashed, not appended to a buffer, and bind values
+ * are only collected, not rendered. Two queries that produce the same
+ * fingerprint produce the same SQL string, which can then be cached in the
+ * {@link CacheType#CACHE_RENDERED_QUERIES} cache.
+ * <p>
+ * Query parts whose SQL cannot be fingerprinted reliably from a bind traversal
+ * (e.g. routine calls, or custom {@link org.jooq.Binding} implementations)
+ * make the whole query uncacheable, in case of which rendering happens as
+ * usual.
+ * <p>
+ * Rendering settings, such as {@link Settings#getRenderNameCase()} or
+ * {@link Settings#isRenderFormatted()}, are not visible to a bind traversal,
+ * which is why a snapshot of the {@link Settings} is part of the cache key, in
+ * addition to the fingerprint. The snapshot and its hash code are computed
+ * only once per {@link Settings} instance of a {@link Configuration}.
+ * {@link Settings} that are modified in place after a {@link Configuration} has
+ * been used to execute queries are not reflected by this snapshot. Use
+ * {@link Configuration#derive(Settings)} instead.
+ *
+ * @author Lukas Eder
+ */
+final class QueryShape extends AbstractBindContext {
+
+    private static final AtomicInteger       CLASS_IDS = new AtomicInteger();
+    private static final ClassValue<Integer> CLASS_ID  = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return CLASS_IDS.incrementAndGet();
+        }
+    };
+
+    private static final int                 T_PART    = 1;
+    private static final int                 T_SQL     = 2;
+    private static final int                 T_INLINE  = 3;
+    private static final int                 T_BIND    = 4;
+
+    /**
+     * The {@link Configuration#data()} key of the {@link SettingsKey}.
+     */
+    private static final Object              SETTINGS  = new Object();
+
+    final List<Param<?>>                     bindValues;
+    boolean                                  cacheable;
+    long                                     h1;
+    long                                     h2;
+
+    QueryShape(Configuration configuration, DefaultExecuteContext ctx) {
+        super(configuration, ctx, null);
+
+        this.bindValues = new ArrayList<>();
+        this.cacheable = true;
+        this.h1 = 0xCBF29CE484222325L;
+        this.h2 = 0x84222325CBF29CE4L;
+    }
+
+    /**
+     * Render a query using the {@link CacheType#CACHE_RENDERED_QUERIES} cache,
+     * falling back to the argument renderer if the query cannot be cached.
+     */
+    static final Rendered rendered(
+        Configuration c,
+        DefaultExecuteContext ctx,
+        Query query,
+        Supplier<Rendered> render
+    ) {
+        QueryShape shape = new QueryShape(c, ctx);
+        shape.visit(query);
+
+        if (!shape.cacheable)
+            return render.get();
+
+        Rendered[] miss = { null };
+        Entry entry = Cache.run(c,
+            () -> Entry.of(miss[0] = render.get(), shape.bindValues),
+            CACHE_RENDERED_QUERIES,
+
+            // Settings such as renderNameCase or renderFormatted affect the SQL
+            // string, but not the traversal, so they have to be part of the key
+            () -> Cache.key(Cache.key(ctx.dialect(), SettingsKey.of(c)), shape.h1, shape.h2)
+        );
+
+        if (miss[0] != null)
+            return miss[0];
+        else if (entry == null)
+            return render.get();
+        else
+            return entry.rendered(shape.bindValues);
+    }
+
+    /**
+     * An immutable snapshot of a {@link Configuration}'s {@link Settings}, whose
+     * hash code is computed only once.
+     */
+    static final class SettingsKey {
+        final Settings settings;
+        final Settings snapshot;
+        final int      hash;
+
+        private SettingsKey(Settings settings) {
+            this.settings = settings;
+            this.snapshot = SettingsTools.clone(settings);
+            this.hash = snapshot.hashCode();
+        }
+
+        static final SettingsKey of(Configuration c) {
+            Settings settings = c.settings();
+
+            // Benign race: Concurrent misses compute equal snapshots
+            if (c.data(SETTINGS) instanceof SettingsKey k && k.settings == settings)
+                return k;
+
+            SettingsKey k = new SettingsKey(settings);
+            c.data(SETTINGS, k);
+            return k;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof SettingsKey k))
+                return false;
+
+            return hash == k.hash && snapshot.equals(k.snapshot);
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // Hashing
+    // ------------------------------------------------------------------------
+
+    private final void mix(int value) {
+        h1 = (h1 ^ value) * 0x100000001B3L;
+        h2 = Long.rotateLeft(h2 + value * 0x9E3779B97F4A7C15L, 27) * 0xC2B2AE3D27D4EB4FL;
+    }
+
+    private final void mix(long value) {
+        mix((int) value);
+        mix((int) (value >>> 32));
+    }
+
+    private final void mix(String value) {
+        if (value == null) {
+            mix(-1);
+        }
+        else {
+            int l = value.length();
+            mix(l);
+
+            for (int i = 0; i < l; i++)
+                mix(value.charAt(i));
+        }
+    }
+
+    private final void mix(Class<?> type) {
+        mix(type == null ? 0 : CLASS_ID.get(type));
+    }
+
+    // ------------------------------------------------------------------------
+    // BindContext API
+    // ------------------------------------------------------------------------
+
+    @Override
+    protected final void bindInternal(QueryPartInternal internal) {
+        if (!cacheable)
+            return;
+
+        mix(T_PART);
+        mix(internal.getClass());
+
+        if (internal instanceof Val<?> val) {
+            if (val.getDataType().isEmbeddable() || !(val.getBinding() instanceof InternalBinding))
+                cacheable = false;
+
+            // Inline values are part of the SQL string
+            else if (val.isInline(this)) {
+                Object value = val.getValue();
+
+                mix(T_INLINE);
+                mix(value == null ? null : value.getClass());
+                mix(value instanceof Object[] a ? Arrays.deepToString(a) : String.valueOf(value));
+                mix(val.getDataType().getTypeName(configuration()));
+            }
+
+            // Bind variables may be cast depending on their type and nullability
+            else {
+                Object value = val.getValue();
+
+                mix(T_BIND);
+                mix(value == null ? null : value.getClass());
+                mix(val.getParamName());
+                mix(val.getBinding().getClass());
+                mix(val.getDataType().getTypeName(configuration()));
+                mix(val.getDataType().lengthDefined() ? val.getDataType().length() : -1);
+                mix(val.getDataType().precisionDefined() ? val.getDataType().precision() : -1);
+                mix(val.getDataType().scaleDefined() ? val.getDataType().scale() : -1);
+                bindValues.add(val);
+            }
+        }
+
+        // These query parts render content in a RenderContext that cannot be
+        // observed from a BindContext
+        else if (internal instanceof AbstractParam
+            || internal instanceof AbstractRoutine
+            || internal instanceof RowSubqueryCondition)
+            cacheable = false;
+
+        // [#1593] Plain SQL templates are parsed using a dummy RenderContext
+        //         when in bind mode
+        else if (internal instanceof SQLImpl s) {
+            mix(s.sql);
+            super.bindInternal(internal);
+        }
+        else
+            super.bindInternal(internal);
+    }
+
+    @Override
+    public final BindContext sql(String sql) {
+        mix(T_SQL);
+        mix(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(String sql, boolean literal) {
+        return sql(sql);
+    }
+
+    @Override
+    public final BindContext sql(char sql) {
+        mix(T_SQL);
+        mix((int) sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(int sql) {
+        mix(T_SQL);
+        mix(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(long sql) {
+        mix(T_SQL);
+        mix(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(float sql) {
+        mix(T_SQL);
+        mix(Float.floatToIntBits(sql));
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(double sql) {
+        mix(T_SQL);
+        mix(Double.doubleToLongBits(sql));
+        return this;
+    }
+
+    /**
+     * A cached rendering of a query shape, including a plan to reorder the
+     * bind values collected by the {@link QueryShape} into the order in which
+     * {@link DefaultRenderContext} produces them.
+     */
+    private static final class Entry {
+        final String sql;
+        final int    skipUpdateCounts;
+        final int[]  plan;
+
+        Entry(String sql, int skipUpdateCounts, int[] plan) {
+            this.sql = sql;
+            this.skipUpdateCounts = skipUpdateCounts;
+            this.plan = plan;
+        }
+
+        static final Entry of(Rendered rendered, List<Param<?>> collected) {
+            if (rendered.bindValues == null || rendered.bindValues.size() != collected.size())
+                return null;
+
+            // [#11367] Implicit joins and other scope markers may insert bind
+            //          values out of traversal order. Only cache the rendering
+            //          if every rendered bind value can be mapped
+            //          unambiguously to a collected one.
+            int size = collected.size();
+            Map<Param<?>, Integer> indexes = new IdentityHashMap<>(size);
+            for (int i = 0; i < size; i++)
+                if (indexes.put(collected.get(i), i) != null)
+                    return null;
+
+            int[] plan = null;
+            for (int i = 0; i < size; i++) {
+                Integer j = indexes.get(rendered.bindValues.get(i));
+
+                if (j == null)
+                    return null;
+
+                if (j != i && plan == null) {
+                    plan = new int[size];
+
+                    for (int k = 0; k < i; k++)
+                        plan[k] = k;
+                }
+
+                if (plan != null)
+                    plan[i] = j;
+            }
+
+            return new Entry(rendered.sql, rendered.skipUpdateCounts, plan);
+        }
+
+        final Rendered rendered(List<Param<?>> collected) {
+            QueryPartList<Param<?>> bindValues = new QueryPartList<>();
+
+            if (plan == null)
+                bindValues.addAll(collected);
+            else
+                for (int i : plan)
+                    bindValues.add(collected.get(i));
+
+            return new Rendered(sql, bindValues, skipUpdateCounts);
+        }
+    }
+}
@@ -72,12 +72,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -85,6 +92,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -114,6 +122,7 @@ import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.impl.BatchCRUD.CollectedQuery;
 import org.jooq.impl.DefaultConnectionFactory.NonClosingConnection;
 import org.jooq.impl.DefaultRenderContext.Rendered;
 import org.jooq.impl.ThreadGuard.Guard;
@@ -226,6 +235,12 @@ final class R2DBC {
             return !completed.get() && requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1)) > 0;
         }
 
+        final long takeRequested() {
+
+            // required_spec312_cancelMustMakeThePublisherToEventuallyStopSignaling
+            return completed.get() ? 0 : requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : 0);
+        }
+
         final void complete(Runnable onComplete) {
 
             // required_spec306_afterSubscriptionIsCancelledRequestMustBeNops
@@ -260,16 +275,52 @@ final class R2DBC {
         return r;
     }
 
+    static final int prefetch(Settings settings) {
+        return Math.max(0, defaultIfNull(settings.getR2dbcPrefetch(), 0));
+    }
+
+    static final int lowWatermark(Settings settings, int prefetch) {
+        int low = defaultIfNull(settings.getR2dbcPrefetchLowWatermark(), 0);
+        return low > 0 ? Math.min(low, prefetch - 1) : prefetch >> 2;
+    }
+
+    /**
+     * A subscriber forwarding the contents of a single {@link Result} to the
+     * downstream subscriber.
+     * <p>
+     * Without {@link Settings#getR2dbcPrefetch()}, downstream demand is passed
+     * on to the driver as it arrives. With prefetch, rows are requested ahead
+     * of downstream demand up to the prefetch high watermark, buffered, and
+     * replenished once the rows in flight drop to the low watermark, which
+     * bounds the number of rows held in memory per result.
+     */
     private static final class Forwarding<T> implements DownstreamSubscriber<T> {
 
         final int                           forwarderIndex;
         final AbstractResultSubscriber<T>   resultSubscriber;
         final AtomicReference<Subscription> subscription;
+        final AtomicLong                    pending;
+        final AtomicBoolean                 terminated;
+        final int                           prefetch;
+        final int                           lowWatermark;
+        final Queue<T>                      buffer;
+        final AtomicInteger                 buffered;
+        final AtomicInteger                 wip;
+        volatile boolean                    done;
 
         Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber) {
+            Settings settings = resultSubscriber.downstream.configuration.settings();
+
             this.forwarderIndex = forwarderIndex;
             this.resultSubscriber = resultSubscriber;
             this.subscription = new AtomicReference<>();
+            this.pending = new AtomicLong();
+            this.terminated = new AtomicBoolean();
+            this.prefetch = prefetch(settings);
+            this.lowWatermark = lowWatermark(settings, prefetch);
+            this.buffer = prefetch > 0 ? new ConcurrentLinkedQueue<>() : null;
+            this.buffered = new AtomicInteger();
+            this.wip = new AtomicInteger();
         }
 
         @Override
@@ -280,33 +331,109 @@ final class R2DBC {
         @Override
         public final void onSubscribe(Subscription s) {
             subscription.set(s);
-            resultSubscriber.downstream.request2(s);
+
+            if (prefetch > 0) {
+                pending.set(prefetch);
+                s.request(prefetch);
+            }
+            else
+                resultSubscriber.downstream.request2(this);
         }
 
         @Override
         public final void onNext(T value) {
-            if (!resultSubscriber.downstream.completed.get()) {
-                resultSubscriber.downstream.subscriber.onNext(value);
-                resultSubscriber.downstream.request2(subscription.get());
+            pending.decrementAndGet();
+
+            if (prefetch > 0) {
+                buffer.offer(value);
+                buffered.incrementAndGet();
+                drain();
             }
+            else if (!resultSubscriber.downstream.completed.get())
+                resultSubscriber.downstream.subscriber.onNext(value);
         }
 
         @Override
         public final void onError(Throwable t) {
+            if (buffer != null)
+                buffer.clear();
+
             complete(true, () -> resultSubscriber.downstream.subscriber.onError(translate(resultSubscriber.downstream.configuration.dsl(), resultSubscriber.downstream.sql(), t)));
         }
 
         @Override
         public final void onComplete() {
-            complete(false, () -> resultSubscriber.downstream.subscriber.onComplete());
+            if (prefetch > 0) {
+                done = true;
+                drain();
+            }
+            else
+                complete(false, () -> resultSubscriber.downstream.subscriber.onComplete());
+        }
+
+        /**
+         * Emit buffered rows as far as downstream demand allows, and replenish
+         * the rows in flight once they drop to the low watermark.
+         * <p>
+         * Calls may come from the driver's and the downstream subscriber's
+         * threads. They are serialised by the work in progress counter.
+         */
+        final void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+
+            AbstractNonBlockingSubscription<? super T> downstream = resultSubscriber.downstream;
+            int missed = 1;
+
+            do {
+                while (!buffer.isEmpty() && downstream.moreRequested()) {
+                    buffered.decrementAndGet();
+                    downstream.subscriber.onNext(buffer.poll());
+                }
+
+                if (done) {
+                    if (buffer.isEmpty()) {
+                        complete(false, () -> downstream.subscriber.onComplete());
+                        return;
+                    }
+                }
+                else if (!terminated.get()) {
+                    long inFlight = pending.get() + buffered.get();
+                    Subscription s = subscription.get();
+
+                    if (s != null && inFlight <= lowWatermark) {
+                        pending.addAndGet(prefetch - inFlight);
+                        s.request(prefetch - inFlight);
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            }
+            while (missed != 0);
         }
 
         private final void complete(boolean cancelled, Runnable onComplete) {
+            if (terminated.getAndSet(true))
+                return;
+
             resultSubscriber.downstream.forwarders.remove(forwarderIndex);
 
+            // Demand that has been passed to this forwarder but that wasn't
+            // used must be passed on to other forwarders, e.g. to the next
+            // Result of a batch, or it is lost. With prefetch, pending is
+            // driver demand, not downstream demand.
+            long unused = pending.getAndSet(0);
+            if (unused > 0 && !cancelled && prefetch == 0)
+                resultSubscriber.downstream.release(unused);
+
             // [#13343] [#13669] Prevent premature completion
             if (resultSubscriber.downstream.forwarders.isEmpty() && (cancelled || resultSubscriber.completionRequested.get()))
                 resultSubscriber.complete(cancelled, onComplete);
+
+            // Results are requested one at a time, once the previous one has
+            // been consumed
+            else if (!cancelled)
+                resultSubscriber.requestResult();
         }
     }
 
@@ -315,6 +442,7 @@ final class R2DBC {
         final AbstractNonBlockingSubscription<? super T> downstream;
         final AtomicBoolean                              completed;
         final AtomicBoolean                              completionRequested;
+        final AtomicReference<Subscription>              subscription;
         final R2DBCPreparedStatement                     statement;
 
         AbstractResultSubscriber(
@@ -324,6 +452,7 @@ final class R2DBC {
             this.downstream = downstream;
             this.completed = new AtomicBoolean();
             this.completionRequested = new AtomicBoolean();
+            this.subscription = new AtomicReference<>();
             this.statement = statement;
         }
 
@@ -334,7 +463,18 @@ final class R2DBC {
 
         @Override
         public final void onSubscribe(Subscription s) {
-            s.request(Long.MAX_VALUE);
+            subscription.set(s);
+
+            // Requesting all results at once would have their contents
+            // published concurrently, regardless of downstream demand.
+            requestResult();
+        }
+
+        final void requestResult() {
+            Subscription s = subscription.get();
+
+            if (s != null)
+                s.request(1);
         }
 
         @Override
@@ -548,17 +688,16 @@ final class R2DBC {
                     R2DBCPreparedStatement s = new R2DBCPreparedStatement(configuration, stmt);
                     new DefaultBindContext(configuration, null, s).visit(rendered.bindValues);
 
-                    // TODO: Reuse org.jooq.impl.Tools.setFetchSize(ExecuteContext ctx, int fetchSize)
+                    // Without an explicit fetch size, let the driver fetch
+                    // as many rows as are prefetched
                     AbstractResultQuery<?> q1 = abstractResultQuery(query);
                     if (q1 != null) {
-                        int f = SettingsTools.getFetchSize(q1.fetchSize(), configuration.settings());
+                        int f = q1.fetchSize();
 
-                        if (f != 0) {
-                            if (log.isDebugEnabled())
-                                log.debug("Setting fetch size", f);
+                        if (f == 0 && SettingsTools.getFetchSize(0, configuration.settings()) == 0)
+                            f = prefetch(configuration.settings());
 
-                            stmt.fetchSize(f);
-                        }
+                        Tools.setFetchSize(s, configuration.settings(), f);
                     }
 
                     AbstractDMLQuery<?> q2 = abstractDMLQuery(query);
@@ -687,6 +826,215 @@ final class R2DBC {
         }
     }
 
+    static final class BatchCRUDSubscriber extends ConnectionSubscriber<Integer> {
+
+        final BatchCRUD                   batch;
+        final BatchCRUD.RowCountCollector rowCounts;
+
+        BatchCRUDSubscriber(
+            BatchCRUD batch,
+            BatchCRUD.RowCountCollector rowCounts,
+            BatchSubscription<BatchCRUD> downstream
+        ) {
+            super(downstream);
+
+            this.batch = batch;
+            this.rowCounts = rowCounts;
+        }
+
+        @Override
+        final void onNext0(Connection c) {
+            try {
+                Configuration configuration = batch.configuration;
+                int batchSize = SettingsTools.getBatchSize(configuration.settings());
+                List<CollectedQuery> queries = rowCounts.collect();
+                List<List<CollectedQuery>> statements = new ArrayList<>();
+
+                // [#1180] Static statements are batched in their requested order
+                if (SettingsTools.executeStaticStatements(configuration.settings())) {
+                    DSLContext ctx = configuration.dsl();
+                    rowCounts.executed = queries;
+
+                    statements.addAll(Tools.chunks(queries, batchSize));
+
+                    new SequentialResults<>(statements.iterator(), chunk -> {
+                        Batch b = c.createBatch();
+
+                        for (CollectedQuery q : chunk)
+                            b = b.add(ctx.renderInlined(q.query));
+
+                        return b.execute();
+                    }).subscribe(new RowCountSubscriber(downstream, null));
+                }
+
+                // Aggregate executable queries by identical SQL, like the
+                // blocking BatchCRUD, and pipeline one statement per chunk of
+                // bind value sets over the connection.
+                else {
+                    Map<String, List<CollectedQuery>> groups = new LinkedHashMap<>();
+
+                    for (CollectedQuery q : queries) {
+                        Rendered rendered = rendered(configuration, q.query);
+
+                        groups.computeIfAbsent(rendered.sql, k -> new ArrayList<>()).add(new CollectedQuery(
+                            q.record, q.query, rendered.sql, rendered.bindValues.toArray(EMPTY_PARAM), q.version, q.timestamp
+                        ));
+                    }
+
+                    List<CollectedQuery> executed = new ArrayList<>();
+                    for (List<CollectedQuery> group : groups.values()) {
+                        executed.addAll(group);
+                        statements.addAll(Tools.chunks(group, batchSize));
+                    }
+
+                    rowCounts.executed = executed;
+                    new SequentialResults<>(statements.iterator(), chunk -> {
+                        Statement stmt = c.createStatement(chunk.get(0).sql);
+
+                        for (int i = 0; i < chunk.size(); i++) {
+                            if (i > 0)
+                                stmt = stmt.add();
+
+                            new DefaultBindContext(configuration, null, new R2DBCPreparedStatement(configuration, stmt))
+                                .visit(new QueryPartList<>(chunk.get(i).params));
+                        }
+
+                        return stmt.execute();
+                    }).subscribe(new RowCountSubscriber(downstream, null));
+                }
+            }
+
+            // [#13343] Cancel the downstream in case of a rendering bug in jOOQ
+            catch (Throwable t) {
+                downstream.cancel();
+                onError(t);
+            }
+        }
+    }
+
+    /**
+     * A {@link Publisher} executing statements one after the other on the
+     * same connection, concatenating their {@link Result} publishers.
+     * <p>
+     * The next statement is created and executed only once the previous
+     * statement's results have been published, which bounds the number of
+     * statements in flight to one. Demand for {@link Result} objects is passed
+     * on to the current statement.
+     */
+    static final class SequentialResults<T> implements Publisher<Result> {
+
+        final Iterator<T>                                      statements;
+        final Function<? super T, Publisher<? extends Result>> execute;
+
+        SequentialResults(Iterator<T> statements, Function<? super T, Publisher<? extends Result>> execute) {
+            this.statements = statements;
+            this.execute = execute;
+        }
+
+        @Override
+        public final void subscribe(Subscriber<? super Result> subscriber) {
+            AtomicBoolean started = new AtomicBoolean();
+            AtomicBoolean cancelled = new AtomicBoolean();
+            AtomicLong requested = new AtomicLong();
+            AtomicReference<Subscription> current = new AtomicReference<>();
+            AtomicInteger wip = new AtomicInteger();
+
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.accumulateAndGet(n, R2DBC::addNoOverflow);
+
+                    if (!started.getAndSet(true))
+                        next();
+                    else {
+                        Subscription s = current.get();
+
+                        if (s != null)
+                            s.request(n);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                    Subscription s = current.getAndSet(null);
+
+                    if (s != null)
+                        s.cancel();
+                }
+
+                /**
+                 * Subscribe to the next statement's results, looping rather
+                 * than recursing if the previous statement completes
+                 * synchronously, such that the stack doesn't grow with the
+                 * number of statements.
+                 */
+                private void next() {
+                    if (wip.getAndIncrement() != 0)
+                        return;
+
+                    do {
+                        if (!subscribeNext())
+                            return;
+                    }
+                    while (wip.decrementAndGet() != 0);
+                }
+
+                /**
+                 * @return Whether there may be further statements.
+                 */
+                private boolean subscribeNext() {
+                    if (cancelled.get())
+                        return false;
+
+                    if (!statements.hasNext()) {
+                        subscriber.onComplete();
+                        return false;
+                    }
+
+                    Publisher<? extends Result> publisher;
+                    try {
+                        publisher = execute.apply(statements.next());
+                    }
+                    catch (Throwable t) {
+                        subscriber.onError(t);
+                        return false;
+                    }
+
+                    publisher.subscribe(new Subscriber<Result>() {
+                        @Override
+                        public void onSubscribe(Subscription s) {
+                            current.set(s);
+                            long n = requested.get();
+
+                            if (n > 0)
+                                s.request(n);
+                        }
+
+                        @Override
+                        public void onNext(Result r) {
+                            requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1));
+                            subscriber.onNext(r);
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            subscriber.onError(t);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            current.set(null);
+                            next();
+                        }
+                    });
+
+                    return true;
+                }
+            });
+        }
+    }
+
     static abstract class AbstractNonBlockingSubscription<T> extends AbstractSubscription<T> {
 
         final AtomicBoolean                         subscribed;
@@ -731,6 +1079,14 @@ final class R2DBC {
                 request1();
         }
 
+        private final void forAllForwarders(Consumer<? super Forwarding<T>> consumer) {
+
+            // Forwarders all forward to the same downstream and are not
+            // expected to be contained in the map at the same time.
+            for (Forwarding<T> f : forwarders.values())
+                consumer.accept(f);
+        }
+
         private final void forAllForwardingSubscriptions(Consumer<? super Subscription> consumer) {
 
             // Forwarders all forward to the same downstream and are not
@@ -744,12 +1100,32 @@ final class R2DBC {
         }
 
         private final void request1() {
-            forAllForwardingSubscriptions(this::request2);
+            forAllForwarders(this::request2);
         }
 
-        final void request2(Subscription s) {
-            if (moreRequested())
-                s.request(1);
+        final void request2(Forwarding<?> f) {
+            if (f.prefetch > 0) {
+                f.drain();
+                return;
+            }
+
+            Subscription s = f.subscription.get();
+
+            if (s != null) {
+                long n = takeRequested();
+
+                if (n > 0) {
+                    f.pending.accumulateAndGet(n, R2DBC::addNoOverflow);
+                    s.request(n);
+                }
+            }
+        }
+
+        final void release(long unused) {
+            if (!completed.get()) {
+                requested.accumulateAndGet(unused, R2DBC::addNoOverflow);
+                request1();
+            }
         }
 
         @Override
@@ -1347,6 +1723,11 @@ final class R2DBC {
             setObject(parameterIndex, x, defaultIfNull(targetSqlType.getVendorTypeNumber(), Types.OTHER));
         }
 
+        @Override
+        public final void setFetchSize(int rows) throws SQLException {
+            wrapExceptions(() -> { s.fetchSize(rows); });
+        }
+
 
 
 
@@ -1757,21 +2138,29 @@ final class R2DBC {
 
     /**
      * [#18893] It might be possible to work with a more fine grained
-     * {@link Lock} instead of synchronizing all subscription access to allow
+     * {@link Lock} instead of locking all subscription access to allow
      * for interleaving concurrent processing of individually requested rows.
+     * <p>
+     * A {@link ReentrantLock} is used instead of <code>synchronized</code>
+     * methods, as the subscription blocks on JDBC I/O while holding the lock,
+     * which would pin virtual threads to their carrier threads.
      */
     static final class BlockingRecordSubscription<R extends Record> extends AbstractSubscription<R> {
         private final ResultQueryTrait<R> query;
+        private final Lock                lock;
         private volatile Cursor<R>        c;
 
         BlockingRecordSubscription(ResultQueryTrait<R> query, Subscriber<? super R> subscriber) {
             super(query.configuration(), subscriber);
 
             this.query = query;
+            this.lock = new ReentrantLock();
         }
 
         @Override
-        final synchronized void request0() {
+        final void request0() {
+            lock.lock();
+
             try {
                 if (c == null)
                     c = query.fetchLazyNonAutoClosing();
@@ -1792,12 +2181,22 @@ final class R2DBC {
                 subscriber.onError(t);
                 safeClose(c);
             }
+            finally {
+                lock.unlock();
+            }
         }
 
         @Override
-        final synchronized void cancel0(boolean closeAfterTransaction, Runnable onComplete) {
-            safeClose(c);
-            onComplete.run();
+        final void cancel0(boolean closeAfterTransaction, Runnable onComplete) {
+            lock.lock();
+
+            try {
+                safeClose(c);
+                onComplete.run();
+            }
+            finally {
+                lock.unlock();
+            }
         }
     }
 
@@ -49,9 +49,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collector;
 
@@ -89,9 +91,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     }
 
     ResultImpl(Configuration configuration, AbstractRow fields) {
+        this(configuration, fields, new ArrayList<>());
+    }
+
+    ResultImpl(Configuration configuration, AbstractRow fields, List<R> records) {
         super(configuration, fields);
 
-        this.records = new ArrayList<>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -100,7 +106,10 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     final List<? extends Attachable> getAttachables() {
-        return records;
+        if (records instanceof ColumnarRecordList<R> c)
+            return Collections.singletonList(c);
+        else
+            return records;
     }
 
     // -------------------------------------------------------------------------
@@ -129,6 +138,9 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object getValue(int index, int fieldIndex) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return c.value(index, safeIndex(fieldIndex));
+
         return get(index).get(fieldIndex);
     }
 
@@ -139,6 +151,9 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> List<T> getValues(Field<T> field) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (List<T>) c.values(indexOrFail(fieldsRow(), field));
+
         return collect(intoList(recordType().mapper(field)));
     }
 
@@ -154,6 +169,9 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<?> getValues(int fieldIndex) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return c.values(safeIndex(fieldIndex));
+
         return collect(intoList(recordType().mapper(fieldIndex)));
     }
 
@@ -208,11 +226,17 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K> Map<K, R> intoMap(Field<K> key) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (Map) c.intoMap(indexOrFail(fieldsRow(), key), -1);
+
         return collect(Records.intoMap(recordType().mapper(key)));
     }
 
     @Override
     public final Map<?, R> intoMap(int keyFieldIndex) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (Map) c.intoMap(safeIndex(keyFieldIndex), -1);
+
         return collect(Records.intoMap(recordType().mapper(keyFieldIndex)));
     }
 
@@ -228,11 +252,17 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, V> intoMap(Field<K> key, Field<V> value) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (Map<K, V>) c.intoMap(indexOrFail(fieldsRow(), key), indexOrFail(fieldsRow(), value));
+
         return collect(Records.intoMap(recordType().mapper(key), recordType().mapper(value)));
     }
 
     @Override
     public final Map<?, ?> intoMap(int keyFieldIndex, int valueFieldIndex) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return c.intoMap(safeIndex(keyFieldIndex), safeIndex(valueFieldIndex));
+
         return collect(Records.intoMap(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
     }
 
@@ -418,11 +448,17 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K> Map<K, Result<R>> intoGroups(Field<K> key) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (Map<K, Result<R>>) intoGroups(c, indexOrFail(fieldsRow(), key));
+
         return collect(intoResultGroups(recordType().mapper(key)));
     }
 
     @Override
     public final Map<?, Result<R>> intoGroups(int keyFieldIndex) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return intoGroups(c, safeIndex(keyFieldIndex));
+
         return collect(intoResultGroups(recordType().mapper(keyFieldIndex)));
     }
 
@@ -438,11 +474,17 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, List<V>> intoGroups(Field<K> key, Field<V> value) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (Map) c.intoGroups(indexOrFail(fieldsRow(), key), indexOrFail(fieldsRow(), value));
+
         return collect(Records.intoGroups(recordType().mapper(key), recordType().mapper(value)));
     }
 
     @Override
     public final Map<?, List<?>> intoGroups(int keyFieldIndex, int valueFieldIndex) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (Map) c.intoGroups(safeIndex(keyFieldIndex), safeIndex(valueFieldIndex));
+
         return (Map) collect(Records.intoGroups(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
     }
 
@@ -626,6 +668,15 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
         return collect(Records.intoGroups(recordType().mapper(table), mapper));
     }
 
+    private final Map<Object, Result<R>> intoGroups(ColumnarRecordList<R> c, int keyFieldIndex) {
+        Map<Object, Result<R>> result = new LinkedHashMap<>();
+
+        for (Entry<Object, ColumnarRecordList<R>> e : c.intoGroups(keyFieldIndex).entrySet())
+            result.put(e.getKey(), new ResultImpl<>(Tools.configuration(this), fields, e.getValue()));
+
+        return result;
+    }
+
     @Override
     public final Object[][] intoArrays() {
         return collect(Records.intoArray(new Object[0][], R::intoArray));
@@ -633,6 +684,9 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[] intoArray(int fieldIndex) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return c.intoArray(safeIndex(fieldIndex), field(fieldIndex).getType());
+
         return collect(Records.intoArray(field(safeIndex(fieldIndex)).getType(), recordType().mapper(fieldIndex)));
     }
 
@@ -678,6 +732,9 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> T[] intoArray(Field<T> field) {
+        if (records instanceof ColumnarRecordList<R> c)
+            return (T[]) c.intoArray(indexOrFail(fieldsRow(), field), field.getType());
+
         return collect(Records.intoArray(field.getType(), recordType().mapper(field)));
     }
 
@@ -938,6 +995,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Result<R> sortAsc(int fieldIndex, Comparator<?> comparator) {
+        if (records instanceof ColumnarRecordList<R> c) {
+            c.sort(safeIndex(fieldIndex), comparator);
+            return this;
+        }
+
         return sortAsc(new RecordComparator(fieldIndex, comparator));
     }
 
@@ -953,28 +1015,28 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Result<R> sortAsc(Comparator<? super R> comparator) {
-        sort(comparator);
+        records.sort(comparator);
         return this;
     }
 
     @Override
     public final <T extends Comparable<? super T>> Result<R> sortDesc(Field<T> field) {
-        return sortAsc(field, Collections.reverseOrder(new NaturalComparator<T>()));
+        return sortAsc(field, new NaturalComparator<T>().reversed());
     }
 
     @Override
     public final Result<R> sortDesc(int fieldIndex) {
-        return sortAsc(fieldIndex, Collections.reverseOrder(new NaturalComparator()));
+        return sortAsc(fieldIndex, new NaturalComparator().reversed());
     }
 
     @Override
     public final Result<R> sortDesc(String fieldName) {
-        return sortAsc(fieldName, Collections.reverseOrder(new NaturalComparator()));
+        return sortAsc(fieldName, new NaturalComparator().reversed());
     }
 
     @Override
     public final Result<R> sortDesc(Name fieldName) {
-        return sortAsc(fieldName, Collections.reverseOrder(new NaturalComparator()));
+        return sortAsc(fieldName, new NaturalComparator().reversed());
     }
 
     @Override
@@ -1022,12 +1084,27 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     }
 
     /**
-     * A natural comparator
+     * A natural comparator, ordering <code>NULL</code> values first (or last,
+     * if descending)
      */
-    private static class NaturalComparator<T extends Comparable<? super T>> implements Comparator<T> {
+    static class NaturalComparator<T extends Comparable<? super T>> implements Comparator<T> {
+
+        final boolean descending;
+
+        NaturalComparator() {
+            this(false);
+        }
+
+        private NaturalComparator(boolean descending) {
+            this.descending = descending;
+        }
 
         @Override
         public final int compare(T o1, T o2) {
+            return descending ? compare0(o2, o1) : compare0(o1, o2);
+        }
+
+        private final int compare0(T o1, T o2) {
             if (o1 == null && o2 == null)
                 return 0;
             else if (o1 == null)
@@ -1037,6 +1114,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
             else
                 return o1.compareTo(o2);
         }
+
+        @Override
+        public final Comparator<T> reversed() {
+            return new NaturalComparator<>(!descending);
+        }
     }
 
     private final int safeIndex(int index) {
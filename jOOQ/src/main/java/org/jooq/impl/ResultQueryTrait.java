@@ -51,6 +51,8 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.indexOrFail;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -72,11 +74,13 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jooq.CSVFormat;
 import org.jooq.CloseableResultQuery;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.QueryPartInternal;
 import org.jooq.Record;
@@ -280,6 +284,37 @@ extends
         return new ResultAsCursor<R>(fetch());
     }
 
+    @Override
+    default Result<R> fetchColumnar() {
+        try (Cursor<R> c = fetchLazy()) {
+            return c instanceof CursorImpl<R> ci ? ci.fetchColumnar() : c.fetch();
+        }
+    }
+
+    @Override
+    default void formatJSON(Writer writer, JSONFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatJSON(writer, format);
+        }
+    }
+
+    @Override
+    default void formatJSON(OutputStream stream, JSONFormat format) {
+        formatJSON(new UTF8Writer(stream), format);
+    }
+
+    @Override
+    default void formatCSV(Writer writer, CSVFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatCSV(writer, format);
+        }
+    }
+
+    @Override
+    default void formatCSV(OutputStream stream, CSVFormat format) {
+        formatCSV(new UTF8Writer(stream), format);
+    }
+
     @Override
     default Results fetchMany() throws DataAccessException {
         throw new DataAccessException("Attempt to call fetchMany() on " + getClass());
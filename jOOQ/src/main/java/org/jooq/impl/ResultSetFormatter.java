@@ -0,0 +1,438 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.JSONFormat.NullFormat.ABSENT_ON_NULL;
+import static org.jooq.impl.AbstractResult.formatCSV0;
+import static org.jooq.impl.AbstractResult.formatCSVHeader;
+import static org.jooq.impl.AbstractResult.formatJSON0;
+import static org.jooq.impl.AbstractResult.formatJSONFooter;
+import static org.jooq.impl.AbstractResult.formatJSONHeader;
+import static org.jooq.impl.RowAsField.NO_NATIVE_SUPPORT;
+import static org.jooq.impl.Tools.hasDefaultConverter;
+import static org.jooq.impl.Tools.uncoerce;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_MULTISET_CONTENT;
+
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.CSVFormat;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.JSONFormat;
+import org.jooq.JSONFormat.RecordFormat;
+import org.jooq.impl.DefaultBinding.DefaultBooleanBinding;
+import org.jooq.impl.DefaultBinding.DefaultByteBinding;
+import org.jooq.impl.DefaultBinding.DefaultIntegerBinding;
+import org.jooq.impl.DefaultBinding.DefaultLongBinding;
+import org.jooq.impl.DefaultBinding.DefaultShortBinding;
+import org.jooq.tools.StringUtils;
+
+/**
+ * A utility to format a JDBC {@link ResultSet} as JSON or CSV directly,
+ * without creating any intermediary {@link org.jooq.Record} objects.
+ * <p>
+ * The output is the same as that of {@link AbstractResult#formatJSON(Writer, JSONFormat)}
+ * and {@link AbstractResult#formatCSV(Writer, CSVFormat)}. Each column is read
+ * by a {@link Column} that is derived once from the column's {@link Field}:
+ * integer and boolean columns with default bindings are read and written as
+ * primitives, all other columns are read using their {@link Binding}.
+ *
+ * @author Lukas Eder
+ */
+final class ResultSetFormatter {
+
+    /**
+     * Whether the fields can be read column by column, i.e. whether none of
+     * them is a nested record that spans several columns.
+     */
+    static final boolean supported(ExecuteContext ctx, Field<?>[] fields) {
+        for (Field<?> field : fields) {
+            Field<?> f = uncoerce(field);
+
+            if (f instanceof AbstractRowAsField
+                    && NO_NATIVE_SUPPORT.contains(ctx.dialect())
+                    && !TRUE.equals(ctx.data(DATA_MULTISET_CONTENT)))
+                return false;
+            else if (f.getDataType().isEmbeddable())
+                return false;
+        }
+
+        return true;
+    }
+
+    static final int formatJSON(
+        ExecuteContext ctx,
+        ExecuteListener listener,
+        Field<?>[] fields,
+        Writer writer,
+        JSONFormat format
+    ) throws SQLException, java.io.IOException {
+        format = format.mutable(true);
+
+        if (format.recordFormat() != RecordFormat.ARRAY && format.recordFormat() != RecordFormat.OBJECT)
+            throw new IllegalArgumentException("Format not supported: " + format);
+
+        Column[] columns = columns(ctx, fields);
+        ResultSet rs = ctx.resultSet();
+        int size = columns.length;
+        int recordLevel = format.header() ? 2 : 1;
+        boolean object = format.recordFormat() == RecordFormat.OBJECT;
+        boolean absentOnNull = (object ? format.objectNulls() : format.arrayNulls()) == ABSENT_ON_NULL;
+        boolean wrapRecords = format.wrapSingleColumnRecords() || size > 1;
+        int rows = 0;
+
+        formatJSONHeader(ctx.configuration(), fields, format, writer);
+        writer.append('[');
+        listener.fetchStart(ctx);
+
+        while (rs.next()) {
+            if (rows++ > 0)
+                writer.append(',');
+
+            if (format.format())
+                writer.append(format.newline()).append(format.indentString(recordLevel));
+
+            if (wrapRecords)
+                writer.append(object ? '{' : '[');
+
+            String separator = "";
+            for (Column column : columns) {
+                boolean isNull = column.read(rs);
+
+                if (isNull && absentOnNull)
+                    continue;
+
+                writer.append(separator);
+
+                if (format.format())
+                    if (size > 1)
+                        writer.append(format.newline()).append(format.indentString(recordLevel + 1));
+                    else if (format.wrapSingleColumnRecords())
+                        writer.append(' ');
+
+                if (object && wrapRecords) {
+                    writeJSONString(column.field.getName(), writer);
+                    writer.append(':');
+
+                    if (format.format())
+                        writer.append(' ');
+                }
+
+                if (isNull) {
+                    writer.write("null");
+                }
+                else {
+                    int previous = format.globalIndent();
+                    column.formatJSON(writer, format.globalIndent(format.globalIndent() + format.indent() * (recordLevel + 1)));
+                    format.globalIndent(previous);
+                }
+
+                if (format.format() && format.wrapSingleColumnRecords() && size == 1)
+                    writer.append(' ');
+
+                separator = ",";
+            }
+
+            if (wrapRecords)
+                if (format.format() && size > 1)
+                    writer.append(format.newline()).append(format.indentString(recordLevel)).append(object ? '}' : ']');
+                else
+                    writer.append(object ? '}' : ']');
+        }
+
+        listener.fetchEnd(ctx);
+        formatJSONFooter(format, rows > 0, writer);
+        writer.flush();
+        return rows;
+    }
+
+    static final int formatCSV(
+        ExecuteContext ctx,
+        ExecuteListener listener,
+        Field<?>[] fields,
+        Writer writer,
+        CSVFormat format
+    ) throws SQLException, java.io.IOException {
+        Column[] columns = columns(ctx, fields);
+        ResultSet rs = ctx.resultSet();
+        int rows = 0;
+
+        formatCSVHeader(fields, format, writer);
+        listener.fetchStart(ctx);
+
+        while (rs.next()) {
+            rows++;
+
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0)
+                    writer.append(format.delimiter());
+
+                if (columns[i].read(rs))
+                    writer.append(format.nullString());
+                else
+                    columns[i].formatCSV(writer, format);
+            }
+
+            writer.append(format.newline());
+        }
+
+        listener.fetchEnd(ctx);
+        writer.flush();
+        return rows;
+    }
+
+    private static final Column[] columns(ExecuteContext ctx, Field<?>[] fields) {
+        Column[] result = new Column[fields.length];
+        DefaultBindingGetResultSetContext<?> rsContext = new DefaultBindingGetResultSetContext<>(ctx, ctx.resultSet(), 0);
+
+        for (int i = 0; i < fields.length; i++) {
+            Field<?> field = fields[i];
+            Binding<?, ?> binding = field.getBinding();
+
+            if (hasDefaultConverter(field) && (
+                   binding instanceof DefaultLongBinding
+                || binding instanceof DefaultIntegerBinding
+                || binding instanceof DefaultShortBinding
+                || binding instanceof DefaultByteBinding
+            ))
+                result[i] = new LongColumn(field, i + 1);
+            else if (hasDefaultConverter(field) && binding instanceof DefaultBooleanBinding)
+                result[i] = new BooleanColumn(field, i + 1);
+            else
+                result[i] = new BindingColumn(field, i + 1, rsContext);
+        }
+
+        return result;
+    }
+
+    /**
+     * Write a JSON string with the same escaping rules as
+     * {@link org.jooq.tools.json.JSONValue#escape(String)}, without any
+     * intermediary buffer.
+     */
+    static final void writeJSONString(String s, Writer writer) throws java.io.IOException {
+        writer.write('"');
+
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+
+            switch (ch) {
+                case '"':  writer.write("\\\""); break;
+                case '\\': writer.write("\\\\"); break;
+                case '\b': writer.write("\\b"); break;
+                case '\f': writer.write("\\f"); break;
+                case '\n': writer.write("\\n"); break;
+                case '\r': writer.write("\\r"); break;
+                case '\t': writer.write("\\t"); break;
+                case '/':  writer.write("\\/"); break;
+                default:
+                    if ((ch >= '\u0000' && ch <= '\u001F') || (ch >= '\u007F' && ch <= '\u009F') || (ch >= '\u2000' && ch <= '\u20FF')) {
+                        writer.write("\\u");
+
+                        for (int shift = 12; shift >= 0; shift -= 4)
+                            writer.write(Character.toUpperCase(Character.forDigit((ch >> shift) & 0xF, 16)));
+                    }
+                    else
+                        writer.write(ch);
+            }
+        }
+
+        writer.write('"');
+    }
+
+    /**
+     * A reader and writer of a single column.
+     */
+    private static abstract class Column {
+        final Field<?> field;
+        final int      index;
+
+        Column(Field<?> field, int index) {
+            this.field = field;
+            this.index = index;
+        }
+
+        /**
+         * Read the column's value from the current row and return whether it
+         * is <code>NULL</code>.
+         */
+        abstract boolean read(ResultSet rs) throws SQLException;
+
+        /**
+         * Write the non-<code>NULL</code> value that was read last.
+         */
+        abstract void formatJSON(Writer writer, JSONFormat format) throws java.io.IOException;
+
+        /**
+         * Write the non-<code>NULL</code> value that was read last.
+         */
+        abstract void formatCSV(Writer writer, CSVFormat format) throws java.io.IOException;
+    }
+
+    private static final class LongColumn extends Column {
+        private final char[] digits = new char[20];
+        private long         value;
+
+        LongColumn(Field<?> field, int index) {
+            super(field, index);
+        }
+
+        @Override
+        final boolean read(ResultSet rs) throws SQLException {
+            value = rs.getLong(index);
+            return rs.wasNull();
+        }
+
+        @Override
+        final void formatJSON(Writer writer, JSONFormat format) throws java.io.IOException {
+            write(writer);
+        }
+
+        @Override
+        final void formatCSV(Writer writer, CSVFormat format) throws java.io.IOException {
+            if (format.quote() == CSVFormat.Quote.ALWAYS) {
+                writer.write(format.quoteString());
+                write(writer);
+                writer.write(format.quoteString());
+            }
+            else
+                write(writer);
+        }
+
+        private final void write(Writer writer) throws java.io.IOException {
+            if (value == Long.MIN_VALUE) {
+                writer.write(Long.toString(value));
+                return;
+            }
+
+            long v = Math.abs(value);
+            int position = digits.length;
+
+            do {
+                digits[--position] = (char) ('0' + (v % 10));
+                v /= 10;
+            }
+            while (v != 0);
+
+            if (value < 0)
+                digits[--position] = '-';
+
+            writer.write(digits, position, digits.length - position);
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        private boolean value;
+
+        BooleanColumn(Field<?> field, int index) {
+            super(field, index);
+        }
+
+        @Override
+        final boolean read(ResultSet rs) throws SQLException {
+            value = rs.getBoolean(index);
+            return rs.wasNull();
+        }
+
+        @Override
+        final void formatJSON(Writer writer, JSONFormat format) throws java.io.IOException {
+            writer.write(value ? "true" : "false");
+        }
+
+        @Override
+        final void formatCSV(Writer writer, CSVFormat format) throws java.io.IOException {
+            if (format.quote() == CSVFormat.Quote.ALWAYS)
+                writer.write(format.quoteString() + value + format.quoteString());
+            else
+                writer.write(value ? "true" : "false");
+        }
+    }
+
+    private static final class BindingColumn extends Column {
+        private final DefaultBindingGetResultSetContext<?> rsContext;
+        private Object                                     value;
+
+        BindingColumn(Field<?> field, int index, DefaultBindingGetResultSetContext<?> rsContext) {
+            super(field, index);
+
+            this.rsContext = rsContext;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        final boolean read(ResultSet rs) throws SQLException {
+            try {
+                rsContext.index(index);
+                rsContext.field((Field) field);
+                field.getBinding().get((BindingGetResultSetContext) rsContext);
+                value = rsContext.value();
+                return value == null;
+            }
+
+            // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
+            catch (Exception e) {
+                throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + index, e);
+            }
+        }
+
+        @Override
+        final void formatJSON(Writer writer, JSONFormat format) throws java.io.IOException {
+            if (value instanceof String s)
+                writeJSONString(s, writer);
+            else
+                formatJSON0(value, writer, format);
+        }
+
+        @Override
+        final void formatCSV(Writer writer, CSVFormat format) throws java.io.IOException {
+            if (value instanceof String s
+                && !s.isEmpty()
+                && (format.quote() == CSVFormat.Quote.NEVER || format.quote() == CSVFormat.Quote.SPECIAL_CHARACTERS
+                    && !StringUtils.containsAny(s, ',', ';', '\t', '"', '\n', '\r', '\'', '\\')))
+                writer.write(s);
+            else
+                writer.write(formatCSV0(value, format));
+        }
+    }
+}
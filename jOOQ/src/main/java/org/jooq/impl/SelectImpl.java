@@ -48,6 +48,7 @@ import static org.jooq.impl.QOM.JoinHint.MERGE;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.map;
 
+import java.io.Writer;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Arrays;
@@ -59,6 +60,7 @@ import java.util.function.Function;
 
 import org.jooq.BetweenAndStep;
 import org.jooq.BetweenAndStepR;
+import org.jooq.CSVFormat;
 import org.jooq.CloseableResultQuery;
 import org.jooq.Comparator;
 import org.jooq.Condition;
@@ -68,6 +70,7 @@ import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.GroupField;
+import org.jooq.JSONFormat;
 import org.jooq.JoinType;
 import org.jooq.Name;
 import org.jooq.Operator;
@@ -3246,6 +3249,16 @@ implements
         return getDelegate().fetchMany();
     }
 
+    @Override
+    public final void formatJSON(Writer writer, JSONFormat format) {
+        getDelegate().formatJSON(writer, format);
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, CSVFormat format) {
+        getDelegate().formatCSV(writer, format);
+    }
+
     @Override
     public final Field<Result<R>> asMultiset() {
         return getDelegate().asMultiset();
@@ -40,10 +40,16 @@ package org.jooq.impl;
 import static java.util.Collections.unmodifiableList;
 import static org.jooq.impl.Tools.EMPTY_CHECK;
 import static org.jooq.impl.Tools.map;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.jooq.Catalog;
@@ -65,6 +71,7 @@ import org.jooq.TableField;
 import org.jooq.UDT;
 import org.jooq.UDTRecord;
 import org.jooq.UniqueKey;
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 
 /**
@@ -113,12 +120,73 @@ final class Snapshot extends AbstractMeta {
 
 
 
+    /**
+     * Take snapshots of a catalog's schemas, concurrently on the
+     * {@link org.jooq.Configuration#executorProvider()}, if
+     * {@link Settings#getMetaParallelism()} opts in to it and the delegate
+     * {@link Meta} can load several schemas on separate connections.
+     */
+    private final List<SnapshotSchema> snapshotSchemas(SnapshotCatalog catalog, List<Schema> schemas) {
+        int parallelism = delegate instanceof MetaImpl m && m.parallel()
+            ? Math.min(schemas.size(), defaultIfNull(configuration().settings().getMetaParallelism(), 1))
+            : 1;
+
+        if (parallelism <= 1)
+            return map(schemas, s -> new SnapshotSchema(catalog, s));
+
+        // The delegate's own schema cache is used to resolve foreign keys, and
+        // must be initialised before the schemas are loaded concurrently
+        delegate.getSchemas();
+
+        // The configured executor may be unbounded, so the parallelism is
+        // enforced by the number of workers taking schemas from a shared index
+        Executor executor = configuration().executorProvider().provide();
+        SnapshotSchema[] result = new SnapshotSchema[schemas.size()];
+        AtomicInteger next = new AtomicInteger();
+        List<CompletableFuture<Void>> workers = new ArrayList<>(parallelism);
+
+        for (int i = 0; i < parallelism; i++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                try {
+                    for (int j; (j = next.getAndIncrement()) < result.length;)
+                        result[j] = new SnapshotSchema(catalog, schemas.get(j));
+                }
+
+                // Don't let other workers start loading any further schemas
+                catch (RuntimeException e) {
+                    next.set(result.length);
+                    throw e;
+                }
+            }, executor));
+        }
+
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> worker : workers) {
+            try {
+                worker.join();
+            }
+            catch (CompletionException e) {
+                RuntimeException r = e.getCause() instanceof RuntimeException x ? x : e;
+
+                if (failure == null)
+                    failure = r;
+                else
+                    failure.addSuppressed(r);
+            }
+        }
+
+        if (failure != null)
+            throw failure;
+
+        return Arrays.asList(result);
+    }
+
     private class SnapshotCatalog extends CatalogImpl {
         private final List<SnapshotSchema> schemas;
 
         SnapshotCatalog(Catalog catalog) {
             super(catalog.getQualifiedName(), catalog.getCommentPart());
-            schemas = map(catalog.getSchemas(), s -> new SnapshotSchema(this, s));
+            schemas = snapshotSchemas(this, catalog.getSchemas());
         }
 
         private final void resolveReferences() {
@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.Meta;
+import org.jooq.MetaProvider;
+import org.jooq.exception.ConfigurationException;
+import org.jooq.tools.JooqLogger;
+import org.jooq.util.jaxb.tools.MiniJAXB;
+import org.jooq.util.xml.jaxb.InformationSchema;
+
+/**
+ * A {@link MetaProvider} that persists a {@link Meta#snapshot()} of another
+ * {@link MetaProvider} to a local file, and reloads it from there instead of
+ * querying the database again.
+ * <p>
+ * The snapshot is stored as an {@link InformationSchema} XML document, as
+ * produced by {@link Meta#informationSchema()}. An optional version supplier
+ * (e.g. a query for the latest DDL timestamp of the database catalog) is
+ * used to invalidate the file. The version is stored along with the snapshot,
+ * and the snapshot is taken again, and the file replaced, when the supplied
+ * version differs from the stored one. Without a version supplier, an
+ * existing file is always reused.
+ * <p>
+ * Within a process, the loaded {@link Meta} is reused for as long as the
+ * version doesn't change. This makes it possible to warm-start a service
+ * without scanning the database catalog. Use
+ * {@link org.jooq.conf.Settings#getMetaParallelism()} to speed up taking the
+ * snapshot itself.
+ *
+ * @author Lukas Eder
+ */
+public class SnapshotMetaProvider implements MetaProvider {
+
+    private static final JooqLogger log            = JooqLogger.getLogger(SnapshotMetaProvider.class);
+    private static final String     VERSION_PREFIX = "<!-- jOOQ meta snapshot version: ";
+    private static final String     VERSION_SUFFIX = " -->";
+
+    private final Configuration     configuration;
+    private final MetaProvider      delegate;
+    private final Path              file;
+    private final Supplier<String>  version;
+    private volatile Loaded         loaded;
+
+    /**
+     * Create a provider that persists the meta data of the configuration's
+     * database to a file, without any version based invalidation.
+     */
+    public SnapshotMetaProvider(Configuration configuration, Path file) {
+        this(configuration, file, null);
+    }
+
+    /**
+     * Create a provider that persists the meta data of the configuration's
+     * database to a file, invalidating it when the version changes.
+     */
+    public SnapshotMetaProvider(Configuration configuration, Path file, Supplier<String> version) {
+        this(configuration, new DefaultMetaProvider(configuration), file, version);
+    }
+
+    /**
+     * Create a provider that persists the meta data of another provider to a
+     * file, invalidating it when the version changes.
+     */
+    public SnapshotMetaProvider(Configuration configuration, MetaProvider delegate, Path file, Supplier<String> version) {
+        this.configuration = configuration;
+        this.delegate = delegate;
+        this.file = file;
+        this.version = version;
+    }
+
+    @Override
+    public Meta provide() {
+        String v = version != null ? version.get() : null;
+        Loaded l = loaded;
+
+        if (l == null || !Objects.equals(l.version, v)) {
+            synchronized (this) {
+                l = loaded;
+
+                if (l == null || !Objects.equals(l.version, v))
+                    loaded = l = load(v);
+            }
+        }
+
+        return l.meta;
+    }
+
+    private final Loaded load(String v) {
+        InformationSchema schema = read(v);
+
+        if (schema == null) {
+            log.debug("Meta snapshot", "Taking snapshot for " + file);
+
+            schema = delegate.provide().snapshot().informationSchema();
+            write(schema, v);
+        }
+
+        return new Loaded(v, new InformationSchemaMetaImpl(configuration, schema));
+    }
+
+    /**
+     * Read the snapshot file, if it exists and has the expected version.
+     */
+    private final InformationSchema read(String v) {
+        if (!Files.isRegularFile(file))
+            return null;
+
+        try {
+            String xml = new String(Files.readAllBytes(file), UTF_8);
+
+            if (v != null && !Objects.equals(v, version(xml))) {
+                log.debug("Meta snapshot", "Version of " + file + " is outdated");
+                return null;
+            }
+
+            return MiniJAXB.unmarshal(xml, InformationSchema.class);
+        }
+        catch (IOException | ConfigurationException e) {
+            log.warn("Meta snapshot", "Cannot read " + file + ". Taking a new snapshot.", e);
+            return null;
+        }
+    }
+
+    private static final String version(String xml) {
+        int start = xml.indexOf(VERSION_PREFIX);
+
+        if (start < 0)
+            return null;
+
+        int end = xml.indexOf(VERSION_SUFFIX, start);
+
+        if (end < 0)
+            return null;
+
+        return new String(Base64.getDecoder().decode(xml.substring(start + VERSION_PREFIX.length(), end)), UTF_8);
+    }
+
+    /**
+     * Write the snapshot file, replacing any previous file atomically, if
+     * possible.
+     */
+    private final void write(InformationSchema schema, String v) {
+        String xml = MiniJAXB.marshal(schema);
+
+        // The version is stored in a comment after the XML declaration. It is
+        // encoded to prevent illegal comment content such as "--"
+        if (v != null) {
+            int i = xml.startsWith("<?xml") ? xml.indexOf('\n') + 1 : 0;
+            xml = xml.substring(0, i) + VERSION_PREFIX + Base64.getEncoder().encodeToString(v.getBytes(UTF_8)) + VERSION_SUFFIX + "\n" + xml.substring(i);
+        }
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+            try {
+                Files.write(tmp, xml.getBytes(UTF_8));
+
+                try {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+        catch (IOException e) {
+            log.warn("Meta snapshot", "Cannot write " + file, e);
+        }
+    }
+
+    private static final record Loaded(String version, Meta meta) {}
+}
@@ -103,7 +103,7 @@ import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.conf.WriteIfReadonly;
 import org.jooq.exception.DataTypeException;
-import org.jooq.impl.BatchCRUD.QueryCollectorSignal;
+import org.jooq.impl.BatchCRUD.QueryCollector;
 import org.jooq.tools.JooqLogger;
 
 /**
@@ -222,31 +222,28 @@ implements
         // [#1002] Consider also identity columns of non-updatable records
         // [#1537] Avoid refreshing identity columns on batch inserts
         Collection<Field<?>> key = setReturningIfNeeded(insert);
-        try {
-            int result = insert.execute();
 
-            if (result > 0) {
-                for (Field<?> changedField : changedFields)
-                    touched(changedField, false);
+        // [#8283] Pass optimistic locking information on to BatchCRUD, if applicable
+        QueryCollector collector = QueryCollector.collector(configuration());
+        if (collector != null)
+            return collector.collect(this, insert, version, timestamp);
 
-                // [#1596] If insert was successful, update timestamp and/or version columns
-                setRecordVersionAndTimestamp(version, timestamp);
+        int result = insert.execute();
 
-                // [#1859] If an insert was successful try fetching the generated values.
-                getReturningIfNeeded(insert, key);
+        if (result > 0) {
+            for (Field<?> changedField : changedFields)
+                touched(changedField, false);
 
-                fetched = true;
-            }
+            // [#1596] If insert was successful, update timestamp and/or version columns
+            setRecordVersionAndTimestamp(version, timestamp);
 
-            return result;
-        }
+            // [#1859] If an insert was successful try fetching the generated values.
+            getReturningIfNeeded(insert, key);
 
-        // [#8283] Pass optimistic locking information on to BatchCRUD, if applicable
-        catch (QueryCollectorSignal e) {
-            e.version = version;
-            e.timestamp = timestamp;
-            throw e;
+            fetched = true;
         }
+
+        return result;
     }
 
     final void getReturningIfNeeded(StoreQuery<R> query, Collection<Field<?>> key) {
@@ -258,8 +255,7 @@ implements
                     int index = indexOrFail(fieldsRow(), field);
                     Object value = record.get(field);
 
-                    values[index] = value;
-                    originals[index] = value;
+                    load(index, value);
                 }
             }
 
@@ -305,18 +301,16 @@ implements
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(version);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            touched.clear(fieldIndex);
+            load(fieldIndex, value);
+            touched(fieldIndex, false);
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(timestamp);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            touched.clear(fieldIndex);
+            load(fieldIndex, value);
+            touched(fieldIndex, false);
         }
     }
 
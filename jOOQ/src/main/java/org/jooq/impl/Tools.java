@@ -783,6 +783,12 @@ final class Tools {
          */
         DATA_DEFAULT_TRANSACTION_PROVIDER_ISOLATION,
 
+        /**
+         * The {@link BatchCRUD.QueryCollector} to which records pass their
+         * store queries, instead of executing them.
+         */
+        DATA_BATCH_CRUD_COLLECTOR,
+
         /**
          * [#2080] When emulating OFFSET pagination in certain databases, synthetic
          * aliases are generated that must be referenced also in
@@ -891,6 +897,13 @@ final class Tools {
          */
         DATA_SELECT_ALIASES,
 
+        /**
+         * The {@link java.io.Writer} and format that a {@link ResultQuery}'s
+         * result is written to, when formatting it directly from the JDBC
+         * {@link ResultSet}.
+         */
+        DATA_RESULT_QUERY_FORMAT,
+
         ;
 
         private final boolean resetInSubqueryScope;
@@ -2884,12 +2897,15 @@ final class Tools {
     static final void setFetchSize(ExecuteContext ctx, int fetchSize) throws SQLException {
         // [#1263] [#4753] Allow for negative fetch sizes to support some non-standard
         // MySQL feature, where Integer.MIN_VALUE is used
-        int f = SettingsTools.getFetchSize(fetchSize, ctx.settings());
+        setFetchSize(ctx.statement(), ctx.settings(), fetchSize);
+    }
+
+    static final void setFetchSize(PreparedStatement statement, Settings settings, int fetchSize) throws SQLException {
+        int f = SettingsTools.getFetchSize(fetchSize, settings);
         if (f != 0) {
             if (log.isDebugEnabled())
                 log.debug("Setting fetch size", f);
 
-            PreparedStatement statement = ctx.statement();
             if (statement != null)
                 statement.setFetchSize(f);
         }
@@ -3791,9 +3807,9 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
+        target.originals()[targetIndex] = targetType.convert(source.original(sourceIndex));
         target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-        target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-        target.touched.set(targetIndex, source.touched(sourceIndex));
+        target.touched0().set(targetIndex, source.touched(sourceIndex));
     }
 
     /**
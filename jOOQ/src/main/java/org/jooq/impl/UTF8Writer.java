@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A buffered {@link Writer} that encodes characters directly into UTF-8
+ * bytes, without going through a {@link java.nio.charset.CharsetEncoder}.
+ * <p>
+ * Closing this writer flushes it, but doesn't close the underlying stream.
+ *
+ * @author Lukas Eder
+ */
+final class UTF8Writer extends Writer {
+
+    private final OutputStream out;
+    private final byte[]       buffer;
+    private int                position;
+    private char               highSurrogate;
+
+    UTF8Writer(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[8192];
+    }
+
+    @Override
+    public final void write(int c) throws IOException {
+        write((char) c);
+    }
+
+    @Override
+    public final void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++)
+            write(cbuf[i]);
+    }
+
+    @Override
+    public final void write(String str, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++)
+            write(str.charAt(i));
+    }
+
+    @Override
+    public final Writer append(CharSequence csq) throws IOException {
+        if (csq == null)
+            return append("null", 0, 4);
+        else
+            return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public final Writer append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null)
+            csq = "null";
+
+        for (int i = start; i < end; i++)
+            write(csq.charAt(i));
+
+        return this;
+    }
+
+    @Override
+    public final Writer append(char c) throws IOException {
+        write(c);
+        return this;
+    }
+
+    private final void write(char c) throws IOException {
+        if (position > buffer.length - 4)
+            flushBuffer();
+
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                int cp = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xF0 | (cp >> 18));
+                buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+                return;
+            }
+
+            // Unpaired surrogates are replaced, like the JDK's encoder does
+            buffer[position++] = '?';
+            write(c);
+        }
+        else if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        }
+        else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        }
+        else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        }
+        else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private final void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public final void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public final void close() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            write('?');
+        }
+
+        flush();
+    }
+}
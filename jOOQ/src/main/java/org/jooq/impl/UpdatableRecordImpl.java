@@ -89,7 +89,7 @@ import org.jooq.conf.UpdateUnchangedRecords;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataChangedException;
 import org.jooq.exception.NoDataFoundException;
-import org.jooq.impl.BatchCRUD.QueryCollectorSignal;
+import org.jooq.impl.BatchCRUD.QueryCollector;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 
@@ -370,27 +370,23 @@ implements
             ? null
             : setReturningIfNeeded(query);
 
-        try {
-            int result = query.execute();
-            checkIfChanged(result, version, timestamp);
+        // [#8283] Pass optimistic locking information on to BatchCRUD, if applicable
+        QueryCollector collector = QueryCollector.collector(configuration());
+        if (collector != null)
+            return collector.collect(this, query, version, timestamp);
 
-            if (result > 0) {
-                for (Field<?> touchedField : touchedFields)
-                    touched(touchedField, false);
+        int result = query.execute();
+        checkIfChanged(result, version, timestamp);
 
-                // [#1859] If an update was successful try fetching the generated
-                getReturningIfNeeded(query, key);
-            }
+        if (result > 0) {
+            for (Field<?> touchedField : touchedFields)
+                touched(touchedField, false);
 
-            return result;
+            // [#1859] If an update was successful try fetching the generated
+            getReturningIfNeeded(query, key);
         }
 
-        // [#8283] Pass optimistic locking information on to BatchCRUD, if applicable
-        catch (QueryCollectorSignal e) {
-            e.version = version;
-            e.timestamp = timestamp;
-            throw e;
-        }
+        return result;
     }
 
     @Override
@@ -426,6 +422,10 @@ implements
                 else if (isExecuteWithOptimisticLockingIncludeUnversioned())
                     checkIfChanged(keys);
 
+            QueryCollector collector = QueryCollector.collector(configuration());
+            if (collector != null)
+                return collector.collect(this, delete1, null, null);
+
             int result = delete1.execute();
             checkIfChanged(result, null, null);
             return result;
@@ -443,7 +443,7 @@ implements
             // [#18261] These state changes must happen only on successful deletion
             if (t == null || t instanceof ControlFlowSignal) {
                 touched(true);
-                asList(originals).replaceAll(e -> null);
+                asList(originals()).replaceAll(e -> null);
                 fetched = false;
             }
         }
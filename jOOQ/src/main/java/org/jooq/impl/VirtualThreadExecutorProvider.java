@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+import org.jooq.ExecutorProvider;
+import org.jooq.conf.ExecutorType;
+
+/**
+ * An {@link ExecutorProvider} implementation, providing an {@link Executor}
+ * that runs each task on a new virtual thread.
+ * <p>
+ * Asynchronous jOOQ operations such as {@link org.jooq.ResultQuery#fetchAsync()}
+ * mostly block on JDBC I/O, which is better done on virtual threads than on
+ * the {@link java.util.concurrent.ForkJoinPool#commonPool()}, which is also
+ * used for CPU bound work, e.g. by parallel streams.
+ * <p>
+ * This provider is used by default if no explicit {@link ExecutorProvider} is
+ * configured and {@link org.jooq.conf.Settings#getExecutorType()} is
+ * {@link ExecutorType#VIRTUAL_THREAD_PER_TASK}.
+ *
+ * @author Lukas Eder
+ */
+public class VirtualThreadExecutorProvider implements ExecutorProvider, Serializable {
+
+    private static final ThreadFactory FACTORY  = Thread.ofVirtual().name("jooq-virtual-", 0).factory();
+    private static final Executor      EXECUTOR = command -> FACTORY.newThread(command).start();
+
+    @Override
+    public final Executor provide() {
+        return EXECUTOR;
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jooq.exception.ConfigurationException;
+import org.jooq.tools.QueryMetrics.Phase;
+
+/**
+ * A {@link MetricsExporter} that publishes the metrics of a
+ * {@link MetricsListenerProvider} as an MXBean on the platform
+ * {@link MBeanServer}.
+ * <p>
+ * Latencies are exported in microseconds.
+ *
+ * @author Lukas Eder
+ */
+public class JMXMetricsExporter implements MetricsExporter {
+
+    /**
+     * The default {@link ObjectName} of the exported MXBean.
+     */
+    public static final String DEFAULT_OBJECT_NAME = "org.jooq:type=Metrics,name=default";
+
+    private final String       objectName;
+    private MBeanServer        server;
+    private ObjectName         name;
+
+    /**
+     * Create an exporter using the {@link #DEFAULT_OBJECT_NAME}.
+     */
+    public JMXMetricsExporter() {
+        this(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Create an exporter using a custom {@link ObjectName}.
+     */
+    public JMXMetricsExporter(String objectName) {
+        this.objectName = objectName;
+    }
+
+    @Override
+    public synchronized void start(MetricsListenerProvider provider) {
+        try {
+            server = ManagementFactory.getPlatformMBeanServer();
+            name = new ObjectName(objectName);
+            server.registerMBean(new Metrics(provider), name);
+        }
+        catch (JMException e) {
+            throw new ConfigurationException("Cannot register MXBean " + objectName, e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server != null && name != null) {
+            try {
+                if (server.isRegistered(name))
+                    server.unregisterMBean(name);
+            }
+            catch (JMException e) {
+                throw new ConfigurationException("Cannot unregister MXBean " + objectName, e);
+            }
+            finally {
+                server = null;
+                name = null;
+            }
+        }
+    }
+
+    /**
+     * The management interface of the exported metrics.
+     */
+    public interface MetricsMXBean {
+
+        /**
+         * The number of distinct query fingerprints.
+         */
+        int getQueryCount();
+
+        /**
+         * The total number of executions across all queries.
+         */
+        long getExecutions();
+
+        /**
+         * The metrics of all queries.
+         */
+        List<QueryData> getQueries();
+
+        /**
+         * Discard all metrics collected so far.
+         */
+        void reset();
+    }
+
+    /**
+     * A snapshot of a {@link QueryMetrics} instance.
+     */
+    public static final class QueryData {
+        private final String          fingerprint;
+        private final long            executions;
+        private final long            errors;
+        private final long            rowsFetched;
+        private final long            rowsAffected;
+        private final long            bytesBound;
+        private final List<PhaseData> phases;
+
+        QueryData(QueryMetrics metrics) {
+            this.fingerprint = metrics.fingerprint();
+            this.executions = metrics.executions();
+            this.errors = metrics.errors();
+            this.rowsFetched = metrics.rowsFetched();
+            this.rowsAffected = metrics.rowsAffected();
+            this.bytesBound = metrics.bytesBound();
+            this.phases = new ArrayList<>();
+
+            for (Phase phase : Phase.values())
+                phases.add(new PhaseData(phase, metrics.histogram(phase)));
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public long getExecutions() {
+            return executions;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getRowsFetched() {
+            return rowsFetched;
+        }
+
+        public long getRowsAffected() {
+            return rowsAffected;
+        }
+
+        public long getBytesBound() {
+            return bytesBound;
+        }
+
+        public List<PhaseData> getPhases() {
+            return phases;
+        }
+    }
+
+    /**
+     * A snapshot of a {@link LatencyHistogram} of a {@link Phase}.
+     */
+    public static final class PhaseData {
+        private final String phase;
+        private final long   count;
+        private final double mean;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+        private final double max;
+
+        PhaseData(Phase phase, LatencyHistogram histogram) {
+            this.phase = phase.name();
+            this.count = histogram.count();
+            this.mean = histogram.mean() / 1000.0;
+            this.p50 = histogram.percentile(50.0) / 1000.0;
+            this.p95 = histogram.percentile(95.0) / 1000.0;
+            this.p99 = histogram.percentile(99.0) / 1000.0;
+            this.max = histogram.max() / 1000.0;
+        }
+
+        public String getPhase() {
+            return phase;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMicros() {
+            return mean;
+        }
+
+        public double getP50Micros() {
+            return p50;
+        }
+
+        public double getP95Micros() {
+            return p95;
+        }
+
+        public double getP99Micros() {
+            return p99;
+        }
+
+        public double getMaxMicros() {
+            return max;
+        }
+    }
+
+    private static final class Metrics implements MetricsMXBean {
+        private final MetricsListenerProvider provider;
+
+        Metrics(MetricsListenerProvider provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public int getQueryCount() {
+            return provider.metrics().size();
+        }
+
+        @Override
+        public long getExecutions() {
+            long result = 0;
+
+            for (QueryMetrics metrics : provider.metrics())
+                result += metrics.executions();
+
+            return result;
+        }
+
+        @Override
+        public List<QueryData> getQueries() {
+            List<QueryData> result = new ArrayList<>();
+
+            for (QueryMetrics metrics : provider.metrics())
+                result.add(new QueryData(metrics));
+
+            return result;
+        }
+
+        @Override
+        public void reset() {
+            provider.reset();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe, fixed size latency histogram.
+ * <p>
+ * Values are recorded in nanoseconds into log-linear buckets in the style of
+ * an <a href="http://hdrhistogram.org">HdrHistogram</a>: each power of two
+ * range is divided into 16 linear sub buckets, which keeps the relative error
+ * of reported percentiles below 1/16 across the whole trackable range of
+ * <code>0</code> to <code>2<sup>41</sup></code> nanoseconds (around 36
+ * minutes). Larger values are recorded in the last bucket.
+ * <p>
+ * Recording a value does not allocate any memory, nor does it acquire any
+ * locks, so it is safe to use in hot code paths. Reading percentiles while
+ * values are being recorded produces an approximate, but consistent enough
+ * view of the distribution.
+ *
+ * @author Lukas Eder
+ */
+public final class LatencyHistogram {
+
+    private static final int  SUB_BUCKET_BITS  = 5;
+    private static final int  SUB_BUCKET_HALF  = 1 << (SUB_BUCKET_BITS - 1);
+    private static final int  SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int  MAX_MSB          = 40;
+    private static final long MAX_VALUE        = (1L << (MAX_MSB + 1)) - 1;
+    private static final int  BUCKET_COUNT     = (MAX_MSB - SUB_BUCKET_BITS + 3) << (SUB_BUCKET_BITS - 1);
+
+    private final AtomicLongArray counts;
+    private final LongAdder       count;
+    private final LongAdder       sum;
+    private final AtomicLong      max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Record a value in nanoseconds.
+     * <p>
+     * Negative values are ignored.
+     */
+    public void record(long nanos) {
+        if (nanos < 0)
+            return;
+
+        counts.incrementAndGet(index(nanos));
+        count.increment();
+        sum.add(nanos);
+
+        long m;
+        while (nanos > (m = max.get()) && !max.compareAndSet(m, nanos));
+    }
+
+    /**
+     * The number of recorded values.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * The sum of all recorded values in nanoseconds.
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * The largest recorded value in nanoseconds.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * The mean of all recorded values in nanoseconds, or <code>0</code> if no
+     * values have been recorded.
+     */
+    public double mean() {
+        long c = count();
+        return c == 0 ? 0.0 : (double) sum() / c;
+    }
+
+    /**
+     * The value in nanoseconds at a given percentile, e.g. <code>99.9</code>,
+     * or <code>0</code> if no values have been recorded.
+     * <p>
+     * The result is the highest value that is equivalent to the recorded
+     * values in the percentile's bucket, bounded by {@link #max()}.
+     */
+    public long percentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            total += (snapshot[i] = counts.get(i));
+
+        if (total == 0)
+            return 0L;
+
+        long target = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+        long cumulative = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            if ((cumulative += snapshot[i]) >= target)
+                return Math.min(highestEquivalentValue(i), max());
+
+        return max();
+    }
+
+    /**
+     * Discard all recorded values.
+     * <p>
+     * Values that are recorded concurrently with a reset may or may not be
+     * discarded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            counts.set(i, 0L);
+
+        count.reset();
+        sum.reset();
+        max.set(0L);
+    }
+
+    private static final int index(long value) {
+        if (value < SUB_BUCKET_COUNT)
+            return (int) value;
+
+        long v = Math.min(value, MAX_VALUE);
+        int shift = (63 - Long.numberOfLeadingZeros(v)) - (SUB_BUCKET_BITS - 1);
+        return (shift << (SUB_BUCKET_BITS - 1)) + (int) (v >>> shift);
+    }
+
+    private static final long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT)
+            return index;
+
+        int shift = (index >>> (SUB_BUCKET_BITS - 1)) - 1;
+        long subBucket = (index & (SUB_BUCKET_HALF - 1)) + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram [count=" + count()
+            + ", mean=" + (long) mean()
+            + ", p50=" + percentile(50.0)
+            + ", p99=" + percentile(99.0)
+            + ", max=" + max()
+            + "]";
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+/**
+ * An SPI to export the {@link QueryMetrics} collected by a
+ * {@link MetricsListenerProvider} to a monitoring system.
+ * <p>
+ * Exporters are registered with {@link MetricsListenerProvider#export(MetricsExporter)}
+ * and stopped with {@link MetricsListenerProvider#close()}. Pull based
+ * exporters, such as the {@link JMXMetricsExporter}, can read
+ * {@link MetricsListenerProvider#metrics()} on demand, whereas push based
+ * exporters are expected to manage their own scheduling between
+ * {@link #start(MetricsListenerProvider)} and {@link #stop()}.
+ *
+ * @author Lukas Eder
+ */
+public interface MetricsExporter {
+
+    /**
+     * Start exporting the metrics of a provider.
+     */
+    void start(MetricsListenerProvider provider);
+
+    /**
+     * Stop exporting metrics and release any resources.
+     */
+    void stop();
+}
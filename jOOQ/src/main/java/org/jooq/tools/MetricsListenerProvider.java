@@ -0,0 +1,382 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import static java.util.Collections.unmodifiableCollection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteContext.BatchMode;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.Param;
+import org.jooq.Parser;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.QueryMetrics.Phase;
+
+/**
+ * An {@link ExecuteListenerProvider} that collects {@link QueryMetrics} per
+ * query fingerprint, as computed by {@link Parser#fingerprint(String)}.
+ * <p>
+ * Each execution gets its own, lightweight {@link ExecuteListener} that
+ * measures the time spent in each {@link Phase} of the execution, the number
+ * of rows fetched and affected, and an estimate of the number of bytes bound
+ * to the statement. When the execution ends, these values are recorded in the
+ * {@link QueryMetrics} of the query's fingerprint without any locking or
+ * allocation, which makes this provider suitable for production use:
+ * <p>
+ *
+ * <pre>
+ * <code>
+ * MetricsListenerProvider metrics = new MetricsListenerProvider();
+ * metrics.export(new JMXMetricsExporter());
+ * DSLContext ctx = DSL.using(configuration.derive(metrics));
+ * </code>
+ * </pre>
+ * <p>
+ * The number of distinct fingerprints is limited. Once the limit is reached,
+ * all further fingerprints are recorded in a common {@link QueryMetrics}
+ * instance with the {@link #OTHER} fingerprint.
+ * <p>
+ * Fingerprints are computed only once per distinct SQL string, and cached in
+ * a bounded cache. When the cache is full, it is cleared, such that frequently
+ * executed SQL strings are cached again quickly, even if many one-off SQL
+ * strings (e.g. with inline literals) are executed.
+ *
+ * @author Lukas Eder
+ */
+public class MetricsListenerProvider implements ExecuteListenerProvider, AutoCloseable {
+
+    /**
+     * The fingerprint of queries that exceed the fingerprint limit.
+     */
+    public static final String              OTHER                  = "<other>";
+
+    /**
+     * The fingerprint of executions without any SQL string.
+     */
+    public static final String              UNKNOWN                = "<unknown>";
+
+    private static final int                PHASES                 = Phase.values().length;
+    private static final int                FINGERPRINT_CACHE_SIZE = 8192;
+    private static final Parser             PARSER                 = DSL.using(SQLDialect.DEFAULT).parser();
+
+    private final int                       maxQueries;
+    private final Map<String, QueryMetrics> metrics;
+    private final Map<String, String>       fingerprints;
+    private final QueryMetrics              other;
+    private final List<MetricsExporter>     exporters;
+
+    /**
+     * Create a new provider that collects metrics for up to 1000 distinct
+     * query fingerprints.
+     */
+    public MetricsListenerProvider() {
+        this(1000);
+    }
+
+    /**
+     * Create a new provider that collects metrics for up to
+     * <code>maxQueries</code> distinct query fingerprints.
+     */
+    public MetricsListenerProvider(int maxQueries) {
+        this.maxQueries = maxQueries;
+        this.metrics = new ConcurrentHashMap<>();
+        this.fingerprints = new ConcurrentHashMap<>();
+        this.other = new QueryMetrics(OTHER);
+        this.exporters = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public ExecuteListener provide() {
+        return new MetricsListener();
+    }
+
+    /**
+     * Start exporting the metrics collected by this provider with an
+     * exporter.
+     */
+    public MetricsListenerProvider export(MetricsExporter exporter) {
+        exporter.start(this);
+        exporters.add(exporter);
+        return this;
+    }
+
+    /**
+     * The metrics of all query fingerprints collected so far, including those
+     * of the {@link #OTHER} fingerprint, if applicable.
+     */
+    public Collection<QueryMetrics> metrics() {
+        if (other.executions() == 0)
+            return unmodifiableCollection(metrics.values());
+
+        QueryMetrics[] result = metrics.values().toArray(new QueryMetrics[0]);
+        result = Arrays.copyOf(result, result.length + 1);
+        result[result.length - 1] = other;
+        return Arrays.asList(result);
+    }
+
+    /**
+     * The metrics of a query fingerprint, or <code>null</code> if no such
+     * query has been executed.
+     */
+    public QueryMetrics metrics(String fingerprint) {
+        return OTHER.equals(fingerprint) ? other : metrics.get(fingerprint);
+    }
+
+    /**
+     * Discard all metrics collected so far.
+     */
+    public void reset() {
+        metrics.clear();
+        fingerprints.clear();
+        other.reset();
+    }
+
+    /**
+     * Stop all exporters.
+     */
+    @Override
+    public void close() {
+        for (MetricsExporter exporter : exporters)
+            exporter.stop();
+
+        exporters.clear();
+    }
+
+    /**
+     * The fingerprint of a SQL string, computed only once per distinct SQL
+     * string.
+     */
+    private final String fingerprint(String sql) {
+        String result = fingerprints.get(sql);
+
+        if (result == null) {
+
+            // Normalise inline literals, IN lists, comments, etc., lest
+            // otherwise identical queries exhaust the fingerprint limit
+            result = PARSER.fingerprint(sql);
+
+            if (fingerprints.size() >= FINGERPRINT_CACHE_SIZE)
+                fingerprints.clear();
+
+            fingerprints.put(sql, result);
+        }
+
+        return result;
+    }
+
+    private final QueryMetrics lookup(String fingerprint) {
+        QueryMetrics result = metrics.get(fingerprint);
+
+        if (result != null)
+            return result;
+        else if (metrics.size() >= maxQueries)
+            return other;
+        else
+            return metrics.computeIfAbsent(fingerprint, QueryMetrics::new);
+    }
+
+    private static final long estimateBytes(Param<?>[] params) {
+        long result = 0;
+
+        for (Param<?> param : params) {
+            Object value = param.getValue();
+
+            if (value == null)
+                continue;
+            else if (value instanceof byte[])
+                result += ((byte[]) value).length;
+            else if (value instanceof CharSequence)
+                result += ((CharSequence) value).length();
+            else if (value instanceof Object[])
+                result += 8L * ((Object[]) value).length;
+            else
+                result += 8;
+        }
+
+        return result;
+    }
+
+    private final class MetricsListener implements ExecuteListener {
+
+        private final long[] started  = new long[PHASES];
+        private final long[] measured = new long[PHASES];
+        private boolean      error;
+        private long         fetched;
+        private long         bytes;
+
+        MetricsListener() {
+            Arrays.fill(started, Long.MIN_VALUE);
+            Arrays.fill(measured, -1L);
+        }
+
+        private final void start(Phase phase) {
+            started[phase.ordinal()] = System.nanoTime();
+        }
+
+        private final void end(Phase phase) {
+            int i = phase.ordinal();
+
+            // Some end events may be fired without a start event, e.g. when
+            // closing a lazy Cursor that has not been fetched from
+            if (started[i] == Long.MIN_VALUE)
+                return;
+
+            long elapsed = System.nanoTime() - started[i];
+            started[i] = Long.MIN_VALUE;
+
+            // Phases may repeat in a single execution, e.g. binding in batches
+            measured[i] = measured[i] < 0 ? elapsed : measured[i] + elapsed;
+        }
+
+        @Override
+        public void start(ExecuteContext ctx) {
+            start(Phase.TOTAL);
+        }
+
+        @Override
+        public void renderStart(ExecuteContext ctx) {
+            start(Phase.RENDER);
+        }
+
+        @Override
+        public void renderEnd(ExecuteContext ctx) {
+            end(Phase.RENDER);
+        }
+
+        @Override
+        public void prepareStart(ExecuteContext ctx) {
+            start(Phase.PREPARE);
+        }
+
+        @Override
+        public void prepareEnd(ExecuteContext ctx) {
+            end(Phase.PREPARE);
+        }
+
+        @Override
+        public void bindStart(ExecuteContext ctx) {
+            start(Phase.BIND);
+        }
+
+        @Override
+        public void bindEnd(ExecuteContext ctx) {
+            end(Phase.BIND);
+            bytes += estimateBytes(ctx.params());
+        }
+
+        @Override
+        public void executeStart(ExecuteContext ctx) {
+            start(Phase.EXECUTE);
+        }
+
+        @Override
+        public void executeEnd(ExecuteContext ctx) {
+            end(Phase.EXECUTE);
+        }
+
+        @Override
+        public void fetchStart(ExecuteContext ctx) {
+            start(Phase.FETCH);
+        }
+
+        @Override
+        public void recordEnd(ExecuteContext ctx) {
+            fetched++;
+        }
+
+        @Override
+        public void fetchEnd(ExecuteContext ctx) {
+            end(Phase.FETCH);
+        }
+
+        @Override
+        public void exception(ExecuteContext ctx) {
+            error = true;
+        }
+
+        @Override
+        public void end(ExecuteContext ctx) {
+            end(Phase.TOTAL);
+            lookup(fingerprint(ctx)).record(
+                measured,
+                error,
+                fetched,
+
+                // Drivers may report the number of fetched rows as update count
+                measured[Phase.FETCH.ordinal()] < 0 ? affected(ctx) : 0L,
+                bytes
+            );
+        }
+
+        private final String fingerprint(ExecuteContext ctx) {
+            String sql = ctx.sql();
+
+            if (sql == null) {
+                String[] batchSQL = ctx.batchSQL();
+
+                if (batchSQL.length == 0 || batchSQL[0] == null)
+                    return UNKNOWN;
+                else
+                    sql = batchSQL[0];
+            }
+
+            return MetricsListenerProvider.this.fingerprint(sql);
+        }
+
+        private static final long affected(ExecuteContext ctx) {
+            if (ctx.batchMode() == BatchMode.NONE)
+                return Math.max(0, ctx.rows());
+
+            long result = 0;
+            for (int rows : ctx.batchRows())
+                if (rows > 0)
+                    result += rows;
+
+            return result;
+        }
+    }
+}
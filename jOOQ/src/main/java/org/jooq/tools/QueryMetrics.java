@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * Apache-2.0 license and offer limited warranties, support, maintenance, and
+ * commercial database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.Parser;
+
+/**
+ * Metrics collected by a {@link MetricsListenerProvider} for all executions
+ * of a query with the same fingerprint.
+ * <p>
+ * The fingerprint of a query is its SQL string as sent to the JDBC driver,
+ * normalised by {@link Parser#fingerprint(String)}, i.e. with literals and bind
+ * variables replaced by <code>?</code>, <code>IN</code> lists collapsed, and
+ * comments and whitespace removed. Executions that differ only in their inline
+ * values thus share the same metrics.
+ *
+ * @author Lukas Eder
+ */
+public final class QueryMetrics {
+
+    /**
+     * The phases of an execution, as delimited by the
+     * {@link org.jooq.ExecuteListener} lifecycle events.
+     */
+    public enum Phase {
+
+        /**
+         * From {@link org.jooq.ExecuteListener#renderStart(org.jooq.ExecuteContext)}
+         * to {@link org.jooq.ExecuteListener#renderEnd(org.jooq.ExecuteContext)}.
+         */
+        RENDER,
+
+        /**
+         * From {@link org.jooq.ExecuteListener#prepareStart(org.jooq.ExecuteContext)}
+         * to {@link org.jooq.ExecuteListener#prepareEnd(org.jooq.ExecuteContext)}.
+         */
+        PREPARE,
+
+        /**
+         * From {@link org.jooq.ExecuteListener#bindStart(org.jooq.ExecuteContext)}
+         * to {@link org.jooq.ExecuteListener#bindEnd(org.jooq.ExecuteContext)}.
+         */
+        BIND,
+
+        /**
+         * From {@link org.jooq.ExecuteListener#executeStart(org.jooq.ExecuteContext)}
+         * to {@link org.jooq.ExecuteListener#executeEnd(org.jooq.ExecuteContext)}.
+         */
+        EXECUTE,
+
+        /**
+         * From {@link org.jooq.ExecuteListener#fetchStart(org.jooq.ExecuteContext)}
+         * to {@link org.jooq.ExecuteListener#fetchEnd(org.jooq.ExecuteContext)}.
+         */
+        FETCH,
+
+        /**
+         * From {@link org.jooq.ExecuteListener#start(org.jooq.ExecuteContext)}
+         * to {@link org.jooq.ExecuteListener#end(org.jooq.ExecuteContext)}.
+         */
+        TOTAL
+    }
+
+    private static final Phase[]    PHASES = Phase.values();
+
+    private final String            fingerprint;
+    private final LatencyHistogram[] histograms;
+    private final LongAdder         executions;
+    private final LongAdder         errors;
+    private final LongAdder         rowsFetched;
+    private final LongAdder         rowsAffected;
+    private final LongAdder         bytesBound;
+
+    QueryMetrics(String fingerprint) {
+        this.fingerprint = fingerprint;
+        this.histograms = new LatencyHistogram[PHASES.length];
+        this.executions = new LongAdder();
+        this.errors = new LongAdder();
+        this.rowsFetched = new LongAdder();
+        this.rowsAffected = new LongAdder();
+        this.bytesBound = new LongAdder();
+
+        for (int i = 0; i < histograms.length; i++)
+            histograms[i] = new LatencyHistogram();
+    }
+
+    /**
+     * The query fingerprint.
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * The latency histogram of a given phase.
+     * <p>
+     * Phases that did not take place in an execution (e.g. {@link Phase#FETCH}
+     * for DML statements) are not recorded in the histogram.
+     */
+    public LatencyHistogram histogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * The number of executions.
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * The number of executions that produced an exception.
+     */
+    public long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * The total number of rows fetched by all executions.
+     */
+    public long rowsFetched() {
+        return rowsFetched.sum();
+    }
+
+    /**
+     * The total number of rows affected by all executions, as reported by
+     * the JDBC driver.
+     */
+    public long rowsAffected() {
+        return rowsAffected.sum();
+    }
+
+    /**
+     * An estimate of the total number of bytes bound to statements by all
+     * executions.
+     */
+    public long bytesBound() {
+        return bytesBound.sum();
+    }
+
+    /**
+     * Discard all recorded values.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms)
+            histogram.reset();
+
+        executions.reset();
+        errors.reset();
+        rowsFetched.reset();
+        rowsAffected.reset();
+        bytesBound.reset();
+    }
+
+    final void record(long[] nanos, boolean error, long fetched, long affected, long bytes) {
+        for (int i = 0; i < nanos.length; i++)
+            if (nanos[i] >= 0)
+                histograms[i].record(nanos[i]);
+
+        executions.increment();
+
+        if (error)
+            errors.increment();
+        if (fetched > 0)
+            rowsFetched.add(fetched);
+        if (affected > 0)
+            rowsAffected.add(affected);
+        if (bytes > 0)
+            bytesBound.add(bytes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(fingerprint)
+          .append("\n  executions=").append(executions())
+          .append(", errors=").append(errors())
+          .append(", rowsFetched=").append(rowsFetched())
+          .append(", rowsAffected=").append(rowsAffected())
+          .append(", bytesBound=").append(bytesBound());
+
+        for (Phase phase : PHASES)
+            sb.append("\n  ").append(phase).append(": ").append(histogram(phase));
+
+        return sb.toString();
+    }
+}
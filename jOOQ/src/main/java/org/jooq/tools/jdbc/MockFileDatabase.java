@@ -45,10 +45,16 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -112,6 +118,12 @@ import org.jooq.tools.JooqLogger;
  * CSV, XML, JSON</li>
  * </ul>
  * <p>
+ * Once loaded, a <code>MockFileDatabase</code> can be shared by concurrently
+ * executing statements. Patterns are pre-filtered by their literal prefix, if
+ * any, so large files of patterns don't have to be scanned entirely for each
+ * execution. The number of times each statement has been matched is available
+ * from {@link #hits()}, e.g. to find unused statements.
+ * <p>
  * <strong>Disclaimer: The general idea of mocking a JDBC connection with this
  * jOOQ API is to provide quick workarounds, injection points, etc. using a very
  * simple JDBC abstraction. It is NOT RECOMMENDED to emulate an entire database
@@ -130,9 +142,8 @@ public class MockFileDatabase implements MockDataProvider {
     private static final JooqLogger              log = JooqLogger.getLogger(MockFileDatabase.class);
 
     private final MockFileDatabaseConfiguration  configuration;
-    private final Map<String, List<MockResult>>  matchExactly;
-    private final Map<Pattern, List<MockResult>> matchPattern;
     private final DSLContext                     create;
+    private volatile Fixtures                    fixtures;
 
     @Deprecated
     private String                               nullLiteral;
@@ -183,16 +194,35 @@ public class MockFileDatabase implements MockDataProvider {
 
     public MockFileDatabase(MockFileDatabaseConfiguration configuration) throws IOException {
         this.configuration = configuration;
-        this.matchExactly = new LinkedHashMap<>();
-        this.matchPattern = new LinkedHashMap<>();
         this.create = DSL.using(SQLDialect.DEFAULT);
 
-        load();
+        if (!configuration.lazy)
+            this.fixtures = load();
     }
 
     private static final Pattern END_OF_STATEMENT = Pattern.compile("^(.*?);[ \t]*$");
 
-    private void load() throws FileNotFoundException, IOException {
+    private Fixtures fixtures() {
+        Fixtures result = fixtures;
+
+        if (result == null) {
+            synchronized (this) {
+                if ((result = fixtures) == null) {
+                    try {
+                        fixtures = result = load();
+                    }
+                    catch (IOException e) {
+                        throw new MockFileDatabaseException("Cannot load source", e);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private Fixtures load() throws FileNotFoundException, IOException {
+        Map<String, Fixture> result = new LinkedHashMap<>();
 
         // Wrap the below code in a local scope
         new Object() {
@@ -246,8 +276,8 @@ public class MockFileDatabase implements MockDataProvider {
                             currentSQL.append(matcher.group(1));
 
                             if (previousSQL != null)
-                                if (!matchExactly.containsKey(previousSQL))
-                                    matchExactly.put(previousSQL, null);
+                                if (!result.containsKey(previousSQL))
+                                    result.put(previousSQL, null);
 
                             previousSQL = currentSQL.toString();
                             currentSQL = new StringBuilder();
@@ -281,70 +311,24 @@ public class MockFileDatabase implements MockDataProvider {
             }
 
             private void loadOneResult(String line) {
-                List<MockResult> results = matchExactly.get(previousSQL);
+                Fixture fixture = result.get(previousSQL);
 
-                if (results == null) {
-                    results = new ArrayList<>();
+                if (fixture == null) {
+                    Pattern pattern = null;
 
                     if (configuration.patterns) {
                         try {
-                            Pattern p = Pattern.compile(previousSQL);
-                            matchPattern.put(p, results);
+                            pattern = Pattern.compile(previousSQL);
                         }
                         catch (PatternSyntaxException e) {
                             throw new MockFileDatabaseException("Not a pattern: " + previousSQL, e);
                         }
                     }
-                    else {
-                        matchExactly.put(previousSQL, results);
-                    }
-                }
-
-                MockResult mock = parse(line);
-                results.add(mock);
 
-                if (mock.data != null && log.isDebugEnabled()) {
-                    String comment = "Loaded Result";
-
-                    for (String l : mock.data.format(5).split("\n")) {
-                        log.debug(comment, l);
-                        comment = "";
-                    }
+                    result.put(previousSQL, fixture = new Fixture(previousSQL, pattern));
                 }
-            }
 
-            private MockResult parse(String rowString) {
-                int rows = 0;
-                SQLException exception = null;
-
-                if (rowString.startsWith("@ rows:"))
-                    rows = Integer.parseInt(rowString.substring(7).trim());
-                if (rowString.startsWith("@ exception:"))
-                    exception = new SQLException(rowString.substring(12).trim());
-
-                String resultText = currentResult.toString();
-                String trimmed = resultText.trim();
-                MockResult result =
-                      exception != null
-                    ? new MockResult(exception)
-                    : resultText.isEmpty()
-                    ? new MockResult(rows)
-                    : trimmed.startsWith("<")
-                    ? new MockResult(rows, create.fetchFromXML(resultText))
-                    : trimmed.startsWith("{") || trimmed.startsWith("[")
-                    ? new MockResult(rows, create.fetchFromJSON(resultText))
-                    : new MockResult(rows,
-                          configuration.nullLiteral == null && nullLiteral == null
-                        ? create.fetchFromTXT(resultText)
-                        : configuration.nullLiteral != null
-                        ? create.fetchFromTXT(resultText, configuration.nullLiteral)
-                        : create.fetchFromTXT(resultText, nullLiteral)
-                      );
-
-                if (result.data != null && rows != result.data.size())
-                    throw new MockFileDatabaseException("Rows mismatch. Declared: " + rows + ". Actual: " + result.data.size() + ".");
-
-                return result;
+                fixture.unparsed.add(new String[] { line, currentResult.toString() });
             }
 
             private String readLine() throws IOException {
@@ -360,6 +344,61 @@ public class MockFileDatabase implements MockDataProvider {
                 }
             }
         }.load();
+
+        // Results are parsed eagerly unless the lazy flag is set, in order to
+        // report syntax errors early
+        if (!configuration.lazy) {
+            for (Fixture fixture : result.values()) {
+                if (fixture != null) {
+                    fixture.results();
+                    fixture.unparsed.clear();
+                }
+            }
+        }
+
+        return new Fixtures(result);
+    }
+
+    private MockResult parse(String rowString, String resultText) {
+        int rows = 0;
+        SQLException exception = null;
+
+        if (rowString.startsWith("@ rows:"))
+            rows = Integer.parseInt(rowString.substring(7).trim());
+        if (rowString.startsWith("@ exception:"))
+            exception = new SQLException(rowString.substring(12).trim());
+
+        String trimmed = resultText.trim();
+        MockResult result =
+              exception != null
+            ? new MockResult(exception)
+            : resultText.isEmpty()
+            ? new MockResult(rows)
+            : trimmed.startsWith("<")
+            ? new MockResult(rows, create.fetchFromXML(resultText))
+            : trimmed.startsWith("{") || trimmed.startsWith("[")
+            ? new MockResult(rows, create.fetchFromJSON(resultText))
+            : new MockResult(rows,
+                  configuration.nullLiteral == null && nullLiteral == null
+                ? create.fetchFromTXT(resultText)
+                : configuration.nullLiteral != null
+                ? create.fetchFromTXT(resultText, configuration.nullLiteral)
+                : create.fetchFromTXT(resultText, nullLiteral)
+              );
+
+        if (result.data != null && rows != result.data.size())
+            throw new MockFileDatabaseException("Rows mismatch. Declared: " + rows + ". Actual: " + result.data.size() + ".");
+
+        if (result.data != null && log.isDebugEnabled()) {
+            String comment = "Loaded Result";
+
+            for (String l : result.data.format(5).split("\n")) {
+                log.debug(comment, l);
+                comment = "";
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -367,7 +406,32 @@ public class MockFileDatabase implements MockDataProvider {
      */
     @Deprecated
     public Map<String, List<MockResult>> queries() {
-        return matchExactly;
+        Map<String, List<MockResult>> result = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Fixture> entry : fixtures().all.entrySet())
+            if (entry.getValue() == null)
+                result.put(entry.getKey(), null);
+            else if (!configuration.patterns)
+                result.put(entry.getKey(), entry.getValue().results());
+
+        return result;
+    }
+
+    /**
+     * The number of times each statement or pattern of the source has been
+     * matched by {@link #execute(MockExecuteContext)}, in source order.
+     * <p>
+     * Statements with a hit count of <code>0</code> have never been used,
+     * which may help find obsolete entries in a large source.
+     */
+    public Map<String, Long> hits() {
+        Map<String, Long> result = new LinkedHashMap<>();
+
+        for (Fixture fixture : fixtures().all.values())
+            if (fixture != null)
+                result.put(fixture.sql, fixture.hits.sum());
+
+        return result;
     }
 
     @Override
@@ -376,33 +440,25 @@ public class MockFileDatabase implements MockDataProvider {
             throw new SQLFeatureNotSupportedException("Not yet supported");
         }
         else {
+            Fixtures f = fixtures();
             String sql = ctx.sql();
             String inlined = null;
 
             // Check for an exact match
-            List<MockResult> list = matchExactly.get(sql);
+            Fixture fixture = f.exact(sql);
 
             // Check again, with inlined bind values
-            if (list == null) {
+            if (fixture == null) {
                 inlined = create.query(sql, ctx.bindings()).toString();
-                list = matchExactly.get(inlined);
+                fixture = f.exact(inlined);
             }
 
             // Check for the first pattern match
-            if (list == null) {
-
-                patternLoop:
-                for (Entry<Pattern, List<MockResult>> entry : matchPattern.entrySet()) {
-                    if (    entry.getKey().matcher(sql).matches()
-                         || entry.getKey().matcher(inlined).matches()) {
-                        list = entry.getValue();
-                        break patternLoop;
-                    }
-                }
-            }
+            if (fixture == null)
+                fixture = f.pattern(sql, inlined);
 
             // [#9078] Listing possible reasons for this to happen
-            if (list == null)
+            if (fixture == null)
                 throw new SQLException("SQL statement could not be matched by any statement in the MockFileDatabase: " + sql
                     + "\nPossible reasons include: "
                     + "\n  Your regular expressions are case sensitive."
@@ -410,7 +466,218 @@ public class MockFileDatabase implements MockDataProvider {
                     + "\n  Your regular expressions did not quote special characters (e.g. \\?)."
                     + "\n  Your regular expressions' whitespace doesn't match the input SQL's whitespace.");
 
+            List<MockResult> list = fixture.results();
+            fixture.hits.increment();
             return list.toArray(new MockResult[list.size()]);
         }
     }
+
+    /**
+     * Collapse whitespace and case of a statement for exact matching.
+     */
+    private static String normalise(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        boolean whitespace = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                whitespace = true;
+            }
+            else {
+                if (whitespace && sb.length() > 0)
+                    sb.append(' ');
+
+                whitespace = false;
+                sb.append(c);
+            }
+        }
+
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The literal prefix that all strings matched by a pattern must start with,
+     * or the empty string if no such prefix can be determined cheaply.
+     */
+    private static String literalPrefix(Pattern pattern) {
+        String regex = pattern.pattern();
+
+        // Alternations and flags may apply to the prefix as well
+        if (pattern.flags() != 0 || regex.indexOf('|') >= 0)
+            return "";
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = regex.startsWith("^") ? 1 : 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+
+            if ("\\.[]{}()*+?^$|".indexOf(c) >= 0) {
+
+                // The previous character is optional
+                if ((c == '?' || c == '*' || c == '{') && sb.length() > 0)
+                    sb.setLength(sb.length() - 1);
+
+                break;
+            }
+
+            sb.append(c);
+        }
+
+        return sb.toString();
+    }
+
+    private final class Fixture {
+        final String              sql;
+        final Pattern             pattern;
+        final String              prefix;
+        final List<String[]>      unparsed;
+        final LongAdder           hits;
+        volatile List<MockResult> results;
+
+        Fixture(String sql, Pattern pattern) {
+            this.sql = sql;
+            this.pattern = pattern;
+            this.prefix = pattern == null ? "" : literalPrefix(pattern);
+            this.unparsed = new ArrayList<>();
+            this.hits = new LongAdder();
+        }
+
+        final boolean matches(String s) {
+            return s.startsWith(prefix) && pattern.matcher(s).matches();
+        }
+
+        final List<MockResult> results() {
+            List<MockResult> r = results;
+
+            // Concurrent lazy parsing may happen more than once, producing
+            // equivalent results
+            if (r == null) {
+                r = new ArrayList<>(unparsed.size());
+
+                for (String[] u : unparsed)
+                    r.add(parse(u[0], u[1]));
+
+                results = r = Collections.unmodifiableList(r);
+            }
+
+            return r;
+        }
+    }
+
+    /**
+     * An immutable index of the loaded statements, which can be read without
+     * locking.
+     */
+    private final class Fixtures {
+        final Map<String, Fixture> all;
+        final Map<String, Fixture> exact;
+        final Fixture[]            patterns;
+        final Map<String, int[]>   patternsByPrefix;
+        final int[]                prefixLengths;
+        final int[]                patternsWithoutPrefix;
+
+        Fixtures(Map<String, Fixture> all) {
+            Map<String, Fixture> e = new HashMap<>();
+            List<Fixture> p = new ArrayList<>();
+            Map<String, List<Integer>> byPrefix = new HashMap<>();
+            Set<Integer> lengths = new TreeSet<>();
+            List<Integer> withoutPrefix = new ArrayList<>();
+
+            for (Fixture fixture : all.values()) {
+                if (fixture == null)
+                    continue;
+
+                if (fixture.pattern == null) {
+                    e.putIfAbsent(configuration.normalise ? normalise(fixture.sql) : fixture.sql, fixture);
+                }
+                else {
+                    if (fixture.prefix.isEmpty()) {
+                        withoutPrefix.add(p.size());
+                    }
+                    else {
+                        byPrefix.computeIfAbsent(fixture.prefix, k -> new ArrayList<>()).add(p.size());
+                        lengths.add(fixture.prefix.length());
+                    }
+
+                    p.add(fixture);
+                }
+            }
+
+            this.all = all;
+            this.exact = e;
+            this.patterns = p.toArray(new Fixture[0]);
+            this.patternsByPrefix = new HashMap<>();
+            this.prefixLengths = toArray(new ArrayList<>(lengths));
+            this.patternsWithoutPrefix = toArray(withoutPrefix);
+
+            for (Map.Entry<String, List<Integer>> entry : byPrefix.entrySet())
+                patternsByPrefix.put(entry.getKey(), toArray(entry.getValue()));
+        }
+
+        final Fixture exact(String sql) {
+            return exact.isEmpty() ? null : exact.get(configuration.normalise ? normalise(sql) : sql);
+        }
+
+        /**
+         * Find the first pattern in source order matching either string, only
+         * looking at patterns whose literal prefix matches.
+         */
+        final Fixture pattern(String sql, String inlined) {
+            if (patterns.length == 0)
+                return null;
+
+            List<int[]> candidates = new ArrayList<>();
+            int size = patternsWithoutPrefix.length;
+
+            candidates.add(patternsWithoutPrefix);
+            size += candidates(sql, candidates);
+            size += candidates(inlined, candidates);
+
+            int[] sorted = new int[size];
+            int i = 0;
+            for (int[] c : candidates) {
+                System.arraycopy(c, 0, sorted, i, c.length);
+                i += c.length;
+            }
+
+            Arrays.sort(sorted);
+            for (int j = 0; j < sorted.length; j++) {
+                if (j > 0 && sorted[j] == sorted[j - 1])
+                    continue;
+
+                Fixture fixture = patterns[sorted[j]];
+                if (fixture.matches(sql) || fixture.matches(inlined))
+                    return fixture;
+            }
+
+            return null;
+        }
+
+        private final int candidates(String s, List<int[]> result) {
+            int size = 0;
+
+            for (int length : prefixLengths) {
+                if (length > s.length())
+                    break;
+
+                int[] c = patternsByPrefix.get(s.substring(0, length));
+                if (c != null) {
+                    result.add(c);
+                    size += c.length;
+                }
+            }
+
+            return size;
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] result = new int[list.size()];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = list.get(i);
+
+        return result;
+    }
 }
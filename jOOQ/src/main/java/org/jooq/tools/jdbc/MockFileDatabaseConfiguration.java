@@ -65,19 +65,25 @@ public final class MockFileDatabaseConfiguration {
     final LineNumberReader in;
     final boolean          patterns;
     final String           nullLiteral;
+    final boolean          normalise;
+    final boolean          lazy;
 
     public MockFileDatabaseConfiguration() {
-        this(new LineNumberReader(new StringReader("")), false, null);
+        this(new LineNumberReader(new StringReader("")), false, null, false, false);
     }
 
     private MockFileDatabaseConfiguration(
         LineNumberReader in,
         boolean patterns,
-        String nullLiteral
+        String nullLiteral,
+        boolean normalise,
+        boolean lazy
     ) {
         this.in = in;
         this.patterns = patterns;
         this.nullLiteral = nullLiteral;
+        this.normalise = normalise;
+        this.lazy = lazy;
     }
 
     public final MockFileDatabaseConfiguration source(File file) {
@@ -101,7 +107,7 @@ public final class MockFileDatabaseConfiguration {
     }
 
     public final MockFileDatabaseConfiguration source(Reader reader) {
-        return new MockFileDatabaseConfiguration(new LineNumberReader(reader), patterns, nullLiteral);
+        return new MockFileDatabaseConfiguration(new LineNumberReader(reader), patterns, nullLiteral, normalise, lazy);
     }
 
     public final MockFileDatabaseConfiguration source(String string) {
@@ -109,10 +115,36 @@ public final class MockFileDatabaseConfiguration {
     }
 
     public final MockFileDatabaseConfiguration patterns(boolean newPatterns) {
-        return new MockFileDatabaseConfiguration(in, newPatterns, nullLiteral);
+        return new MockFileDatabaseConfiguration(in, newPatterns, nullLiteral, normalise, lazy);
     }
 
     public final MockFileDatabaseConfiguration nullLiteral(String newNullLiteral) {
-        return new MockFileDatabaseConfiguration(in, patterns, newNullLiteral);
+        return new MockFileDatabaseConfiguration(in, patterns, newNullLiteral, normalise, lazy);
+    }
+
+    /**
+     * Whether exact statement matches should ignore differences in whitespace
+     * and case.
+     * <p>
+     * When this is turned on, both the statements in the file and the executed
+     * statements are trimmed, runs of whitespace are collapsed into a single
+     * space, and all characters are lower cased before matching. This does not
+     * affect {@link #patterns(boolean)}.
+     */
+    public final MockFileDatabaseConfiguration normalise(boolean newNormalise) {
+        return new MockFileDatabaseConfiguration(in, patterns, nullLiteral, newNormalise, lazy);
+    }
+
+    /**
+     * Whether the source should be loaded lazily.
+     * <p>
+     * When this is turned on, the source is read only on the first execution,
+     * and each result is parsed only when its statement is first matched. This
+     * speeds up loading large files of which only few statements are needed,
+     * but it also defers reporting of syntax errors in results until they are
+     * needed.
+     */
+    public final MockFileDatabaseConfiguration lazy(boolean newLazy) {
+        return new MockFileDatabaseConfiguration(in, patterns, nullLiteral, normalise, newLazy);
     }
 }